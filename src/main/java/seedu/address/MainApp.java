@@ -17,6 +17,7 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -27,7 +28,11 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackedUpAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -64,8 +69,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(initAddressBookStorage(userPrefs), userPrefsStorage,
+                userPrefs.getAddressBookSaveDelayMillis());
 
         scriptSetup = new ScriptSetup();
         scriptSetup.execute(userPrefs);
@@ -81,6 +86,40 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns the storage for the address book file in the format chosen in {@code userPrefs}, or split into
+     * shards if {@code userPrefs} asks for it. Depending on {@code userPrefs}, the file is compressed, backed up,
+     * and has a journal of changes kept next to it.
+     * Sharded storage takes precedence over the address book format, as shards are always xml, and over backups,
+     * which are only kept of a single file. A warning is logged if those prefs are set and ignored.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        boolean isCompressed = userPrefs.isCompressedStorage() || FileUtil.isGzipFileName(filePath);
+        AddressBookStorage fileStorage;
+        if (userPrefs.isShardedStorage()) {
+            if (userPrefs.getAddressBookFormat() != UserPrefs.AddressBookFormat.XML) {
+                logger.warning("Sharded storage keeps shards in xml, ignoring address book format "
+                        + userPrefs.getAddressBookFormat());
+            }
+            if (userPrefs.getBackupGenerations() > 0) {
+                logger.warning("Sharded storage is not backed up, ignoring backup generations "
+                        + userPrefs.getBackupGenerations());
+            }
+            fileStorage = new ShardedAddressBookStorage(filePath, userPrefs.getShardSize(), isCompressed);
+        } else if (userPrefs.getAddressBookFormat() == UserPrefs.AddressBookFormat.BINARY) {
+            fileStorage = new BinaryAddressBookStorage(filePath, isCompressed);
+        } else {
+            fileStorage = new XmlAddressBookStorage(filePath, isCompressed);
+        }
+        if (userPrefs.getBackupGenerations() > 0 && !userPrefs.isShardedStorage()) {
+            fileStorage = new BackedUpAddressBookStorage(fileStorage, userPrefs.getBackupGenerations());
+        }
+        return userPrefs.isJournaledStorage()
+                ? new JournaledAddressBookStorage(fileStorage, userPrefs.getJournalCompactionThreshold())
+                : fileStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -167,6 +206,7 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initializedPrefs = new UserPrefs();
         }
+        replaceInvalidPrefs(initializedPrefs, prefsFilePath);
 
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
@@ -178,6 +218,35 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Replaces the settings in {@code prefs} that the address book storage would reject, or that would leave undo
+     * without any history, with their defaults, so that a bad value in the prefs file at {@code prefsFilePath} does
+     * not stop the app from starting or silently disable undo.
+     */
+    private void replaceInvalidPrefs(UserPrefs prefs, Path prefsFilePath) {
+        UserPrefs defaultPrefs = new UserPrefs();
+        if (prefs.getShardSize() <= 0) {
+            logger.warning("Shard size in " + prefsFilePath + " is not positive. "
+                    + "Using default shard size " + defaultPrefs.getShardSize());
+            prefs.setShardSize(defaultPrefs.getShardSize());
+        }
+        if (prefs.getJournalCompactionThreshold() <= 0) {
+            logger.warning("Journal compaction threshold in " + prefsFilePath + " is not positive. "
+                    + "Using default threshold " + defaultPrefs.getJournalCompactionThreshold());
+            prefs.setJournalCompactionThreshold(defaultPrefs.getJournalCompactionThreshold());
+        }
+        if (prefs.getAddressBookSaveDelayMillis() < 0) {
+            logger.warning("Address book save delay in " + prefsFilePath + " is negative. "
+                    + "Using default delay of " + defaultPrefs.getAddressBookSaveDelayMillis() + " ms");
+            prefs.setAddressBookSaveDelayMillis(defaultPrefs.getAddressBookSaveDelayMillis());
+        }
+        if (prefs.getUndoHistoryByteBudget() <= 0) {
+            logger.warning("Undo history byte budget in " + prefsFilePath + " is not positive. "
+                    + "Using default budget of " + defaultPrefs.getUndoHistoryByteBudget() + " bytes");
+            prefs.setUndoHistoryByteBudget(defaultPrefs.getUndoHistoryByteBudget());
+        }
+    }
+
     private void initEventsCenter() {
         EventsCenter.getInstance().registerHandler(this);
     }
@@ -193,6 +262,8 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flushAddressBook();
+        EventsCenter.getInstance().logStatistics();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -0,0 +1,121 @@
+package seedu.address.commons.core;
+
+/**
+ * Counts the events of one type posted to the {@link EventsCenter} and how long their subscribers took to handle
+ * them. Each dispatch is the passing of one event to one subscriber. The statistics of a single subscriber count only
+ * the dispatches to it, not the posts.
+ *
+ * Handling times are kept in a histogram of {@link #BUCKET_COUNT} buckets. Bucket 0 counts the dispatches that took
+ * less than a microsecond, each bucket {@code i} after it those that took from {@code 2^(i-1)} up to {@code 2^i}
+ * microseconds, and the last bucket also counts all longer ones.
+ */
+public class EventStatistics {
+
+    public static final int BUCKET_COUNT = 24;
+
+    private static final long NANOS_PER_MICRO = 1000;
+
+    // guarded by this
+    private long postCount;
+    private long coalescedCount;
+    private long dispatchCount;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+    private final long[] buckets = new long[BUCKET_COUNT];
+
+    synchronized void recordPost() {
+        postCount++;
+    }
+
+    synchronized void recordCoalesced() {
+        coalescedCount++;
+    }
+
+    /**
+     * Records that a subscriber took {@code latencyNanos} nanoseconds to handle the event.
+     */
+    synchronized void recordDispatch(long latencyNanos) {
+        dispatchCount++;
+        totalLatencyNanos += latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+        buckets[getBucket(latencyNanos)]++;
+    }
+
+    /**
+     * Returns the number of times the event was posted.
+     */
+    public synchronized long getPostCount() {
+        return postCount;
+    }
+
+    /**
+     * Returns the number of times the event was dropped in favour of a later one before it reached its
+     * {@link EventsCenter.DispatchPolicy#FX_COALESCED} subscribers.
+     */
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Returns the number of times the event was dispatched to a subscriber.
+     */
+    public synchronized long getDispatchCount() {
+        return dispatchCount;
+    }
+
+    /**
+     * Returns the longest time a dispatch took.
+     */
+    public synchronized long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * Returns the average time a dispatch took, or zero if there were none.
+     */
+    public synchronized long getAverageLatencyNanos() {
+        return dispatchCount == 0 ? 0 : totalLatencyNanos / dispatchCount;
+    }
+
+    /**
+     * Returns the number of dispatches in the histogram bucket {@code bucket}.
+     */
+    public synchronized long getBucketCount(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * Returns an upper bound in microseconds on the time taken by the given fraction of dispatches, from 0 to 1, or
+     * zero if there were none. The bound is only as fine as the histogram, so it is within a factor of two.
+     */
+    public synchronized long getLatencyPercentileMicros(double fraction) {
+        if (dispatchCount == 0) {
+            return 0;
+        }
+        long wanted = (long) Math.ceil(fraction * dispatchCount);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT - 1; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= wanted) {
+                return 1L << bucket;
+            }
+        }
+        return maxLatencyNanos / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Returns the histogram bucket of a dispatch that took {@code latencyNanos} nanoseconds.
+     */
+    static int getBucket(long latencyNanos) {
+        long micros = latencyNanos / NANOS_PER_MICRO;
+        int bucket = Long.SIZE - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("posted %d, coalesced %d, dispatched %d, average %d us, 99%% under %d us, max %d us",
+                postCount, coalescedCount, dispatchCount, getAverageLatencyNanos() / NANOS_PER_MICRO,
+                getLatencyPercentileMicros(0.99), maxLatencyNanos / NANOS_PER_MICRO);
+    }
+}
@@ -1,21 +1,73 @@
 package seedu.address.commons.core;
 
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Each subscriber is registered with a {@link DispatchPolicy} that decides on which thread, and when, it handles
+ * events, so that slow subscribers need not hold up the code that posts an event. An event is only dispatched under
+ * the policies that have subscribers for its type. The number of events of each type and how long each subscriber
+ * took to handle them are kept as {@link EventStatistics}.
  */
 public class EventsCenter {
+
+    /**
+     * How the events posted to the {@code EventsCenter} are passed to a subscriber.
+     */
+    public enum DispatchPolicy {
+        /** Events are handled on the posting thread before {@link #post(BaseEvent)} returns. */
+        SYNCHRONOUS,
+        /** Events are handled one at a time, in the order they were posted, on a background thread. */
+        ASYNCHRONOUS,
+        /**
+         * Events are handled later on the JavaFX application thread, where only the latest event of each type posted
+         * before the subscribers get to it is handled. Events are handled on the posting thread if JavaFX is not
+         * running.
+         */
+        FX_COALESCED
+    }
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    private volatile Subscriptions subscriptions = new Subscriptions(Collections.emptyList());
+    private final Map<Class<? extends BaseEvent>, EventStatistics> statistics = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Class<? extends BaseEvent>, EventStatistics>> subscriberStatistics =
+            new ConcurrentHashMap<>();
+    private volatile ExecutorService asyncExecutor;
+
+    /**
+     * The synchronous dispatches that events posted while the thread was already dispatching one must wait for, so
+     * that every subscriber sees the events of a thread in the order they were posted.
+     */
+    private final ThreadLocal<Queue<Runnable>> queuedDispatches = new ThreadLocal<>();
+
+    // guarded by pendingFxEvents
+    private final Map<Class<? extends BaseEvent>, BaseEvent> pendingFxEvents = new LinkedHashMap<>();
 
     private EventsCenter() {
-        eventBus = new EventBus();
     }
 
     public static EventsCenter getInstance() {
@@ -25,21 +77,224 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Discards the current instance with all its subscribers, stopping its background thread if it has one.
+     */
     public static void clearSubscribers() {
+        if (instance != null && instance.asyncExecutor != null) {
+            instance.asyncExecutor.shutdown();
+        }
         instance = null;
     }
 
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        registerHandler(handler, DispatchPolicy.SYNCHRONOUS);
+    }
+
+    /**
+     * Registers the subscriber methods of {@code handler} to be passed events as {@code policy} decides.
+     * Registering the same handler again under the same policy has no effect.
+     */
+    public synchronized void registerHandler(Object handler, DispatchPolicy policy) {
+        for (Subscriber subscriber : subscriptions.subscribers) {
+            if (subscriber.handler == handler && subscriber.policy == policy) {
+                return;
+            }
+        }
+        if (policy == DispatchPolicy.ASYNCHRONOUS && asyncExecutor == null) {
+            asyncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Event dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        List<Subscriber> subscribers = new ArrayList<>(subscriptions.subscribers);
+        subscribers.add(new Subscriber(handler, policy));
+        subscriptions = new Subscriptions(subscribers);
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        EventStatistics eventStatistics = getStatistics(event.getClass());
+        eventStatistics.recordPost();
+
+        Map<DispatchPolicy, List<Subscriber>> subscribers = subscriptions.getSubscribers(event.getClass());
+        if (subscribers.containsKey(DispatchPolicy.SYNCHRONOUS)) {
+            dispatchInOrder(() -> dispatch(subscribers.get(DispatchPolicy.SYNCHRONOUS), event, eventStatistics));
+        }
+        ExecutorService executor = asyncExecutor;
+        if (subscribers.containsKey(DispatchPolicy.ASYNCHRONOUS) && executor != null && !executor.isShutdown()) {
+            executor.execute(() -> dispatch(subscribers.get(DispatchPolicy.ASYNCHRONOUS), event, eventStatistics));
+        }
+        if (subscribers.containsKey(DispatchPolicy.FX_COALESCED)) {
+            postToFxThread(event, eventStatistics);
+        }
         return this;
     }
 
+    /**
+     * Returns the statistics of the events of type {@code eventType} posted so far, over all their subscribers.
+     */
+    public EventStatistics getStatistics(Class<? extends BaseEvent> eventType) {
+        return statistics.computeIfAbsent(eventType, type -> new EventStatistics());
+    }
+
+    /**
+     * Returns the statistics of the events of type {@code eventType} handled so far by subscribers of class
+     * {@code subscriberType}.
+     */
+    public EventStatistics getStatistics(Class<? extends BaseEvent> eventType, Class<?> subscriberType) {
+        return subscriberStatistics.computeIfAbsent(subscriberType, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(eventType, type -> new EventStatistics());
+    }
+
+    /**
+     * Logs the statistics of each type of event posted so far, followed by those of each of its subscribers.
+     */
+    public void logStatistics() {
+        Map<String, EventStatistics> byName = new TreeMap<>();
+        statistics.forEach((type, eventStatistics) -> byName.put(type.getSimpleName(), eventStatistics));
+        subscriberStatistics.forEach((subscriberType, byEventType) ->
+                byEventType.forEach((type, eventStatistics) -> byName.put(
+                        type.getSimpleName() + " -> " + subscriberType.getSimpleName(), eventStatistics)));
+        byName.forEach((name, eventStatistics) -> logger.info("[Event statistics] " + name + ": " + eventStatistics));
+    }
+
+    /**
+     * Runs {@code dispatch} now, or after the dispatches already under way on this thread if there are any.
+     */
+    private void dispatchInOrder(Runnable dispatch) {
+        Queue<Runnable> queue = queuedDispatches.get();
+        if (queue != null) {
+            queue.add(dispatch);
+            return;
+        }
+        queue = new ArrayDeque<>();
+        queuedDispatches.set(queue);
+        try {
+            for (Runnable next = dispatch; next != null; next = queue.poll()) {
+                next.run();
+            }
+        } finally {
+            queuedDispatches.remove();
+        }
+    }
+
+    /**
+     * Passes {@code event} to each of {@code subscribers}, recording how long each took.
+     */
+    private void dispatch(List<Subscriber> subscribers, BaseEvent event, EventStatistics eventStatistics) {
+        for (Subscriber subscriber : subscribers) {
+            long start = System.nanoTime();
+            subscriber.bus.post(event);
+            long latencyNanos = System.nanoTime() - start;
+            eventStatistics.recordDispatch(latencyNanos);
+            getStatistics(event.getClass(), subscriber.handler.getClass()).recordDispatch(latencyNanos);
+        }
+    }
+
+    /**
+     * Queues {@code event} for the {@link DispatchPolicy#FX_COALESCED} subscribers in place of any earlier event of
+     * its type that they have yet to handle, and schedules the queue to be handled if it was empty.
+     */
+    private void postToFxThread(BaseEvent event, EventStatistics eventStatistics) {
+        boolean isFirstPending;
+        synchronized (pendingFxEvents) {
+            isFirstPending = pendingFxEvents.isEmpty();
+            // removing the earlier event first moves the type to the end of the queue, keeping the order of posts
+            if (pendingFxEvents.remove(event.getClass()) != null) {
+                eventStatistics.recordCoalesced();
+            }
+            pendingFxEvents.put(event.getClass(), event);
+        }
+        if (!isFirstPending) {
+            return;
+        }
+        try {
+            Platform.runLater(this::dispatchPendingFxEvents);
+        } catch (IllegalStateException ise) {
+            // JavaFX is not running, so there is no thread to hand the events to
+            dispatchPendingFxEvents();
+        }
+    }
+
+    /**
+     * Passes the queued events to the {@link DispatchPolicy#FX_COALESCED} subscribers.
+     */
+    private void dispatchPendingFxEvents() {
+        List<BaseEvent> events;
+        synchronized (pendingFxEvents) {
+            events = new ArrayList<>(pendingFxEvents.values());
+            pendingFxEvents.clear();
+        }
+        for (BaseEvent event : events) {
+            List<Subscriber> subscribers = subscriptions.getSubscribers(event.getClass())
+                    .getOrDefault(DispatchPolicy.FX_COALESCED, Collections.emptyList());
+            dispatch(subscribers, event, getStatistics(event.getClass()));
+        }
+    }
+
+    /**
+     * A registered handler with a bus of its own, so that the time it takes to handle each event can be measured.
+     */
+    private static class Subscriber {
+        private final Object handler;
+        private final DispatchPolicy policy;
+        private final EventBus bus = new EventBus();
+        /** The types of the events the subscriber methods of the handler take. */
+        private final Set<Class<?>> eventTypes = new HashSet<>();
+
+        Subscriber(Object handler, DispatchPolicy policy) {
+            this.handler = handler;
+            this.policy = policy;
+            bus.register(handler);
+            for (Class<?> type = handler.getClass(); type != null; type = type.getSuperclass()) {
+                for (Method method : type.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(Subscribe.class) && method.getParameterCount() == 1) {
+                        eventTypes.add(method.getParameterTypes()[0]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns true if the handler has a subscriber method for events of type {@code eventType}.
+         */
+        boolean handles(Class<?> eventType) {
+            return eventTypes.stream().anyMatch(type -> type.isAssignableFrom(eventType));
+        }
+    }
+
+    /**
+     * The subscribers registered at one time, with the subscribers of each event type under each policy worked out
+     * once for that type.
+     */
+    private static class Subscriptions {
+        private final List<Subscriber> subscribers;
+        private final Map<Class<?>, Map<DispatchPolicy, List<Subscriber>>> byEventType = new ConcurrentHashMap<>();
+
+        Subscriptions(List<Subscriber> subscribers) {
+            this.subscribers = Collections.unmodifiableList(subscribers);
+        }
+
+        /**
+         * Returns the subscribers of events of type {@code eventType} under each policy that has any, in the order
+         * they were registered.
+         */
+        Map<DispatchPolicy, List<Subscriber>> getSubscribers(Class<?> eventType) {
+            return byEventType.computeIfAbsent(eventType, type -> {
+                Map<DispatchPolicy, List<Subscriber>> byPolicy = new EnumMap<>(DispatchPolicy.class);
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.handles(type)) {
+                        byPolicy.computeIfAbsent(subscriber.policy, policy -> new ArrayList<>()).add(subscriber);
+                    }
+                }
+                return byPolicy;
+            });
+        }
+    }
+
 }
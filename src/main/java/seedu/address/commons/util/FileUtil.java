@@ -1,15 +1,29 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.FileUtils;
 
@@ -18,7 +32,11 @@ import org.apache.commons.io.FileUtils;
  */
 public class FileUtil {
 
+    public static final String GZIP_FILE_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final int[] GZIP_MAGIC = {0x1f, 0x8b};
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -91,6 +109,114 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Creates an empty temporary file next to {@code file}, creating the missing parent directories of {@code file}.
+     * The temporary file gets the default permissions of a new file, and can later replace {@code file} with
+     * {@link #replaceWith(Path, Path)}.
+     */
+    public static Path createTempFileNextTo(Path file) throws IOException {
+        createParentDirsOfFile(file);
+        Path dir = file.toAbsolutePath().getParent();
+        String prefix = file.getFileName().toString();
+        while (true) {
+            // Files.createTempFile would make the file readable by its owner only
+            String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp";
+            Path tempFile = dir.resolve(prefix + suffix);
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException faee) {
+                // try another name
+            }
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * {@code source} is first forced to the storage device and given the permissions of {@code target}, if any.
+     * The move is atomic where the file system supports it, so that readers of {@code target} see either the old
+     * or the new file, and never a partly written one, even after a crash.
+     */
+    public static void replaceWith(Path target, Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        copyPermissions(target, source);
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gives {@code to} the POSIX permissions of {@code from}, if {@code from} exists and the file system has them.
+     */
+    private static void copyPermissions(Path from, Path to) throws IOException {
+        if (!Files.exists(from) || Files.getFileAttributeView(from, PosixFileAttributeView.class) == null) {
+            return;
+        }
+        Files.setPosixFilePermissions(to, Files.getPosixFilePermissions(from));
+    }
+
+    /**
+     * Returns true if the name of {@code file} ends in the gzip extension.
+     */
+    public static boolean isGzipFileName(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(GZIP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if {@code file} is gzip-compressed, whatever its name.
+     * Assumes file exists
+     */
+    public static boolean isGzipFile(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), GZIP_MAGIC.length)) {
+            return startsWithGzipMagic(in);
+        }
+    }
+
+    /**
+     * Opens a buffered stream to read {@code file}, decompressing it on the fly if it is gzip-compressed.
+     * Compressed files are recognised by their content rather than their name.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), STREAM_BUFFER_SIZE);
+        try {
+            return startsWithGzipMagic(in) ? new GZIPInputStream(in, STREAM_BUFFER_SIZE) : in;
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Opens a buffered stream to write {@code file}, replacing its content, that compresses what is written with
+     * gzip if {@code isCompressed}.
+     */
+    public static OutputStream newOutputStream(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        return isCompressed
+                ? new GZIPOutputStream(out, STREAM_BUFFER_SIZE)
+                : new BufferedOutputStream(out, STREAM_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns true if {@code in} starts with the gzip magic number, leaving {@code in} where it was.
+     */
+    private static boolean startsWithGzipMagic(InputStream in) throws IOException {
+        in.mark(GZIP_MAGIC.length);
+        try {
+            for (int magicByte : GZIP_MAGIC) {
+                if (in.read() != magicByte) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            in.reset();
+        }
+    }
+
     /**
      * Assumes file exists
      */
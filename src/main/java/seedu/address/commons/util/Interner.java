@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of an immutable value type.
+ * {@link #intern(Object)} returns the same instance for all values that are equal to each other, so values that
+ * are repeated across many records are only kept in memory once.
+ * The pool never shrinks, so it should only be used for types with a small number of distinct values.
+ * Interning does not make reference comparison safe: values can still be built without the pool, so
+ * {@code equals} of a pooled type must keep comparing state, and only gains from its {@code other == this} check.
+ *
+ * @param <T> Type of the values. Must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<T, T> pool = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T canonical = pool.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool.
+     */
+    public int size() {
+        return pool.size();
+    }
+}
@@ -38,6 +38,45 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if {@code first} can be turned into {@code second} by at most one edit, where an edit is
+     * inserting, deleting or replacing a character, or swapping two adjacent characters.
+     *   <br>examples:<pre>
+     *       isWithinOneEdit("alice", "alice") == true
+     *       isWithinOneEdit("alice", "alce") == true // deletion
+     *       isWithinOneEdit("alice", "ailce") == true // adjacent swap
+     *       isWithinOneEdit("alice", "bob") == false
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static boolean isWithinOneEdit(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        String shorter = first.length() <= second.length() ? first : second;
+        String longer = shorter == first ? second : first;
+        if (longer.length() - shorter.length() > 1) {
+            return false;
+        }
+
+        int start = 0;
+        while (start < shorter.length() && shorter.charAt(start) == longer.charAt(start)) {
+            start++;
+        }
+        if (start == shorter.length()) {
+            return true;
+        }
+        if (shorter.length() < longer.length()) {
+            return shorter.regionMatches(start, longer, start + 1, shorter.length() - start);
+        }
+        return shorter.regionMatches(start + 1, longer, start + 1, shorter.length() - start - 1)
+                || (start + 1 < shorter.length()
+                && shorter.charAt(start) == longer.charAt(start + 1)
+                && shorter.charAt(start + 1) == longer.charAt(start)
+                && shorter.regionMatches(start + 2, longer, start + 2, shorter.length() - start - 2));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,177 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Hand-written scanners for the character classes used by the validation regexes of the value classes.
+ * Each method accepts exactly the strings that the regex named in its comment matches, but runs in a single pass
+ * without compiling a pattern or allocating a matcher. Character classes follow the regex defaults, so
+ * {@code \p{Alnum}}, {@code \d} and {@code \s} only cover ASCII characters.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code test} is a non-empty string of alphanumeric characters and {@code symbols},
+     * i.e. it matches {@code [\p{Alnum}<symbols>]+}.
+     */
+    public static boolean isAlphanumeric(String test, String symbols) {
+        requireNonNull(test);
+        return isAlphanumeric(test, 0, test.length(), symbols);
+    }
+
+    /**
+     * Returns true if the range {@code [from, to)} of {@code test} is non-empty and contains only alphanumeric
+     * characters and {@code symbols}.
+     */
+    public static boolean isAlphanumeric(String test, int from, int to, String symbols) {
+        requireNonNull(test);
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && symbols.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is a line terminator, i.e. a character that {@code .} does not match.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code test} is made of alphanumeric characters and spaces and does not start with a space,
+     * i.e. it matches {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        requireNonNull(test);
+        return !test.isEmpty() && test.charAt(0) != ' ' && isAlphanumeric(test, " ");
+    }
+
+    /**
+     * Returns true if {@code test} has between {@code minLength} and {@code maxLength} digits and nothing else,
+     * i.e. it matches {@code \d{minLength,maxLength}}.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        requireNonNull(test);
+        return test.length() >= minLength && test.length() <= maxLength && isDigitRange(test, 0, test.length());
+    }
+
+    /**
+     * Returns true if the characters of {@code test} in {@code [from, to)} are all digits.
+     */
+    private static boolean isDigitRange(String test, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a decimal number with 1 to {@code maxIntegerDigits} digits before the point
+     * and, if there is a point, 1 to {@code maxFractionDigits} digits after it.
+     */
+    public static boolean isDecimal(String test, int maxIntegerDigits, int maxFractionDigits) {
+        requireNonNull(test);
+        int point = test.indexOf('.');
+        int integerEnd = point < 0 ? test.length() : point;
+        if (integerEnd == 0 || integerEnd > maxIntegerDigits || !isDigitRange(test, 0, integerEnd)) {
+            return false;
+        }
+        if (point < 0) {
+            return true;
+        }
+        int fractionDigits = test.length() - point - 1;
+        return fractionDigits >= 1 && fractionDigits <= maxFractionDigits
+                && isDigitRange(test, point + 1, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} has at most {@code maxLength} characters and no line terminators,
+     * i.e. it matches {@code .{0,maxLength}}. Like the regex, a surrogate pair counts as one character.
+     */
+    public static boolean isSingleLine(String test, int maxLength) {
+        return isSingleLine(test, 0, maxLength);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code from} onwards number at most {@code maxLength}
+     * and include no line terminators.
+     */
+    public static boolean isSingleLine(String test, int from, int maxLength) {
+        requireNonNull(test);
+        for (int i = from; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return test.length() - from <= maxLength || test.codePointCount(from, test.length()) <= maxLength;
+    }
+
+    /**
+     * Returns true if {@code test} is non-empty and contains neither whitespace nor any of {@code forbidden},
+     * i.e. it matches {@code [^<forbidden>\s]+}.
+     */
+    public static boolean isNonBlankWithout(String test, String forbidden) {
+        requireNonNull(test);
+        return isNonBlankWithout(test, 0, test.length(), forbidden);
+    }
+
+    /**
+     * Returns true if the range {@code [from, to)} of {@code test} is non-empty and contains neither
+     * whitespace nor any of {@code forbidden}.
+     */
+    public static boolean isNonBlankWithout(String test, int from, int to, String forbidden) {
+        requireNonNull(test);
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = test.charAt(i);
+            if (isWhitespace(c) || forbidden.indexOf(c) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an unmodifiable set of {@code values}, for use as a lookup table in place of a regex alternation.
+     */
+    public static Set<String> lookupTable(String... values) {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(values)));
+    }
+}
@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -16,6 +18,24 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    /** Contexts are costly to create and safe to share between threads, so one is kept for each class. */
+    private static final Map<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared JAXB context for {@code classToBeBound} and the classes it refers to.
+     *
+     * @throws JAXBException Thrown if the context cannot be created for the class.
+     */
+    public static JAXBContext getContext(Class<?> classToBeBound) throws JAXBException {
+        requireNonNull(classToBeBound);
+        JAXBContext context = CONTEXTS.get(classToBeBound);
+        if (context == null) {
+            context = JAXBContext.newInstance(classToBeBound);
+            CONTEXTS.putIfAbsent(classToBeBound, context);
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +57,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,8 +80,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
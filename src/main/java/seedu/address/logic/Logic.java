@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -26,6 +28,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of groups */
     ObservableList<Group> getFilteredGroupList();
 
+    /** Returns the persons that are members of {@code group} */
+    List<Person> getGroupPersons(Group group);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 }
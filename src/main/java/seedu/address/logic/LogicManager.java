@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -51,6 +52,11 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredGroupList();
     }
 
+    @Override
+    public List<Person> getGroupPersons(Group group) {
+        return model.getGroupPersons(group);
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
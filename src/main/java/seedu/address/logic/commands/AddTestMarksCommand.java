@@ -67,8 +67,8 @@ public class AddTestMarksCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        List<Person> personListName = model.getFilteredPersonList();
+        List<Person> personListName = predicate.getMatchingPersons(model.getPersonIndex(),
+                model.getAddressBook().getPersonList());
 
         if (personListName.isEmpty()) {
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -130,7 +130,7 @@ public class AddTestMarksCommand extends Command {
                 new EditCommand.EditPersonDescriptor();
         Test test = null;
         try {
-            test = new Test(new TestName(testName), new Marks(testMarks), new Grade("Undefined"));
+            test = new Test(TestName.of(testName), new Marks(testMarks), Grade.of("Undefined"));
         } catch (IllegalArgumentException e) {
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             throw new CommandException(e.getMessage());
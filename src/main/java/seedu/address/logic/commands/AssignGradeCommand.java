@@ -39,22 +39,25 @@ public class AssignGradeCommand extends Command {
         requireNonNull(model);
         AssignGrades ag = new AssignGrades();
 
-        boolean checkExist = false;
-        for (Person person: model.getFilteredPersonList()) {
-            for (Test test : person.getTests()) {
-                if (testName.equals(test.getTestName().testName)) {
-                    checkExist = true;
-                    String testGrade = ag.assignGradeByMarks(test.getTestName().testName, test.getMarks().value,
-                            person, model.getFilteredPersonList());
-                    Command run = ag.updateGradeOfPersonList(person, test.getTestName().testName,
-                            test.getMarks().value, testGrade);
-                    run.execute(model, history);
-                }
-            }
-        }
+        boolean checkExist = model.getFilteredPersonList().stream()
+                .flatMap(person -> person.getTests().stream())
+                .anyMatch(test -> testName.equals(test.getTestName().testName));
         if (!checkExist) {
             throw new CommandException(MESSAGE_TEST_NOT_EXISTS);
         }
+        model.runBatch(() -> {
+            for (Person person: model.getFilteredPersonList()) {
+                for (Test test : person.getTests()) {
+                    if (testName.equals(test.getTestName().testName)) {
+                        String testGrade = ag.assignGradeByMarks(test.getTestName().testName,
+                                test.getMarks().value, person, model.getFilteredPersonList());
+                        Command run = ag.updateGradeOfPersonList(person, test.getTestName().testName,
+                                test.getMarks().value, testGrade);
+                        run.execute(model, history);
+                    }
+                }
+            }
+        });
         return new CommandResult(String.format(MESSAGE_GENERATE_GRADE_LIST));
     }
 }
@@ -5,9 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -79,8 +77,7 @@ public class DeleteGroupPersonCommand extends Command {
 
         Group group = lastShownList.get(groupTargetIndex.getZeroBased());
 
-        Set<Person> personSet = group.getPersons();
-        List<Person> personList = new ArrayList<>(personSet);
+        List<Person> personList = model.getGroupPersons(group);
 
         if (personTargetIndex.getZeroBased() >= personList.size()) {
             logger.log(Level.WARNING, LOG_INVALID_PERSON_INDEX);
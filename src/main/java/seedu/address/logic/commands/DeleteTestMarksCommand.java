@@ -5,13 +5,16 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TEST_NAME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.grade.Test;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.person.Person;
 
 
@@ -57,16 +60,8 @@ public class DeleteTestMarksCommand extends Command {
             throw new CommandException(MESSAGE_NO_STUDENT);
         } else {
             boolean anyUpdate = false;
-            for (Person person: personListName) {
-                boolean updateNeeded = false;
-                for (Test test: person.getTests()) {
-                    if (test.getTestName().testName.toUpperCase().equals(testName.toUpperCase())) {
-                        updateNeeded = true;
-                    }
-                }
-                if (updateNeeded) {
-                    anyUpdate = editPersonTests(person, model);
-                }
+            for (Person person: getPersonsWithTest(model)) {
+                anyUpdate = editPersonTests(person, model);
             }
 
             if (anyUpdate) {
@@ -79,6 +74,20 @@ public class DeleteTestMarksCommand extends Command {
 
                 String.format(MESSAGE_NOT_FOUND_TEST, testName));
     }
+    /**
+     * Returns the persons who took a test named {@code testName}, ignoring case, looked up in the person index.
+     */
+    private Set<Person> getPersonsWithTest(Model model) {
+        PersonIndex personIndex = model.getPersonIndex();
+        Set<Person> persons = new LinkedHashSet<>();
+        for (TestName name : personIndex.getTestNames()) {
+            if (name.testName.equalsIgnoreCase(testName)) {
+                persons.addAll(personIndex.getPersonsWithTest(name));
+            }
+        }
+        return persons;
+    }
+
     /**
      * editPersonTests
      */
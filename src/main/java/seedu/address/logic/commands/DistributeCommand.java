@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NATIONALITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTIMIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERFORMANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEST_NAME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Objects;
@@ -28,7 +31,9 @@ public class DistributeCommand extends Command {
             + "Parameters: NUMBER_OF_GROUPS "
             + PREFIX_NAME + "GROUP_NAME "
             + PREFIX_GENDER + "BALANCED_GENDER? "
-            + PREFIX_NATIONALITY + "BALANCED_NATIONALITY?\n"
+            + PREFIX_NATIONALITY + "BALANCED_NATIONALITY? "
+            + "[" + PREFIX_OPTIMIZE + "OPTIMIZE?] "
+            + "[" + PREFIX_PERFORMANCE + "BALANCED_PERFORMANCE? [" + PREFIX_TEST_NAME + "TEST_NAME]]\n"
             + "Example: " + COMMAND_WORD + " "
             + "5 "
             + PREFIX_NAME + "E1-06- "
@@ -46,9 +51,11 @@ public class DistributeCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        model.executeDistributeAlgorithm(model, distribute);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.commitAddressBook();
+        model.runBatch(() -> {
+            model.executeDistributeAlgorithm(model, distribute);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            model.commitAddressBook();
+        });
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
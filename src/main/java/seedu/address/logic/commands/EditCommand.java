@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -99,17 +100,21 @@ public class EditCommand extends Command {
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
+     * Gender, nationality and tags are replaced by their shared instances.
      */
     public static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
 
         Name updatedName = editPersonDescriptor.getName().orElse(personToEdit.getName());
-        Gender updateGender = editPersonDescriptor.getGender().orElse(personToEdit.getGender());
-        Nationality updateNationality = editPersonDescriptor.getNationality().orElse(personToEdit.getNationality());
+        Gender updateGender = Gender.intern(editPersonDescriptor.getGender().orElse(personToEdit.getGender()));
+        Nationality updateNationality =
+                Nationality.intern(editPersonDescriptor.getNationality().orElse(personToEdit.getNationality()));
         Phone updatedPhone = editPersonDescriptor.getPhone().orElse(personToEdit.getPhone());
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
-        Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
+        Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags()).stream()
+                .map(Tag::intern)
+                .collect(Collectors.toSet());
         Set<Test> updatedTest = editPersonDescriptor.getTests().orElse(personToEdit.getTests());
         return new Person(updatedName, updateGender, updateNationality, updatedPhone,
                 updatedEmail, updatedAddress, updatedTags, updatedTest);
@@ -67,10 +67,8 @@ public class EditTestMarksCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-
-
-        List<Person> personListName = model.getFilteredPersonList();
+        List<Person> personListName = predicate.getMatchingPersons(model.getPersonIndex(),
+                model.getAddressBook().getPersonList());
         EditCommand.EditPersonDescriptor editPersonDescriptor = new EditCommand.EditPersonDescriptor();
         String grade = "Undefined";
         if (testGrade != null) {
@@ -123,12 +121,12 @@ public class EditTestMarksCommand extends Command {
         Person personToEdit = person;
         EditCommand.EditPersonDescriptor editPersonDescriptor = new EditCommand.EditPersonDescriptor();
         Test test = null;
-        Grade assignGrade = new Grade("Undefined");
+        Grade assignGrade = Grade.of("Undefined");
         if (this.testGrade != null) {
-            assignGrade = new Grade(this.testGrade);
+            assignGrade = Grade.of(this.testGrade);
         }
         try {
-            test = new Test(new TestName(testName), new Marks(testMarks), assignGrade);
+            test = new Test(TestName.of(testName), new Marks(testMarks), assignGrade);
         } catch (IllegalArgumentException e) {
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             throw new CommandException(e.getMessage());
@@ -7,7 +7,6 @@ import static seedu.address.model.email.Message.MESSAGE_MESSAGE_CONSTRAINTS;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -142,7 +141,7 @@ public class EmailCommand extends Command {
                 throw new CommandException(Messages.MESSAGE_INVALID_GROUP_DISPLAYED_INDEX);
             }
             Group groupToSend = groupList.get(targetGroup.getZeroBased());
-            Set<Person> personsInGroup = groupToSend.getPersons();
+            List<Person> personsInGroup = model.getGroupPersons(groupToSend);
             for (Person person : personsInGroup) {
                 logger.log(Level.INFO, "Recipient: " + person.getName() + " is added to recipient list");
             }
@@ -9,7 +9,7 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and keywords may ask for prefix or typo-tolerant matches.
  */
 public class FindCommand extends Command {
 
@@ -18,8 +18,11 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "End a keyword with " + NameContainsKeywordsPredicate.PREFIX_MARKER + " to match words starting with it, "
+            + "or with " + NameContainsKeywordsPredicate.TYPO_MARKER + " to also match words one typo away from it.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " ali* bbo~";
 
     private final NameContainsKeywordsPredicate predicate;
 
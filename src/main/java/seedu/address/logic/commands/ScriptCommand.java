@@ -83,22 +83,24 @@ public class ScriptCommand extends Command {
 
     /**
      * This method will execute multiple commands.
+     * The commands are run as one batch, so the address book is saved and committed once for the whole script.
      */
     public String executeMultipleCommand(AddressBookParser scriptParser, List<String> commandArguments,
                                          Model model, CommandHistory history) throws IOException {
-        String errorMessage = new String();
+        StringBuilder errorMessage = new StringBuilder();
         ScriptLog scriptLog = new ScriptLog(commandType, textFileName, model);
-        for (String fullCommands : commandArguments) {
-            try {
-                Command command = scriptParser.parseCommand(fullCommands);
-                command.execute(model, history);
-            } catch (ParseException | CommandException pe) {
-                String lineNumber = Integer.toString(commandArguments.indexOf(fullCommands) + 1);
-                errorMessage = errorMessage + lineNumber + COMMA;
-                scriptLog.write(lineNumber, fullCommands, pe.getMessage());
+        model.runBatch(() -> {
+            for (String fullCommands : commandArguments) {
+                try {
+                    Command command = scriptParser.parseCommand(fullCommands);
+                    command.execute(model, history);
+                } catch (ParseException | CommandException pe) {
+                    String lineNumber = Integer.toString(commandArguments.indexOf(fullCommands) + 1);
+                    errorMessage.append(lineNumber).append(COMMA);
+                    scriptLog.write(lineNumber, fullCommands, pe.getMessage());
+                }
             }
-        }
-        errorMessage = errorMessage.replaceAll(".$", "");
-        return errorMessage;
+        });
+        return errorMessage.toString().replaceAll(".$", "");
     }
 }
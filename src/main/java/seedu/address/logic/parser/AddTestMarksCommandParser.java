@@ -57,7 +57,7 @@ public class AddTestMarksCommandParser implements Parser<AddTestMarksCommand> {
         nameKeywordsList.remove(PREFIX_TEST_NAME + argMultimap.getValue(PREFIX_TEST_NAME).get());
         nameKeywordsList.remove(PREFIX_TEST_MARK + argMultimap.getValue(PREFIX_TEST_MARK).get());
 
-        return new AddTestMarksCommand(new NameContainsKeywordsPredicate(nameKeywordsList),
+        return new AddTestMarksCommand(NameContainsKeywordsPredicate.ofWholeWords(nameKeywordsList),
                 argMultimap.getValue(PREFIX_TEST_NAME).get(),
                 argMultimap.getValue(PREFIX_TEST_MARK).get(), nameKeywordsList);
     }
@@ -9,6 +9,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_NAME = new Prefix("n/");
     public static final Prefix PREFIX_GENDER = new Prefix("g/");
     public static final Prefix PREFIX_NATIONALITY = new Prefix("nat/");
+    public static final Prefix PREFIX_OPTIMIZE = new Prefix("opt/");
+    public static final Prefix PREFIX_PERFORMANCE = new Prefix("perf/");
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_PASSWORD = new Prefix("pw/");
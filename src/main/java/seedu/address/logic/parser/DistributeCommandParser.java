@@ -5,8 +5,12 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NATIONALITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTIMIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERFORMANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEST_NAME;
 import static seedu.address.model.distribute.DistributeAlgorithm.MESSAGE_INVALID_SIZE;
 
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -15,6 +19,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.DistributeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.distribute.Distribute;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.group.GroupName;
 
 /**
@@ -29,7 +34,8 @@ public class DistributeCommandParser implements Parser<DistributeCommand> {
         requireNonNull(args);
 
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_GENDER, PREFIX_NATIONALITY);
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_GENDER, PREFIX_NATIONALITY, PREFIX_OPTIMIZE,
+                        PREFIX_PERFORMANCE, PREFIX_TEST_NAME);
 
         int index;
 
@@ -52,8 +58,22 @@ public class DistributeCommandParser implements Parser<DistributeCommand> {
         GroupName groupName = ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_NAME).get());
         Boolean isSortByGender = ParserUtil.parseIsFlagged(argMultimap.getValue(PREFIX_GENDER).get());
         Boolean isSortByNationality = ParserUtil.parseIsFlagged(argMultimap.getValue(PREFIX_NATIONALITY).get());
+        Boolean isOptimized = argMultimap.getValue(PREFIX_OPTIMIZE).isPresent()
+                && ParserUtil.parseIsFlagged(argMultimap.getValue(PREFIX_OPTIMIZE).get());
+        Boolean isSortByPerformance = argMultimap.getValue(PREFIX_PERFORMANCE).isPresent()
+                && ParserUtil.parseIsFlagged(argMultimap.getValue(PREFIX_PERFORMANCE).get());
+        Optional<TestName> performanceTestName = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TEST_NAME).isPresent()) {
+            if (!isSortByPerformance) {
+                logger.log(Level.WARNING, "Test name is given without the performance flag.");
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        DistributeCommand.MESSAGE_USAGE));
+            }
+            performanceTestName = Optional.of(ParserUtil.parseTestName(argMultimap.getValue(PREFIX_TEST_NAME).get()));
+        }
 
-        Distribute dist = new Distribute(index, groupName, isSortByGender, isSortByNationality);
+        Distribute dist = new Distribute(index, groupName, isSortByGender, isSortByNationality, isOptimized,
+                isSortByPerformance, performanceTestName);
         return new DistributeCommand(dist);
     }
     /**
@@ -56,7 +56,7 @@ public class EditTestMarksCommandParser implements Parser<EditTestMarksCommand>
         nameKeywordsList.remove(PREFIX_TEST_NAME + argMultimap.getValue(PREFIX_TEST_NAME).get());
         nameKeywordsList.remove(PREFIX_TEST_MARK + argMultimap.getValue(PREFIX_TEST_MARK).get());
 
-        return new EditTestMarksCommand(new NameContainsKeywordsPredicate(nameKeywordsList),
+        return new EditTestMarksCommand(NameContainsKeywordsPredicate.ofWholeWords(nameKeywordsList),
                 argMultimap.getValue(PREFIX_TEST_NAME).get(), argMultimap.getValue(PREFIX_TEST_MARK).get(),
                 null, nameKeywordsList);
     }
@@ -16,6 +16,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.distribute.DistributeAlgorithm;
 import seedu.address.model.email.Message;
 import seedu.address.model.email.Subject;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.group.GroupLocation;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.person.Address;
@@ -131,7 +132,7 @@ public class ParserUtil {
         }
         trimmedGender = inputTransform(trimmedGender);
         requireNonNull(trimmedGender);
-        return new Gender(trimmedGender);
+        return Gender.of(trimmedGender);
     }
 
     /**
@@ -146,7 +147,7 @@ public class ParserUtil {
         if (!Nationality.isValidCountryCode(trimmedCountryCode)) {
             throw new ParseException(Nationality.MESSAGE_NATIONALITY_CONSTRAINT);
         }
-        return new Nationality(trimmedCountryCode);
+        return Nationality.of(trimmedCountryCode);
     }
 
     /**
@@ -249,10 +250,25 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
 
+    /**
+     * Parses a {@code String testName} into a {@code TestName}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code testName} is invalid.
+     */
+    public static TestName parseTestName(String testName) throws ParseException {
+        requireNonNull(testName);
+        String trimmedTestName = testName.trim();
+        if (!TestName.isValidTestName(trimmedTestName)) {
+            throw new ParseException(TestName.MESSAGE_TEST_NAME_CONSTRAINTS);
+        }
+        return TestName.of(trimmedTestName);
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
@@ -2,14 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.group.AddGroup;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.UniqueGroupList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -19,6 +26,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueGroupList groups;
+    private final PersonIndex personIndex;
 
      /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -29,6 +37,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */ {
         persons = new UniquePersonList();
         groups = new UniqueGroupList();
+        personIndex = new PersonIndex();
     }
 
     public AddressBook() {
@@ -48,6 +57,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personIndex.setPersons(persons);
     }
 
     /**
@@ -80,12 +90,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the same identity as {@code person}, if there is one.
+     */
+    public Optional<Person> getSamePerson(Person person) {
+        return persons.getSamePerson(person);
+    }
+
+    /**
+     * Returns the person with the given id, if it is in the address book.
+     */
+    public Optional<Person> getPerson(PersonId id) {
+        return persons.get(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        personIndex.add(persons.add(p));
     }
 
     /**
@@ -96,15 +120,37 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void updatePerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person stored = persons.setPerson(target, editedPerson);
+        personIndex.remove(target);
+        personIndex.add(stored);
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook} and from every group it belongs to.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        Person removed = persons.remove(key);
+        personIndex.remove(removed);
+        groups.removePerson(removed);
+    }
+
+    /**
+     * Replaces the persons from position {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement},
+     * which keep their ids. Unlike {@link #removePerson(Person)}, this leaves the groups as they are.
+     * No two persons in the resulting address book may have the same identity or id.
+     */
+    void replacePersons(int from, int to, List<Person> replacement) {
+        List<Person> replaced = persons.replaceRange(from, to, replacement);
+        replaced.forEach(personIndex::remove);
+        replacement.forEach(personIndex::add);
+    }
+
+    /**
+     * Returns the index of the persons in the address book by gender, nationality, tag and test name.
+     */
+    public PersonIndex getPersonIndex() {
+        return personIndex;
     }
 
     // group - level operations
@@ -142,6 +188,45 @@ public class AddressBook implements ReadOnlyAddressBook {
         groups.addGroup(aG);
     }
 
+    /**
+     * Adds each group in {@code assignments} to the address book, with the persons it maps to as its members.
+     * Nothing is changed if any of the groups already exists or appears twice, which throws a
+     * {@code DuplicateGroupException}, or if any of the persons is not in the address book, which throws a
+     * {@code PersonNotFoundException}.
+     *
+     * @param assignments Groups to add and the members of each.
+     */
+    public void assignMembers(Map<Group, Collection<Person>> assignments) {
+        requireNonNull(assignments);
+        List<Group> newGroups = new ArrayList<>(assignments.size());
+        for (Map.Entry<Group, Collection<Person>> assignment : assignments.entrySet()) {
+            Group group = assignment.getKey();
+            List<PersonId> members = new ArrayList<>(group.getPersonIds());
+            for (Person person : assignment.getValue()) {
+                if (!persons.get(person.getId()).isPresent()) {
+                    throw new PersonNotFoundException();
+                }
+                members.add(person.getId());
+            }
+            Group newGroup = new Group(group.getGroupName(), group.getGroupLocation(), group.getTags());
+            newGroup.addPersonIds(members);
+            newGroups.add(newGroup);
+        }
+        groups.createGroups(newGroups);
+    }
+
+    /**
+     * Replaces the groups from position {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * No two groups in the resulting address book may have the same identity fields.
+     *
+     * @param from Position of the first group to replace.
+     * @param to Position after the last group to replace.
+     * @param replacement Groups to put in their place.
+     */
+    void replaceGroups(int from, int to, List<Group> replacement) {
+        groups.replaceRange(from, to, replacement);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -200,6 +285,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return groups.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the members of {@code group} in the order they were added, looked up by their ids.
+     *
+     * @param group Group to look up.
+     * @return Persons in the group.
+     */
+    @Override
+    public List<Person> getGroupPersons(Group group) {
+        requireNonNull(group);
+        return group.getPersonIds().stream()
+                .map(persons::get)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns true if both objects have the same fields.
      *
@@ -0,0 +1,54 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the committed states of a {@code VersionedAddressBook} so that they can be restored by undo and redo.
+ * Every change made to the address book's person and group lists is reported to the history as it happens.
+ */
+interface AddressBookHistory {
+
+    /**
+     * Records a change made to the person list since the last commit.
+     */
+    void recordPersonChange(ListChangeListener.Change<? extends Person> change);
+
+    /**
+     * Records a change made to the group list since the last commit.
+     */
+    void recordGroupChange(ListChangeListener.Change<? extends Group> change);
+
+    /**
+     * Saves the current state at the end of the history, discarding undone states.
+     */
+    void commit();
+
+    boolean canUndo();
+
+    boolean canRedo();
+
+    /**
+     * Restores {@code addressBook} to its previous committed state.
+     * Changes to {@code addressBook} made while restoring must not be reported back to this history.
+     */
+    void undo(AddressBook addressBook);
+
+    /**
+     * Restores {@code addressBook} to its previously undone state.
+     * Changes to {@code addressBook} made while restoring must not be reported back to this history.
+     */
+    void redo(AddressBook addressBook);
+
+    /**
+     * A list of the address book whose elements between two positions can be replaced in place,
+     * such as {@link AddressBook#replacePersons(int, int, List)}.
+     */
+    @FunctionalInterface
+    interface RangeReplacer<T> {
+        void replace(int from, int to, List<T> replacement);
+    }
+}
@@ -0,0 +1,282 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.grade.Test;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the history of the address book as a log of the changes made between commits instead of as saved states.
+ *
+ * Each change to the person or group list is recorded as a {@code ListDelta} holding only the records that were
+ * removed and added at one position. Undo replays the deltas of the last commit backwards and redo replays them
+ * forwards, each in place, so undoing a commit costs time proportional to the records it changed rather than to the
+ * size of the address book. The size of the log, estimated from the fields of the records it keeps alive, is capped
+ * by a byte budget; the oldest commits are dropped once the budget is exceeded, after which they can no longer be
+ * undone.
+ */
+class DeltaHistory implements AddressBookHistory {
+
+    /** Rough cost of a delta and of each record reference it holds, excluding the records themselves. */
+    private static final long DELTA_OVERHEAD_BYTES = 48;
+    private static final long REFERENCE_BYTES = 8;
+
+    /**
+     * Rough cost of the objects every person or group owns besides its strings and set entries: the record itself,
+     * its id, its value wrappers, its identity keys and its empty sets.
+     */
+    private static final long PERSON_BYTES = 256;
+    private static final long GROUP_BYTES = 160;
+
+    /** Rough cost of a small object, of a string besides its characters, and of each entry of a hash set. */
+    private static final long OBJECT_BYTES = 24;
+    private static final long STRING_BYTES = 40;
+    private static final long SET_ENTRY_BYTES = 40;
+
+    private final long byteBudget;
+    private final List<Transaction> transactions = new ArrayList<>();
+    private Transaction pending = new Transaction();
+    private int appliedCount;
+    private long totalBytes;
+
+    DeltaHistory(long byteBudget) {
+        this.byteBudget = byteBudget;
+    }
+
+    @Override
+    public void recordPersonChange(ListChangeListener.Change<? extends Person> change) {
+        record(pending.personDeltas, change, DeltaHistory::estimateBytes);
+    }
+
+    @Override
+    public void recordGroupChange(ListChangeListener.Change<? extends Group> change) {
+        record(pending.groupDeltas, change, DeltaHistory::estimateBytes);
+    }
+
+    @Override
+    public void commit() {
+        List<Transaction> undone = transactions.subList(appliedCount, transactions.size());
+        undone.forEach(transaction -> totalBytes -= transaction.bytes);
+        undone.clear();
+
+        transactions.add(pending);
+        totalBytes += pending.bytes;
+        pending = new Transaction();
+        appliedCount++;
+
+        while (totalBytes > byteBudget && !transactions.isEmpty()) {
+            totalBytes -= transactions.remove(0).bytes;
+            appliedCount--;
+        }
+    }
+
+    @Override
+    public boolean canUndo() {
+        return appliedCount > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return appliedCount < transactions.size();
+    }
+
+    @Override
+    public void undo(AddressBook addressBook) {
+        appliedCount--;
+        replay(addressBook, pending, transactions.get(appliedCount), false);
+    }
+
+    @Override
+    public void redo(AddressBook addressBook) {
+        replay(addressBook, pending, transactions.get(appliedCount), true);
+        appliedCount++;
+    }
+
+    /**
+     * Discards the uncommitted changes in {@code uncommitted}, then reverts or applies {@code transaction}
+     * on {@code addressBook}. Each delta is applied in place, so only the records it names are touched.
+     */
+    private void replay(AddressBook addressBook, Transaction uncommitted, Transaction transaction, boolean isForward) {
+        revertAll(uncommitted.personDeltas, addressBook::replacePersons);
+        replayAll(transaction.personDeltas, addressBook::replacePersons, isForward);
+        revertAll(uncommitted.groupDeltas, addressBook::replaceGroups);
+        replayAll(transaction.groupDeltas, addressBook::replaceGroups, isForward);
+        pending = new Transaction();
+    }
+
+    private static <T> void revertAll(List<ListDelta<T>> deltas, RangeReplacer<T> list) {
+        replayAll(deltas, list, false);
+    }
+
+    /**
+     * Applies {@code deltas} to {@code list} in order, or reverts them in reverse order if {@code isForward} is false.
+     */
+    private static <T> void replayAll(List<ListDelta<T>> deltas, RangeReplacer<T> list, boolean isForward) {
+        if (isForward) {
+            deltas.forEach(delta -> delta.replace(list, delta.removed, delta.added));
+        } else {
+            for (int i = deltas.size() - 1; i >= 0; i--) {
+                ListDelta<T> delta = deltas.get(i);
+                delta.replace(list, delta.added, delta.removed);
+            }
+        }
+    }
+
+    /**
+     * Appends the deltas described by {@code change} to {@code deltas} and accounts for their size,
+     * measuring each record with {@code recordBytes}.
+     */
+    private <T> void record(List<ListDelta<T>> deltas, ListChangeListener.Change<? extends T> change,
+                            ToLongFunction<T> recordBytes) {
+        while (change.next()) {
+            int from = change.getFrom();
+            List<T> removed = new ArrayList<>();
+            List<T> added = new ArrayList<>();
+            if (change.wasPermutated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    removed.add(change.getList().get(change.getPermutation(i)));
+                }
+                added.addAll(change.getList().subList(from, change.getTo()));
+            } else {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+
+            if (removed.isEmpty() && added.isEmpty()) {
+                continue;
+            }
+            ListDelta<T> delta = new ListDelta<>(from, removed, added);
+            deltas.add(delta);
+            pending.bytes += delta.estimateBytes(recordBytes);
+        }
+    }
+
+    /**
+     * Returns the estimated number of bytes held by {@code person} alone.
+     * Tags, genders, nationalities, test names and grades are interned and shared with other persons, so each of
+     * them only costs the reference to it.
+     */
+    private static long estimateBytes(Person person) {
+        long bytes = PERSON_BYTES
+                + estimateBytes(person.getName().fullName)
+                + estimateBytes(person.getPhone().value)
+                + estimateBytes(person.getEmail().value)
+                + estimateBytes(person.getAddress().value)
+                + SET_ENTRY_BYTES * person.getTags().size();
+        for (String word : person.getName().getWords()) {
+            bytes += REFERENCE_BYTES + estimateBytes(word);
+        }
+        for (Test test : person.getTests()) {
+            bytes += SET_ENTRY_BYTES + OBJECT_BYTES + estimateBytes(test.marks.value);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes held by {@code group} alone.
+     * Its tags are interned and the ids of its members are shared with the persons they identify.
+     */
+    private static long estimateBytes(Group group) {
+        return GROUP_BYTES
+                + estimateBytes(group.getGroupName().groupName)
+                + estimateBytes(group.getGroupLocation().groupLocation)
+                + SET_ENTRY_BYTES * (group.getTags().size() + group.getPersonIds().size());
+    }
+
+    /**
+     * Returns the estimated number of bytes held by {@code string}, whose characters take a byte each
+     * when they are all Latin-1.
+     */
+    private static long estimateBytes(String string) {
+        return STRING_BYTES + string.length();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeltaHistory // instanceof handles nulls
+                && transactions.equals(((DeltaHistory) other).transactions)
+                && pending.equals(((DeltaHistory) other).pending)
+                && appliedCount == ((DeltaHistory) other).appliedCount
+                && byteBudget == ((DeltaHistory) other).byteBudget);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transactions, pending, appliedCount, byteBudget);
+    }
+
+    /**
+     * The changes made to the address book between two commits.
+     */
+    private static class Transaction {
+        private final List<ListDelta<Person>> personDeltas = new ArrayList<>();
+        private final List<ListDelta<Group>> groupDeltas = new ArrayList<>();
+        private long bytes;
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Transaction // instanceof handles nulls
+                    && personDeltas.equals(((Transaction) other).personDeltas)
+                    && groupDeltas.equals(((Transaction) other).groupDeltas));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(personDeltas, groupDeltas);
+        }
+    }
+
+    /**
+     * A single replacement of the elements {@code removed} by the elements {@code added} at position {@code from}.
+     */
+    private static class ListDelta<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        ListDelta(int from, List<T> removed, List<T> added) {
+            this.from = from;
+            this.removed = Collections.unmodifiableList(removed);
+            this.added = Collections.unmodifiableList(added);
+        }
+
+        /**
+         * Replaces {@code current} at this delta's position in {@code list} with {@code replacement}.
+         */
+        void replace(RangeReplacer<T> list, List<T> current, List<T> replacement) {
+            list.replace(from, from + current.size(), replacement);
+        }
+
+        /**
+         * Returns the estimated number of bytes this delta keeps alive, measuring each record with
+         * {@code recordBytes}. Only the removed records are counted in full, as the added ones are still held by
+         * the address book or by a later delta that removes them.
+         */
+        long estimateBytes(ToLongFunction<T> recordBytes) {
+            return DELTA_OVERHEAD_BYTES + REFERENCE_BYTES * (removed.size() + added.size())
+                    + removed.stream().mapToLong(recordBytes).sum();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ListDelta // instanceof handles nulls
+                    && from == ((ListDelta<?>) other).from
+                    && removed.equals(((ListDelta<?>) other).removed)
+                    && added.equals(((ListDelta<?>) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+}
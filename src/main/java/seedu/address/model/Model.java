@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -57,6 +60,12 @@ public interface Model {
      */
     void updatePerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the index of all persons in the address book by gender, nationality, tag and test name.
+     * The index ignores the filter of the filtered person list.
+     */
+    PersonIndex getPersonIndex();
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -95,6 +104,24 @@ public interface Model {
      */
     void commitAddressBook();
 
+    /**
+     * Runs {@code batch} as a single change to the address book.
+     * While it runs, the change events, filter updates and commits requested of the model are held back. When it
+     * ends, the latest filters are applied, at most one commit is made and at most one change event is raised, even
+     * if {@code batch} throws. Batches may be nested, in which case only the outermost one publishes its changes.
+     */
+    <E extends Exception> void runBatch(Batch<E> batch) throws E;
+
+    /**
+     * Changes to the model that are to be published as one, see {@link #runBatch(Batch)}.
+     *
+     * @param <E> Type of the exception the changes may throw.
+     */
+    @FunctionalInterface
+    interface Batch<E extends Exception> {
+        void run() throws E;
+    }
+
     //@@author rajdeepsh
 
     /**
@@ -131,6 +158,15 @@ public interface Model {
      */
     boolean hasPersonInGroup(AddGroup addGroup);
 
+    /**
+     * Adds each group in {@code assignments} to the address book, with the persons it maps to as its members.
+     * None of the groups may already exist in the address book, and all the persons must exist in it.
+     * Nothing is changed if any of them does not.
+     *
+     * @param assignments Groups to add and the members of each.
+     */
+    void assignMembers(Map<Group, Collection<Person>> assignments);
+
     /**
      * Deletes {@code target} from the AddressBook.
      * {@code target} must exist in the address book.
@@ -147,6 +183,14 @@ public interface Model {
      */
     void deleteGroupPerson(Group group, Person targetPerson);
 
+    /**
+     * Returns the persons in the address book that are members of {@code group}.
+     *
+     * @param group Group to look up.
+     * @return Persons in the group.
+     */
+    List<Person> getGroupPersons(Group group);
+
     /**
      * Returns an unmodifiable view of the filtered group list.
      *
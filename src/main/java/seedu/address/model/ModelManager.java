@@ -3,6 +3,9 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -30,6 +33,13 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Group> filteredGroups;
     private final String scriptFolderLocation;
 
+    /** Number of batches currently running; changes are held back while it is positive. */
+    private int batchDepth;
+    private boolean isChangedInBatch;
+    private boolean isCommitRequestedInBatch;
+    private Predicate<Person> pendingPersonPredicate;
+    private Predicate<Group> pendingGroupPredicate;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -39,7 +49,7 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs);
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredGroups = new FilteredList<>(versionedAddressBook.getGroupList());
         scriptFolderLocation = userPrefs.getScriptFileDirectory();
@@ -65,9 +75,13 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed, or notes the change if a batch is running.
      */
     private void indicateAddressBookChanged() {
+        if (batchDepth > 0) {
+            isChangedInBatch = true;
+            return;
+        }
         raise(new AddressBookChangedEvent(versionedAddressBook));
     }
 
@@ -98,6 +112,11 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public PersonIndex getPersonIndex() {
+        return versionedAddressBook.getPersonIndex();
+    }
+
     /**
      * Returns true if a group with the same identity fields
      * as {@code group} exists in the versioned address book.
@@ -140,6 +159,20 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    /**
+     * Adds each group in {@code assignments} to the versioned address book, with the persons it maps to as its
+     * members, all at once.
+     *
+     * @param assignments Groups to add and the members of each.
+     */
+    @Override
+    public void assignMembers(Map<Group, Collection<Person>> assignments) {
+        requireNonNull(assignments);
+        versionedAddressBook.assignMembers(assignments);
+        updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
+        indicateAddressBookChanged();
+    }
+
     /**
      * Return true if a person is already in the specified group.
      *
@@ -175,6 +208,18 @@ public class ModelManager extends ComponentManager implements Model {
         versionedAddressBook.removeGroupPerson(group, target);
         indicateAddressBookChanged();
     }
+
+    /**
+     * Returns the persons in the versioned address book that are members of {@code group}.
+     *
+     * @param group Group to look up.
+     * @return Persons in the group.
+     */
+    @Override
+    public List<Person> getGroupPersons(Group group) {
+        requireNonNull(group);
+        return versionedAddressBook.getGroupPersons(group);
+    }
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -183,15 +228,30 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
+        applyPendingPersonPredicate();
         return FXCollections.unmodifiableObservableList(filteredPersons);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (batchDepth > 0) {
+            pendingPersonPredicate = predicate;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * Applies the person filter held back by the running batch, if any.
+     */
+    private void applyPendingPersonPredicate() {
+        if (pendingPersonPredicate != null) {
+            filteredPersons.setPredicate(pendingPersonPredicate);
+            pendingPersonPredicate = null;
+        }
+    }
+
     //=========== Filtered Group List Accessors =============================================================
 
     /**
@@ -202,6 +262,7 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Group> getFilteredGroupList() {
+        applyPendingGroupPredicate();
         return FXCollections.unmodifiableObservableList(filteredGroups);
     }
 
@@ -213,38 +274,100 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredGroupList(Predicate<Group> predicate) {
         requireNonNull(predicate);
+        if (batchDepth > 0) {
+            pendingGroupPredicate = predicate;
+            return;
+        }
         filteredGroups.setPredicate(predicate);
     }
 
+    /**
+     * Applies the group filter held back by the running batch, if any.
+     */
+    private void applyPendingGroupPredicate() {
+        if (pendingGroupPredicate != null) {
+            filteredGroups.setPredicate(pendingGroupPredicate);
+            pendingGroupPredicate = null;
+        }
+    }
+
     //=========== Undo/Redo =================================================================================
 
     @Override
     public boolean canUndoAddressBook() {
+        flushBatchCommit();
         return versionedAddressBook.canUndo();
     }
 
     @Override
     public boolean canRedoAddressBook() {
+        flushBatchCommit();
         return versionedAddressBook.canRedo();
     }
 
     @Override
     public void undoAddressBook() {
+        flushBatchCommit();
         versionedAddressBook.undo();
         indicateAddressBookChanged();
     }
 
     @Override
     public void redoAddressBook() {
+        flushBatchCommit();
         versionedAddressBook.redo();
         indicateAddressBookChanged();
     }
 
     @Override
     public void commitAddressBook() {
+        if (batchDepth > 0) {
+            isCommitRequestedInBatch = true;
+            return;
+        }
         versionedAddressBook.commit();
     }
 
+    /**
+     * Makes the commit held back by the running batch, if any, so that undo and redo see the same history as they
+     * would without the batch.
+     */
+    private void flushBatchCommit() {
+        if (isCommitRequestedInBatch) {
+            isCommitRequestedInBatch = false;
+            versionedAddressBook.commit();
+        }
+    }
+
+    //=========== Batches ====================================================================================
+
+    @Override
+    public <E extends Exception> void runBatch(Batch<E> batch) throws E {
+        requireNonNull(batch);
+        batchDepth++;
+        try {
+            batch.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                publishBatch();
+            }
+        }
+    }
+
+    /**
+     * Applies the filters, commit and change event held back by the batch that just ended.
+     */
+    private void publishBatch() {
+        applyPendingPersonPredicate();
+        applyPendingGroupPredicate();
+        flushBatchCommit();
+        if (isChangedInBatch) {
+            isChangedInBatch = false;
+            indicateAddressBookChanged();
+        }
+    }
+
     //=========== ScriptCommand Default Folder Directory =====================================================
 
     @Override
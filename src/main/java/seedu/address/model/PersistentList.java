@@ -0,0 +1,401 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list in which every update returns a new list that shares all untouched structure with the old one.
+ * Elements are held in a height-balanced tree ordered by position, so {@code get}, {@code set}, {@code insert} and
+ * {@code remove} all take O(log n) time and each update allocates only O(log n) new nodes.
+ * Keeping many versions of a large list around therefore costs memory proportional to the changes between them.
+ *
+ * @param <T> Type of the elements. Elements must not be null.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing {@code elements} in the same order, built in O(n) time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        requireNonNull(elements);
+        return elements.isEmpty() ? empty() : new PersistentList<>(buildTree(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> set(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(setAt(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements to the right.
+     */
+    public PersistentList<T> insert(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insertAt(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended at the end.
+     */
+    public PersistentList<T> append(T element) {
+        return insert(size(), element);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed, shifting later elements to the left.
+     */
+    public PersistentList<T> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(removeAt(root, index));
+    }
+
+    /**
+     * Returns the number of leading positions at which this list and {@code other} hold the same element instances.
+     * Subtrees that the two lists share are skipped whole, so comparing a list with another version of it takes
+     * time proportional to the changes between them rather than to its size.
+     */
+    public int commonPrefixLength(PersistentList<T> other) {
+        requireNonNull(other);
+        return countSameElements(root, other.root, false);
+    }
+
+    /**
+     * Returns the number of trailing positions at which this list and {@code other} hold the same element instances.
+     * Like {@link #commonPrefixLength(PersistentList)}, subtrees that the two lists share are skipped whole.
+     */
+    public int commonSuffixLength(PersistentList<T> other) {
+        requireNonNull(other);
+        return countSameElements(root, other.root, true);
+    }
+
+    /**
+     * Returns a new mutable {@code List} holding the elements of this list in order.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Returns a new mutable {@code List} holding the elements from {@code from} (inclusive) to {@code to} (exclusive)
+     * in order.
+     */
+    public List<T> toList(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size());
+        }
+        List<T> list = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+            private Node<T> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                next = node.right;
+                return node.value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (root == otherList.root) {
+            return true;
+        }
+        if (size() != otherList.size()) {
+            return false;
+        }
+
+        Iterator<?> otherIterator = otherList.iterator();
+        for (T element : this) {
+            if (!element.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (T element : this) {
+            hash = 31 * hash + element.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //=========== Tree operations ===========================================================================
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns a perfectly balanced tree holding {@code elements[from, to)}.
+     */
+    private static <T> Node<T> buildTree(List<? extends T> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(requireNonNull(elements.get(mid)),
+                buildTree(elements, from, mid), buildTree(elements, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the path from {@code node} to {@code index} ending in {@code element}.
+     */
+    private static <T> Node<T> setAt(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, setAt(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, setAt(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    /**
+     * Returns the subtree {@code node} with {@code element} inserted at {@code index}.
+     */
+    private static <T> Node<T> insertAt(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insertAt(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insertAt(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns the subtree {@code node} with the element at {@code index} removed.
+     */
+    private static <T> Node<T> removeAt(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeAt(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, removeAt(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, removeAt(node.right, 0));
+    }
+
+    /**
+     * Returns the number of positions, counted from the start or from the end if {@code isFromEnd}, before the
+     * subtrees {@code first} and {@code second} hold different element instances.
+     * Both trees are walked in step as sequences of pending subtrees; a subtree pending on both sides is skipped
+     * whole, and otherwise the larger of the two is split into its children and its own element.
+     */
+    private static <T> int countSameElements(Node<T> first, Node<T> second, boolean isFromEnd) {
+        Deque<Node<T>> firstPending = new ArrayDeque<>();
+        Deque<Node<T>> secondPending = new ArrayDeque<>();
+        pushIfPresent(firstPending, first);
+        pushIfPresent(secondPending, second);
+
+        int count = 0;
+        while (!firstPending.isEmpty() && !secondPending.isEmpty()) {
+            Node<T> firstNode = firstPending.peek();
+            Node<T> secondNode = secondPending.peek();
+            boolean isSameElement = firstNode.size == 1 && secondNode.size == 1 && firstNode.value == secondNode.value;
+            if (firstNode == secondNode || isSameElement) {
+                count += firstPending.pop().size;
+                secondPending.pop();
+            } else if (firstNode.size == 1 && secondNode.size == 1) {
+                break;
+            } else if (firstNode.size >= secondNode.size) {
+                split(firstPending, isFromEnd);
+            } else {
+                split(secondPending, isFromEnd);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the subtree on top of {@code pending} with its children and a single node holding its element,
+     * ordered so that the one nearest the end being walked from is on top.
+     */
+    private static <T> void split(Deque<Node<T>> pending, boolean isFromEnd) {
+        Node<T> node = pending.pop();
+        pushIfPresent(pending, isFromEnd ? node.left : node.right);
+        pending.push(new Node<>(node.value, null, null));
+        pushIfPresent(pending, isFromEnd ? node.right : node.left);
+    }
+
+    private static <T> void pushIfPresent(Deque<Node<T>> pending, Node<T> node) {
+        if (node != null) {
+            pending.push(node);
+        }
+    }
+
+    /**
+     * Returns a node holding {@code value} over {@code left} and {@code right}, rotating if their heights differ
+     * by more than one.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value,
+                    new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        } else if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value,
+                    new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    /**
+     * Returns true if the tree satisfies its balance and size invariants. Used for testing.
+     */
+    boolean isBalanced() {
+        return isBalancedTree(root);
+    }
+
+    /**
+     * Returns true if the subtree {@code node} satisfies the balance and size invariants.
+     */
+    private static boolean isBalancedTree(Node<?> node) {
+        return node == null
+                || (Math.abs(heightOf(node.left) - heightOf(node.right)) <= 1
+                && node.size == sizeOf(node.left) + sizeOf(node.right) + 1
+                && node.height == Math.max(heightOf(node.left), heightOf(node.right)) + 1
+                && isBalancedTree(node.left) && isBalancedTree(node.right));
+    }
+
+    /**
+     * An immutable tree node that knows the size and height of its subtree.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
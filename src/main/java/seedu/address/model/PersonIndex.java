@@ -0,0 +1,166 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import seedu.address.model.grade.TestName;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Nationality;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes the persons of an address book by gender, nationality, test name and the words of their names, so
+ * that the persons sharing one of these values can be looked up without scanning every person.
+ * The index is kept up to date by {@link AddressBook} as persons are added, edited and removed.
+ */
+public class PersonIndex {
+
+    private final Map<Gender, Set<Person>> byGender = new HashMap<>();
+    private final Map<Nationality, Set<Person>> byNationality = new HashMap<>();
+    private final Map<TestName, Set<Person>> byTestName = new HashMap<>();
+    /** Lower-cased name words, sorted so that all words sharing a prefix are next to each other. */
+    private final NavigableMap<String, Set<Person>> byNameWord = new TreeMap<>();
+
+    /**
+     * Returns the persons of the given gender, in the order they were indexed.
+     */
+    public List<Person> getPersonsWithGender(Gender gender) {
+        return lookUp(byGender, gender);
+    }
+
+    /**
+     * Returns the persons of the given nationality, in the order they were indexed.
+     */
+    public List<Person> getPersonsWithNationality(Nationality nationality) {
+        return lookUp(byNationality, nationality);
+    }
+
+    /**
+     * Returns the persons who have a result for the test named {@code testName}, in the order they were indexed.
+     */
+    public List<Person> getPersonsWithTest(TestName testName) {
+        return lookUp(byTestName, testName);
+    }
+
+    /**
+     * Returns the persons with {@code word} as one of the words of their name, ignoring case.
+     */
+    public List<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return lookUp(byNameWord, word.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the persons with a word starting with {@code prefix} in their name, ignoring case.
+     */
+    public List<Person> getPersonsWithNameWordPrefix(String prefix) {
+        requireNonNull(prefix);
+        String lowerCasePrefix = prefix.toLowerCase(Locale.ROOT);
+        return union(byNameWord.subMap(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, true).values());
+    }
+
+    /**
+     * Returns the persons with a word accepted by {@code matcher} in their name.
+     * {@code matcher} is tested once per distinct lower-cased name word rather than once per person.
+     */
+    public List<Person> getPersonsWithNameWordMatching(Predicate<String> matcher) {
+        requireNonNull(matcher);
+        List<Set<Person>> postings = new ArrayList<>();
+        byNameWord.forEach((word, persons) -> {
+            if (matcher.test(word)) {
+                postings.add(persons);
+            }
+        });
+        return union(postings);
+    }
+
+    /**
+     * Returns the number of persons of each nationality in the address book.
+     */
+    public Map<Nationality, Integer> getNationalityCounts() {
+        Map<Nationality, Integer> counts = new HashMap<>();
+        byNationality.forEach((nationality, persons) -> counts.put(nationality, persons.size()));
+        return counts;
+    }
+
+    /**
+     * Returns the names of all tests that at least one person has a result for.
+     */
+    public Set<TestName> getTestNames() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(byTestName.keySet()));
+    }
+
+    /**
+     * Adds {@code person} under each of its indexed values.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        addTo(byGender, person.getGender(), person);
+        addTo(byNationality, person.getNationality(), person);
+        person.getTests().forEach(test -> addTo(byTestName, test.getTestName(), person));
+        person.getName().getWords().forEach(word -> addTo(byNameWord, word, person));
+    }
+
+    /**
+     * Removes {@code person} from under each of its indexed values.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        removeFrom(byGender, person.getGender(), person);
+        removeFrom(byNationality, person.getNationality(), person);
+        person.getTests().forEach(test -> removeFrom(byTestName, test.getTestName(), person));
+        person.getName().getWords().forEach(word -> removeFrom(byNameWord, word, person));
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        byGender.clear();
+        byNationality.clear();
+        byTestName.clear();
+        byNameWord.clear();
+        persons.forEach(this::add);
+    }
+
+    private static <K> void addTo(Map<K, Set<Person>> index, K key, Person person) {
+        index.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from under {@code key}, dropping the key once no person is left under it.
+     */
+    private static <K> void removeFrom(Map<K, Set<Person>> index, K key, Person person) {
+        Set<Person> persons = index.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static <K> List<Person> lookUp(Map<K, Set<Person>> index, K key) {
+        requireNonNull(key);
+        return new ArrayList<>(index.getOrDefault(key, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the persons in any of {@code postings}, each listed once.
+     */
+    private static List<Person> union(Collection<Set<Person>> postings) {
+        Set<Person> persons = new LinkedHashSet<>();
+        postings.forEach(persons::addAll);
+        return new ArrayList<>(persons);
+    }
+}
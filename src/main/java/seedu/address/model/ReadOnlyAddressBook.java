@@ -1,5 +1,10 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
@@ -21,4 +26,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Group> getGroupList();
 
+    /**
+     * Returns the persons in this address book that are members of {@code group}.
+     */
+    default List<Person> getGroupPersons(Group group) {
+        requireNonNull(group);
+        return getPersonList().stream().filter(group::hasPerson).collect(Collectors.toList());
+    }
+
 }
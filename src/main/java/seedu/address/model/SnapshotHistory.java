@@ -0,0 +1,166 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps every committed state of the address book as a pair of {@code PersistentList}s.
+ *
+ * Every change to the person and group lists is mirrored into the current pair of lists, so each saved state only
+ * holds the roots of those lists and shares all unchanged records with its neighbours.
+ * Committing is O(1) and the memory held by the history grows with the number of changed records rather than
+ * with the size of the address book. Undoing and redoing compare the current lists with the restored ones, skipping
+ * the structure they share, and replace only the records between the first and the last that differ, so neither
+ * rebuilds the address book.
+ */
+class SnapshotHistory implements AddressBookHistory {
+
+    private final List<AddressBookState> addressBookStateList = new ArrayList<>();
+    private int currentStatePointer;
+
+    private PersistentList<Person> currentPersons;
+    private PersistentList<Group> currentGroups;
+
+    SnapshotHistory(List<Person> persons, List<Group> groups) {
+        currentPersons = PersistentList.of(persons);
+        currentGroups = PersistentList.of(groups);
+        addressBookStateList.add(new AddressBookState(currentPersons, currentGroups));
+        currentStatePointer = 0;
+    }
+
+    @Override
+    public void recordPersonChange(ListChangeListener.Change<? extends Person> change) {
+        currentPersons = mirror(currentPersons, change);
+    }
+
+    @Override
+    public void recordGroupChange(ListChangeListener.Change<? extends Group> change) {
+        currentGroups = mirror(currentGroups, change);
+    }
+
+    @Override
+    public void commit() {
+        removeStatesAfterCurrentPointer();
+        addressBookStateList.add(new AddressBookState(currentPersons, currentGroups));
+        currentStatePointer++;
+    }
+
+    private void removeStatesAfterCurrentPointer() {
+        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return currentStatePointer < addressBookStateList.size() - 1;
+    }
+
+    @Override
+    public void undo(AddressBook addressBook) {
+        currentStatePointer--;
+        restore(addressBook, addressBookStateList.get(currentStatePointer));
+    }
+
+    @Override
+    public void redo(AddressBook addressBook) {
+        currentStatePointer++;
+        restore(addressBook, addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Points {@code addressBook} at {@code state}.
+     * Only the records between the first and the last that differ from {@code state} are replaced.
+     */
+    private void restore(AddressBook addressBook, AddressBookState state) {
+        restore(currentPersons, state.persons, addressBook::replacePersons);
+        currentPersons = state.persons;
+        restore(currentGroups, state.groups, addressBook::replaceGroups);
+        currentGroups = state.groups;
+    }
+
+    /**
+     * Replaces the elements of {@code list}, which holds {@code current}, that differ from {@code target}.
+     */
+    private static <T> void restore(PersistentList<T> current, PersistentList<T> target, RangeReplacer<T> list) {
+        if (current == target) {
+            return;
+        }
+        int prefix = current.commonPrefixLength(target);
+        int suffix = Math.min(current.commonSuffixLength(target), Math.min(current.size(), target.size()) - prefix);
+        if (prefix + suffix == current.size() && prefix + suffix == target.size()) {
+            return;
+        }
+        list.replace(prefix, current.size() - suffix, target.toList(prefix, target.size() - suffix));
+    }
+
+    /**
+     * Returns {@code list} updated with the modifications described by {@code change}.
+     */
+    private static <T> PersistentList<T> mirror(PersistentList<T> list, ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || (change.getFrom() == 0 && change.getRemovedSize() == list.size())) {
+                // whole-list replacements are cheaper to rebuild than to apply element by element
+                list = PersistentList.of(change.getList());
+                continue;
+            }
+
+            int from = change.getFrom();
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                list = list.remove(from);
+            }
+            List<? extends T> added = change.getAddedSubList();
+            for (int i = 0; i < added.size(); i++) {
+                list = list.insert(from + i, added.get(i));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SnapshotHistory // instanceof handles nulls
+                && addressBookStateList.equals(((SnapshotHistory) other).addressBookStateList)
+                && currentStatePointer == ((SnapshotHistory) other).currentStatePointer);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(addressBookStateList, currentStatePointer);
+    }
+
+    /**
+     * A saved state of the address book, sharing its structure with the other saved states.
+     */
+    private static class AddressBookState {
+        private final PersistentList<Person> persons;
+        private final PersistentList<Group> groups;
+
+        AddressBookState(PersistentList<Person> persons, PersistentList<Group> groups) {
+            this.persons = persons;
+            this.groups = groups;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AddressBookState // instanceof handles nulls
+                    && persons.equals(((AddressBookState) other).persons)
+                    && groups.equals(((AddressBookState) other).groups));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(persons, groups);
+        }
+    }
+}
@@ -11,9 +11,26 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * The formats the address book file can be kept in.
+     */
+    public enum AddressBookFormat {
+        XML, BINARY
+    }
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data", "addressbook.xml");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.XML;
     private String scriptFileDirectory = "/scripts/";
+    private boolean deltaUndoHistory = false;
+    private long undoHistoryByteBudget = 64L * 1024 * 1024;
+    private long addressBookSaveDelayMillis = 300;
+    private boolean journaledStorage = false;
+    private int journalCompactionThreshold = 1000;
+    private boolean shardedStorage = false;
+    private int shardSize = 1000;
+    private boolean compressedStorage = false;
+    private int backupGenerations = 0;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -39,6 +56,14 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     public String getScriptFileDirectory() {
         return scriptFileDirectory;
     }
@@ -47,6 +72,104 @@ public class UserPrefs {
         this.scriptFileDirectory = scriptFileDirectory;
     }
 
+    /**
+     * Returns true if undo history should be kept as a log of changes capped by {@link #getUndoHistoryByteBudget()},
+     * instead of as a list of saved states.
+     */
+    public boolean isDeltaUndoHistory() {
+        return deltaUndoHistory;
+    }
+
+    public void setDeltaUndoHistory(boolean deltaUndoHistory) {
+        this.deltaUndoHistory = deltaUndoHistory;
+    }
+
+    public long getUndoHistoryByteBudget() {
+        return undoHistoryByteBudget;
+    }
+
+    public void setUndoHistoryByteBudget(long undoHistoryByteBudget) {
+        this.undoHistoryByteBudget = undoHistoryByteBudget;
+    }
+
+    /**
+     * Returns how long, in milliseconds, a change to the address book may wait to be saved so that it can be saved
+     * together with the changes that follow it. Zero saves every change as soon as it is made.
+     */
+    public long getAddressBookSaveDelayMillis() {
+        return addressBookSaveDelayMillis;
+    }
+
+    public void setAddressBookSaveDelayMillis(long addressBookSaveDelayMillis) {
+        this.addressBookSaveDelayMillis = addressBookSaveDelayMillis;
+    }
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal next to the data file,
+     * with the whole address book written only every {@link #getJournalCompactionThreshold()} changes.
+     */
+    public boolean isJournaledStorage() {
+        return journaledStorage;
+    }
+
+    public void setJournaledStorage(boolean journaledStorage) {
+        this.journaledStorage = journaledStorage;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    /**
+     * Returns true if the address book should be split into xml shard files of at most {@link #getShardSize()}
+     * persons each, listed by a manifest at the data file path, so that a save rewrites only the changed shards.
+     * The shards are compressed as asked by {@link #isCompressedStorage()}. The address book format and the backup
+     * generations are not used for sharded storage, and a warning is logged at startup if they are set.
+     */
+    public boolean isShardedStorage() {
+        return shardedStorage;
+    }
+
+    public void setShardedStorage(boolean shardedStorage) {
+        this.shardedStorage = shardedStorage;
+    }
+
+    public int getShardSize() {
+        return shardSize;
+    }
+
+    public void setShardSize(int shardSize) {
+        this.shardSize = shardSize;
+    }
+
+    /**
+     * Returns true if the address book file should be compressed with gzip.
+     * Files whose names end in {@code .gz} are compressed either way.
+     */
+    public boolean isCompressedStorage() {
+        return compressedStorage;
+    }
+
+    public void setCompressedStorage(boolean compressedStorage) {
+        this.compressedStorage = compressedStorage;
+    }
+
+    /**
+     * Returns the number of compressed backups of the address book file to keep, one for each of the last runs of
+     * the app that changed the address book. Sharded address books are not backed up.
+     */
+    public int getBackupGenerations() {
+        return backupGenerations;
+    }
+
+    public void setBackupGenerations(int backupGenerations) {
+        this.backupGenerations = backupGenerations;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -59,12 +182,24 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && addressBookFormat == o.addressBookFormat
+                && deltaUndoHistory == o.deltaUndoHistory
+                && undoHistoryByteBudget == o.undoHistoryByteBudget
+                && addressBookSaveDelayMillis == o.addressBookSaveDelayMillis
+                && journaledStorage == o.journaledStorage
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && shardedStorage == o.shardedStorage
+                && shardSize == o.shardSize
+                && compressedStorage == o.compressedStorage
+                && backupGenerations == o.backupGenerations;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, deltaUndoHistory,
+                undoHistoryByteBudget, addressBookSaveDelayMillis, journaledStorage, journalCompactionThreshold,
+                shardedStorage, shardSize, compressedStorage, backupGenerations);
     }
 
     @Override
@@ -72,7 +207,16 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
         sb.append("\nLocal Scripts file location : " + scriptFileDirectory);
+        sb.append("\nUndo history : " + (deltaUndoHistory ? "changes within " + undoHistoryByteBudget + " bytes"
+                : "saved states"));
+        sb.append("\nSave delay : " + addressBookSaveDelayMillis + " ms");
+        sb.append("\nJournal : " + (journaledStorage ? "compacted every " + journalCompactionThreshold + " changes"
+                : "off"));
+        sb.append("\nShards : " + (shardedStorage ? shardSize + " persons each" : "off"));
+        sb.append("\nCompressed : " + compressedStorage);
+        sb.append("\nBackups : " + backupGenerations);
         return sb.toString();
     }
 
@@ -1,36 +1,58 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.List;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ *
+ * By default every committed state is kept, sharing unchanged records between states (see {@code SnapshotHistory}).
+ * Alternatively, only the changes between commits can be kept, within a byte budget (see {@code DeltaHistory}).
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
-    private int currentStatePointer;
+    private final AddressBookHistory history;
+
+    // the views are kept so that the listeners registered on them stay reachable
+    private final ObservableList<Person> personView;
+    private final ObservableList<Group> groupView;
+    private boolean isRestoring;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, new UserPrefs());
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} whose history is kept as configured in {@code userPrefs}.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, UserPrefs userPrefs) {
         super(initialState);
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
-        currentStatePointer = 0;
+        personView = getPersonList();
+        groupView = getGroupList();
+        history = userPrefs.isDeltaUndoHistory()
+                ? new DeltaHistory(userPrefs.getUndoHistoryByteBudget())
+                : new SnapshotHistory(personView, groupView);
+        personView.addListener((ListChangeListener<Person>) change -> {
+            if (!isRestoring) {
+                history.recordPersonChange(change);
+            }
+        });
+        groupView.addListener((ListChangeListener<Group>) change -> {
+            if (!isRestoring) {
+                history.recordGroupChange(change);
+            }
+        });
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the current {@code AddressBook} state at the end of the history.
+     * Undone states are removed from the history.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        history.commit();
     }
 
     /**
@@ -40,8 +62,12 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        isRestoring = true;
+        try {
+            history.undo(this);
+        } finally {
+            isRestoring = false;
+        }
     }
 
     /**
@@ -51,22 +77,26 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        isRestoring = true;
+        try {
+            history.redo(this);
+        } finally {
+            isRestoring = false;
+        }
     }
 
     /**
      * Returns true if {@code undo()} has address book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -85,8 +115,7 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
-                && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
+                && history.equals(otherVersionedAddressBook.history);
     }
 
     /**
@@ -3,7 +3,9 @@ package seedu.address.model.distribute;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
+import seedu.address.model.grade.TestName;
 import seedu.address.model.group.GroupName;
 
 /**
@@ -15,17 +17,39 @@ public class Distribute {
     private final GroupName groupName;
     private final Boolean gender;
     private final Boolean nationality;
+    private final Boolean optimize;
+    private final Boolean performance;
+    private final Optional<TestName> performanceTestName;
 
     /**
      * Every field must be present and not null.
      */
 
     public Distribute(int index, GroupName groupName, Boolean gender, Boolean nationality) {
-        requireAllNonNull(index, groupName, gender, nationality);
+        this(index, groupName, gender, nationality, false);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Distribute(int index, GroupName groupName, Boolean gender, Boolean nationality, Boolean optimize) {
+        this(index, groupName, gender, nationality, optimize, false, Optional.empty());
+    }
+
+    /**
+     * Every field must be present and not null.
+     * An empty {@code performanceTestName} balances performance by the average marks of all tests.
+     */
+    public Distribute(int index, GroupName groupName, Boolean gender, Boolean nationality, Boolean optimize,
+                      Boolean performance, Optional<TestName> performanceTestName) {
+        requireAllNonNull(index, groupName, gender, nationality, optimize, performance, performanceTestName);
         this.index = index;
         this.groupName = groupName;
         this.gender = gender;
         this.nationality = nationality;
+        this.optimize = optimize;
+        this.performance = performance;
+        this.performanceTestName = performanceTestName;
     }
 
     public int getIndex() {
@@ -44,6 +68,18 @@ public class Distribute {
         return nationality;
     }
 
+    public Boolean getOptimize() {
+        return optimize;
+    }
+
+    public Boolean getPerformance() {
+        return performance;
+    }
+
+    public Optional<TestName> getPerformanceTestName() {
+        return performanceTestName;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -56,12 +92,15 @@ public class Distribute {
         return index == that.index
                 && Objects.equals(groupName, that.groupName)
                 && Objects.equals(gender, that.gender)
-                && Objects.equals(nationality, that.nationality);
+                && Objects.equals(nationality, that.nationality)
+                && Objects.equals(optimize, that.optimize)
+                && Objects.equals(performance, that.performance)
+                && Objects.equals(performanceTestName, that.performanceTestName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(index, groupName, gender, nationality);
+        return Objects.hash(index, groupName, gender, nationality, optimize, performance, performanceTestName);
     }
 
     @Override
@@ -74,6 +113,14 @@ public class Distribute {
                 .append(getGender())
                 .append("Sort By Nationality: ")
                 .append(getNationality());
+        if (getOptimize()) {
+            builder.append("Optimize: ")
+                    .append(getOptimize());
+        }
+        if (getPerformance()) {
+            builder.append("Balance Performance By: ")
+                    .append(getPerformanceTestName().map(TestName::toString).orElse("average marks"));
+        }
         return builder.toString();
     }
 }
@@ -6,10 +6,15 @@ import static seedu.address.model.person.Gender.VALID_GENDER_FEMALE;
 import static seedu.address.model.person.Gender.VALID_GENDER_MALE;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Random;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -17,6 +22,8 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonIndex;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.person.Nationality;
 import seedu.address.model.person.Person;
 
@@ -26,16 +33,23 @@ import seedu.address.model.person.Person;
  * First - normalDistribution
  * Second - genderDistribution
  * Third - nationalityDistribution
- * Forth - strictDistribution (Coming in v2.0)
+ * Forth - strictDistribution
+ * Any of them can be improved further by optimizedDistribution, or replaced by performanceDistribution.
  */
 public class DistributeAlgorithm {
 
     public static final String MESSAGE_INVALID_SIZE = "Number of Groups should not be more than Number of Persons";
-    public static final String MESSAGE_TO_BE_IMPLEMENTED = "Currently under development. Stay tuned in v2.0";
     public static final String MESSAGE_FLAG_ERROR = "Gender and Nationality flags only accept "
             + "'1' or '0' or \"true\" or \"false\"";
+    public static final String MESSAGE_TEST_NOT_FOUND = "No student in the list has taken the test %1$s.";
+    /** How long the optimizer may search for better groups. */
+    public static final long OPTIMIZER_TIME_BUDGET_MILLIS = 1000;
+    /** The objectives of the optimizer are weighed equally. */
+    private static final double OBJECTIVE_WEIGHT = 1.0;
     private static final Logger logger = LogsCenter.getLogger(DistributeAlgorithm.class);
     private DistributeUtil distUtil = new DistributeUtil();
+    private Random random;
+    private Optional<PersonIndex> personIndex;
 
     public DistributeAlgorithm(Model model, Distribute distribute) throws CommandException {
         requireAllNonNull(model, distribute);
@@ -57,12 +71,29 @@ public class DistributeAlgorithm {
             throw new CommandException(MESSAGE_INVALID_SIZE);
         }
         distUtil.doesGroupNameExist(numOfGroups, groupName, model);
+        //The person index covers every person, so it can only stand in for the list when it is not filtered
+        boolean isWholeAddressBook = allPerson.size() == model.getAddressBook().getPersonList().size();
+        personIndex = isWholeAddressBook ? Optional.of(model.getPersonIndex()) : Optional.empty();
         //Convert ObservableList into ArrayList to use Randomizer via Collections
         LinkedList<Person> personLinkedList = new LinkedList<>(allPerson);
         //Randomizer function
         Instant instant = Instant.now();
-        distUtil.shuffle(personLinkedList, new Random(instant.getEpochSecond()));
-        if (!isGenderFlagSet && !isNationalityFlagSet) {
+        random = new Random(instant.getEpochSecond());
+        distUtil.shuffle(personLinkedList, random);
+        Function<Person, OptionalDouble> marks = getMarksFunction(distribute, personLinkedList);
+        if (distribute.getPerformance()) {
+            //Ranking the students lets the groups be dealt in a snake draft by marks
+            personLinkedList = distUtil.sortByMarks(personLinkedList, marks);
+        }
+        if (distribute.getOptimize()) {
+            logger.log(Level.INFO, "Optimized Distribution will be executed.");
+            optimizedDistribution(numOfGroups, groupArrayList, personLinkedList, groupName, isGenderFlagSet,
+                    isNationalityFlagSet, marks);
+        } else if (distribute.getPerformance()) {
+            logger.log(Level.INFO, "Distribution by Performance will be executed.");
+            performanceDistribution(numOfGroups, groupArrayList, personLinkedList, groupName, isGenderFlagSet,
+                    isNationalityFlagSet);
+        } else if (!isGenderFlagSet && !isNationalityFlagSet) {
             logger.log(Level.INFO, "Normal Distribution will be executed.");
             normalDistribution(numOfGroups, groupArrayList, personLinkedList, groupName);
         } else if (!isGenderFlagSet && isNationalityFlagSet) {
@@ -114,8 +145,13 @@ public class DistributeAlgorithm {
         int loopCounter = 0;
         int num = 0;
 
-        distUtil.filterGender(allPersonLinkList, maleLinkList, VALID_GENDER_MALE);
-        distUtil.filterGender(allPersonLinkList, femaleLinkList, VALID_GENDER_FEMALE);
+        if (personIndex.isPresent()) {
+            distUtil.filterGender(personIndex.get(), maleLinkList, VALID_GENDER_MALE, random);
+            distUtil.filterGender(personIndex.get(), femaleLinkList, VALID_GENDER_FEMALE, random);
+        } else {
+            distUtil.filterGender(allPersonLinkList, maleLinkList, VALID_GENDER_MALE);
+            distUtil.filterGender(allPersonLinkList, femaleLinkList, VALID_GENDER_FEMALE);
+        }
 
         while (maleLinkList.size() != 0 || femaleLinkList.size() != 0) {
             if (loopCounter % index == 0) {
@@ -152,16 +188,10 @@ public class DistributeAlgorithm {
                                          LinkedList<Person> personLinkedList, String groupName)
             throws CommandException {
         requireAllNonNull(index, groupArrayList, personLinkedList, groupName);
-        Map<Nationality, Integer> nationalityMap = distUtil.createNationalityMap(personLinkedList);
-        int loopCounter = 0;
-        for (Map.Entry<Nationality, Integer> entry : nationalityMap.entrySet()) {
-            for (int x = 0; x < entry.getValue(); x++) {
-                ArrayList<Person> personArrayList = new ArrayList<>();
-                Person p = distUtil.findPerson(entry.getKey(), personLinkedList);
-                distUtil.selectiveDistributionByNationality(index, groupArrayList, personArrayList, loopCounter, p);
-                loopCounter++;
-            }
-        }
+        Map<Nationality, ArrayDeque<Person>> nationalityBuckets = personIndex.isPresent()
+                ? distUtil.createNationalityBuckets(personIndex.get(), random)
+                : distUtil.createNationalityBuckets(personLinkedList);
+        groupArrayList.addAll(distUtil.dealRoundRobin(nationalityBuckets.values(), index));
         distUtil.distributeProcess(groupArrayList, groupName);
         groupArrayList.clear();
     }
@@ -169,14 +199,95 @@ public class DistributeAlgorithm {
     /**
      * This Method distribute all students into n number of groups
      * Distribution will try to include balanced gender and include multi-national students.
-     * To be completed in v2.0
+     * Students are stratified by gender, then by nationality, and every stratum is spread across the groups.
+     * Distribution is Random.
      */
     private void strictDistribution(int index, ArrayList<ArrayList<Person>> groupArrayList,
                                     LinkedList<Person> personLinkedList, String groupName)
             throws CommandException {
         requireAllNonNull(index, groupArrayList, personLinkedList, groupName);
-        logger.log(Level.WARNING, "Distribution by Nationality and Gender will be implemented in v2.0");
-        throw new CommandException(MESSAGE_TO_BE_IMPLEMENTED);
+        StratifiedDistribution distribution = new StratifiedDistribution(getBalancedAttributes(true, true));
+        groupArrayList.addAll(distribution.distribute(personLinkedList, index));
+        distUtil.distributeProcess(groupArrayList, groupName);
+        groupArrayList.clear();
+    }
+
+    /**
+     * This Method distribute all students into n number of groups.
+     * Distribution will try to balance the mean test marks of the groups, together with their gender and
+     * nationality if the flags are set, by searching for better groups for a limited time.
+     * Distribution is Random.
+     */
+    private void optimizedDistribution(int index, ArrayList<ArrayList<Person>> groupArrayList,
+                                       LinkedList<Person> personLinkedList, String groupName,
+                                       boolean isGenderFlagSet, boolean isNationalityFlagSet,
+                                       Function<Person, OptionalDouble> marks)
+            throws CommandException {
+        requireAllNonNull(index, groupArrayList, personLinkedList, groupName, marks);
+        List<Function<Person, ?>> attributes = getBalancedAttributes(isGenderFlagSet, isNationalityFlagSet);
+        GroupOptimizer optimizer = new GroupOptimizer().balanceMean(marks, OBJECTIVE_WEIGHT);
+        for (Function<Person, ?> attribute : attributes) {
+            optimizer.balanceCategory(attribute, OBJECTIVE_WEIGHT);
+        }
+        //Start from the groups dealt by the flags, which already have balanced sizes
+        ArrayList<ArrayList<Person>> dealtGroups = new StratifiedDistribution(attributes)
+                .distribute(personLinkedList, index);
+        groupArrayList.addAll(optimizer.optimize(dealtGroups, OPTIMIZER_TIME_BUDGET_MILLIS, random.nextLong()));
+        distUtil.distributeProcess(groupArrayList, groupName);
+        groupArrayList.clear();
+    }
+
+    /**
+     * This Method distribute all students into n number of groups.
+     * Students ranked by their marks are dealt in a snake draft, so that every group gets a similar spread of
+     * strong and weak students, and thus a similar mean and variance of marks.
+     * Gender and nationality are balanced first if their flags are set.
+     */
+    private void performanceDistribution(int index, ArrayList<ArrayList<Person>> groupArrayList,
+                                         LinkedList<Person> rankedPersonList, String groupName,
+                                         boolean isGenderFlagSet, boolean isNationalityFlagSet)
+            throws CommandException {
+        requireAllNonNull(index, groupArrayList, rankedPersonList, groupName);
+        StratifiedDistribution distribution =
+                new StratifiedDistribution(getBalancedAttributes(isGenderFlagSet, isNationalityFlagSet));
+        groupArrayList.addAll(distribution.distribute(rankedPersonList, index));
+        distUtil.distributeProcess(groupArrayList, groupName);
+        groupArrayList.clear();
+    }
+
+    /**
+     * Returns the attributes whose flags are set, in the order they are balanced.
+     */
+    private static List<Function<Person, ?>> getBalancedAttributes(boolean isGenderFlagSet,
+                                                                   boolean isNationalityFlagSet) {
+        List<Function<Person, ?>> attributes = new ArrayList<>();
+        if (isGenderFlagSet) {
+            attributes.add(Person::getGender);
+        }
+        if (isNationalityFlagSet) {
+            attributes.add(Person::getNationality);
+        }
+        return attributes;
+    }
+
+    /**
+     * Returns how the marks of a student are looked up: the marks of the chosen test, or the average of all the
+     * student's tests if no test is chosen.
+     *
+     * @throws CommandException if no student in the list has taken the chosen test.
+     */
+    private Function<Person, OptionalDouble> getMarksFunction(Distribute distribute, List<Person> allPerson)
+            throws CommandException {
+        if (!distribute.getPerformanceTestName().isPresent()) {
+            return distUtil::getAverageMarks;
+        }
+        TestName testName = distribute.getPerformanceTestName().get();
+        Function<Person, OptionalDouble> marks = person -> distUtil.getTestMarks(person, testName);
+        if (allPerson.stream().noneMatch(person -> marks.apply(person).isPresent())) {
+            logger.log(Level.WARNING, "No student has taken the test to balance performance by.");
+            throw new CommandException(String.format(MESSAGE_TEST_NOT_FOUND, testName));
+        }
+        return marks;
     }
 
 }
@@ -4,34 +4,41 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toMap;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
-import seedu.address.logic.CommandHistory;
-import seedu.address.logic.commands.AddGroupCommand;
-import seedu.address.logic.commands.CreateGroupCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.group.AddGroup;
+import seedu.address.model.PersonIndex;
+import seedu.address.model.grade.Test;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupLocation;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Gender;
 import seedu.address.model.person.Nationality;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SortMarks;
 
 /**
  *
@@ -43,48 +50,47 @@ public class DistributeUtil {
     public static final String GROUP_LOCATION = "UNKNOWN";
     private static final Logger logger = LogsCenter.getLogger(DistributeUtil.class);
     private Model model;
-    private CommandHistory commandHistory = new CommandHistory();
 
     public void setModel(Model model) {
         this.model = model;
     }
 
-    /** This method in an integration of numberOfDifferentNationality method and paxPerNationality method.
-     *  The primary function for this method is to create a Map of Nationality as key and Integer as value.
+    /**
+     * This method sorts every person into a bucket of their nationality in a single pass over the list.
+     * The buckets are ordered from the largest nationality to the smallest, and each bucket keeps the persons
+     * in the order they appear in the list.
      *
-     * @param allPerson : Takes in the allPerson list in order to count the number of different nationalities.
-     * @return a Map for data processing in the nationality Distribution method.
+     * @param allPerson : Holds all person data.
+     * @return a Map of Nationality as key and the persons of that nationality as value.
      */
-    public Map<Nationality, Integer> createNationalityMap(LinkedList<Person> allPerson) {
-        Map<Nationality, Long> counts = numberOfDifferentNationality(allPerson);
-        counts = paxPerNationality(counts);
-        Map<Nationality, Integer> nationalityIntegerMap = new HashMap<>();
-        for (int i = 0; i < counts.size(); i++) {
-            String[] parseValue = counts.entrySet().toArray()[i].toString().split("=");
-            Nationality nationalityCode = new Nationality(parseValue[0]);
-            int numOfSameNationality = Integer.parseInt(parseValue[1]);
-            nationalityIntegerMap.put(nationalityCode, numOfSameNationality);
+    public Map<Nationality, ArrayDeque<Person>> createNationalityBuckets(List<Person> allPerson) {
+        requireNonNull(allPerson);
+        Map<Nationality, ArrayDeque<Person>> buckets = new HashMap<>();
+        for (Person p : allPerson) {
+            buckets.computeIfAbsent(p.getNationality(), nationality -> new ArrayDeque<>()).add(p);
         }
-        return nationalityIntegerMap;
+        return buckets.entrySet().stream()
+                .sorted(Collections.reverseOrder(Comparator.comparingInt(e -> e.getValue().size())))
+                .collect(toMap(e -> e.getKey(), e -> e.getValue(), (e1, e2) -> e2, LinkedHashMap::new));
     }
 
     /**
-     * This method does an exhaustive search in the all person list to find any person with the same nationality.
+     * This method looks up the persons of every nationality in the person index instead of running through every
+     * person. The buckets are ordered from the largest nationality to the smallest, and each bucket holds its
+     * persons in a random order.
      *
-     * @param key : The nationality field to search for in all personlist.
-     * @param personLinkedList : Holds all person data.
-     * @return return the Person object when nationality matches.
+     * @param personIndex : The index of allPerson in the addressbook.
+     * @param seed : The seed to perform shuffle.
+     * @return a Map of Nationality as key and the persons of that nationality as value.
      */
-    public Person findPerson(Nationality key, LinkedList<Person> personLinkedList) {
-        requireAllNonNull(key, personLinkedList);
-        for (Person p : personLinkedList) {
-            if (p.getNationality().equals(key)) {
-                Person tempPerson = p;
-                personLinkedList.remove(p);
-                return tempPerson;
-            }
-        }
-        return null;
+    public Map<Nationality, ArrayDeque<Person>> createNationalityBuckets(PersonIndex personIndex, Random seed) {
+        requireAllNonNull(personIndex, seed);
+        Map<Nationality, ArrayDeque<Person>> buckets = new LinkedHashMap<>();
+        personIndex.getNationalityCounts().entrySet().stream()
+                .sorted(Collections.reverseOrder(Map.Entry.comparingByValue()))
+                .forEach(e -> buckets.put(e.getKey(), new ArrayDeque<>(
+                        shuffle(new LinkedList<>(personIndex.getPersonsWithNationality(e.getKey())), seed))));
+        return buckets;
     }
 
     /**
@@ -100,35 +106,6 @@ public class DistributeUtil {
         return allPerson;
     }
 
-    //Method implemented below was adapted from https://stackoverflow.com/a/22132422/3818748
-    /**
-     * This function takes in the list of all person and calculate the total number of different nationalities.
-     * Returns a integer value which represent the number of different nationalities
-     *
-     * @param allPerson : Contain all Person List.
-     * @return return a Map which contains the Nationality field as Key are the number of person belonging
-     *         to that nationality as value.
-     */
-    public Map<Nationality, Long> numberOfDifferentNationality(LinkedList<Person> allPerson) {
-        requireNonNull(allPerson);
-        return allPerson.stream().collect(Collectors.groupingBy(e -> e.getNationality(), Collectors.counting()));
-    }
-
-    /**
-     * This function will sort the map that holds the number of people with different nationalities.
-     *
-     * @param numberOfNationality : Contain all Person List.
-     * @return return a Map which contains the Nationality field as Key are the number of person belonging
-     *         to that nationality as value.
-     */
-    public Map<Nationality, Long> paxPerNationality(Map<Nationality, Long> numberOfNationality) {
-        requireNonNull(numberOfNationality);
-        return numberOfNationality.entrySet().stream().sorted(Collections.reverseOrder(Map.Entry.comparingByValue()))
-                .collect(toMap(e -> e.getKey(), e -> e.getValue(), (e1, e2) -> e2,
-                        LinkedHashMap::new));
-    }
-
-
     /**
      * This method does the selective distribution of all person to the group they shall be in.
      * This method does the distribution for Male gender to every group first before repeating the process for female.
@@ -154,27 +131,30 @@ public class DistributeUtil {
     }
 
     /**
-     * This method does the distribution of person into a group.
+     * This method deals the persons in the buckets into n number of groups, one person to each group in turn.
+     * The buckets are emptied one after another, so the persons of a bucket are spread over consecutive groups
+     * and no group ends up with more than one person more than another.
      *
-     * @param index : The number of group. Acts as a pointer to which group should we add the person into.
-     * @param groupArrayList : Acts as a group with each elements are the group. The sub array are the persons.
-     * @param loopCounter : A counter to ensure Person are added incrementally to every group.
-     * @param personArrayList : A pointer that points to the group element.
-     * @param person : The person object to add into the sub-array.
+     * @param buckets : The persons to deal, emptied in the order given.
+     * @param index : The number of groups to deal into.
+     * @return the groups, each holding the persons dealt to it.
      */
-    public void selectiveDistributionByNationality(int index, ArrayList<ArrayList<Person>> groupArrayList,
-                                                   ArrayList<Person> personArrayList,
-                                                   int loopCounter, Person person) {
-        if (loopCounter < index) {
-            personArrayList.add(person);
-            groupArrayList.add(personArrayList);
-        } else {
-            int z = loopCounter % index;
-            ArrayList temp = groupArrayList.get(z);
-            groupArrayList.get(z).add(temp.size() - 1, person);
+    public ArrayList<ArrayList<Person>> dealRoundRobin(Collection<? extends Deque<Person>> buckets, int index) {
+        requireNonNull(buckets);
+        ArrayList<ArrayList<Person>> groupArrayList = new ArrayList<>(index);
+        for (int i = 0; i < index; i++) {
+            groupArrayList.add(new ArrayList<>());
         }
-
+        int loopCounter = 0;
+        for (Deque<Person> bucket : buckets) {
+            while (!bucket.isEmpty()) {
+                groupArrayList.get(loopCounter % index).add(bucket.poll());
+                loopCounter++;
+            }
+        }
+        return groupArrayList;
     }
+
     /**
      * This function runs through the allPerson list and add the specific gender required into an LinkedList.
      *
@@ -190,6 +170,79 @@ public class DistributeUtil {
         }
     }
 
+    /**
+     * This function looks up the persons of the specific gender in the person index instead of running through
+     * every person, and adds them into an LinkedList in a random order.
+     *
+     * @param personIndex : The index of allPerson in the addressbook.
+     * @param seed : The seed to perform shuffle.
+     */
+    public void filterGender(PersonIndex personIndex, LinkedList<Person> filteredGender, String gender,
+                             Random seed) {
+        requireAllNonNull(personIndex, filteredGender, gender, seed);
+        filteredGender.addAll(shuffle(new LinkedList<>(personIndex.getPersonsWithGender(Gender.of(gender))), seed));
+    }
+
+    /**
+     * This function averages the marks of all the tests of the person.
+     *
+     * @param person : The person whose marks are averaged.
+     * @return the average marks, or an empty OptionalDouble if the person has no test.
+     */
+    public OptionalDouble getAverageMarks(Person person) {
+        requireNonNull(person);
+        return person.getTests().stream().mapToDouble(test -> Double.parseDouble(test.getMarks().value)).average();
+    }
+
+    /**
+     * This function looks up the marks of the person for the test.
+     *
+     * @param person : The person whose marks are looked up.
+     * @param testName : The name of the test.
+     * @return the marks, or an empty OptionalDouble if the person has not taken the test.
+     */
+    public OptionalDouble getTestMarks(Person person, TestName testName) {
+        requireAllNonNull(person, testName);
+        for (Test test : person.getTests()) {
+            if (test.getTestName().equals(testName)) {
+                return OptionalDouble.of(Double.parseDouble(test.getMarks().value));
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
+    /**
+     * This function orders the persons from the highest marks to the lowest, with the persons without marks last.
+     * Persons with the same marks, and those without marks, keep their order in the list.
+     * Marks are compared to two decimal places, so averages that differ only further down count as the same marks.
+     *
+     * @param allPerson : The persons to order.
+     * @param marks : Looks up the marks of a person.
+     * @return the persons in order of their marks.
+     */
+    public LinkedList<Person> sortByMarks(List<Person> allPerson, Function<Person, OptionalDouble> marks) {
+        requireAllNonNull(allPerson, marks);
+        List<Person> withMarks = new ArrayList<>();
+        List<Person> withoutMarks = new ArrayList<>();
+        double[] markArray = new double[allPerson.size()];
+        for (Person p : allPerson) {
+            OptionalDouble personMarks = marks.apply(p);
+            if (personMarks.isPresent()) {
+                markArray[withMarks.size()] = personMarks.getAsDouble();
+                withMarks.add(p);
+            } else {
+                withoutMarks.add(p);
+            }
+        }
+        int[] order = SortMarks.getOrderFromHighestToLowest(Arrays.copyOf(markArray, withMarks.size()));
+        LinkedList<Person> sortedPersons = new LinkedList<>();
+        for (int i : order) {
+            sortedPersons.add(withMarks.get(i));
+        }
+        sortedPersons.addAll(withoutMarks);
+        return sortedPersons;
+    }
+
     /**
      * This function concatenates the group index count behind the given group name.
      * Index shown to user will start from 1.
@@ -256,101 +309,24 @@ public class DistributeUtil {
         return new Group(parseGroupName, parseGroupLocation, tags);
     }
 
-    /** This method creates a group. However it does not do a commit after addition of group.
-     *
-     * @param group : Group object to be created.
-     * @throws CommandException : if there exist another group with the same object.
-     */
-    public void createGroupWithoutCommit(Group group, Model model) throws CommandException {
-        requireAllNonNull(group, model);
-        CreateGroupCommand createGroupCommand = new CreateGroupCommand(group);
-        createGroupCommand.setShouldCommit(false);
-        createGroupCommand.execute(model, commandHistory);
-        createGroupCommand.setShouldCommit(true);
-    }
-
-    /** This method add a Person into a group. However it does not do a commit after addition into group.
-     *
-     * @param addGroup : AddGroup Object to be executed.
-     * @throws CommandException : When there is an Invalid Group or Person Index found.
-     */
-    public void addPersonIntoGroupWithoutCommit(AddGroup addGroup, Model model) throws CommandException {
-        requireAllNonNull(addGroup, model);
-        AddGroupCommand personToAdd = new AddGroupCommand(addGroup);
-        personToAdd.setShouldCommit(false);
-        personToAdd.execute(model, commandHistory);
-        personToAdd.setShouldCommit(true);
-    }
-
-    /**
-     * This method returns the index of the particular group in the address book.
-     *
-     * @param group : The group to search for.
-     * @return Return the Index value of the group.
-     */
-    public Index returnGroupIndex(Group group, Model model) {
-        requireAllNonNull(group, model);
-        ObservableList<Group> allGroups = model.getFilteredGroupList();
-        for (int i = 0; i < allGroups.size(); i++) {
-            if (group.isSameGroup(allGroups.get(i))) {
-                return Index.fromZeroBased(i);
-            }
-        }
-        return Index.fromZeroBased(0);
-    }
-
-    /**
-     * This method returns the index of the particular person in the address book.
-     *
-     * @param person : The person to search for.
-     * @return Return the Index value of the person.
-     */
-    public Index returnPersonIndex(Person person, Model model) {
-        requireAllNonNull(person, model);
-        ObservableList<Person> allPerson = model.getFilteredPersonList();
-        for (int i = 0; i < allPerson.size(); i++) {
-            if (person.isSamePerson(allPerson.get(i))) {
-                return Index.fromZeroBased(i);
-            }
-        }
-        return null;
-    }
-
-
     /**
      * This Method Create the require group by the user and add the specific person into the group.
-     * Works for multiple groups.
+     * Works for multiple groups. All the groups and their members are added to the model at once.
      *
      * @param groupArrayList : Total number of groups
      * @param groupName : Groupname set by the User
-     * @throws CommandException if Index of a group was return as 0.
+     * @throws CommandException if a group of the same name already exists.
      */
     public void distributeProcess(ArrayList<ArrayList<Person>> groupArrayList,
                                    String groupName) throws CommandException {
-        ObservableList<Person> allPerson = model.getFilteredPersonList();
+        Map<Group, Collection<Person>> assignments = new LinkedHashMap<>();
         for (int i = 0; i < groupArrayList.size(); i++) {
             String toCreateGroupName = groupNameConcatenation(i, groupName, model);
-            Group newGroup = groupBuilder(toCreateGroupName);
-            createGroupWithoutCommit(newGroup, model);
-            Index groupIndex = returnGroupIndex(newGroup, model);
-            requireNonNull(groupIndex);
-            logger.log(Level.INFO, "Preparing distribution of Students into Group " + toCreateGroupName
-                    + " with the Index of " + groupIndex.getOneBased());
             logger.log(Level.INFO, toCreateGroupName + " will contain " + groupArrayList.get(i).size()
                     + " person.");
-            for (int j = 0; j < groupArrayList.get(i).size(); j++) {
-                logger.log(Level.INFO, "Adding Person " + groupArrayList.get(i).get(j) + " into Group "
-                        + toCreateGroupName);
-                for (int k = 0; k < allPerson.size(); k++) {
-                    if (allPerson.get(k).equals(groupArrayList.get(i).get(j))) {
-                        Set<Index> personIndices = new HashSet<>();
-                        personIndices.add(Index.fromZeroBased(k));
-                        AddGroup addSinglePersonIntoGroup = new AddGroup(groupIndex, personIndices);
-                        addPersonIntoGroupWithoutCommit(addSinglePersonIntoGroup, model);
-                    }
-                }
-            }
+            assignments.put(groupBuilder(toCreateGroupName), groupArrayList.get(i));
         }
+        model.assignMembers(assignments);
     }
 
 }
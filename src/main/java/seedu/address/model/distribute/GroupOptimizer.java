@@ -0,0 +1,489 @@
+package seedu.address.model.distribute;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * Improves a distribution of persons into groups by swapping persons between groups, so as to minimise a weighted
+ * imbalance score over several objectives at once.
+ *
+ * Each objective is added with a weight. A category objective, such as gender, counts for each group and category
+ * the square of how far the number of persons of the category in the group is from the group's fair share of them.
+ * A mean objective, such as test marks, counts for each group the square of how far the sum of its persons' values
+ * is from the group's fair share, measured in standard deviations of the values. Swaps keep the group sizes as they
+ * are, so the groups given should already be of balanced sizes.
+ *
+ * The search is simulated annealing: random swaps are tried, and each is kept if it lowers the score, or with a
+ * probability that falls as the search cools if it raises it. Only the two groups of a swap change, so the change in
+ * score is worked out in constant time. Independent searches, the first from the groups given and the others from
+ * random shuffles of them, are run in parallel on the available processors, and the best groups any of them found are
+ * returned.
+ */
+public class GroupOptimizer {
+
+    /** The number of swaps tried per person in a search that is not stopped by its time budget. */
+    public static final int SWAPS_PER_PERSON = 2000;
+
+    private static final double START_TEMPERATURE = 2.0;
+    private static final double END_TEMPERATURE = 0.005;
+    /** How many swaps are tried between looks at the clock. */
+    private static final int SWAPS_PER_CLOCK_CHECK = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(GroupOptimizer.class);
+
+    private final List<Function<Person, ?>> categories = new ArrayList<>();
+    private final List<Double> categoryWeights = new ArrayList<>();
+    private final List<Function<Person, OptionalDouble>> means = new ArrayList<>();
+    private final List<Double> meanWeights = new ArrayList<>();
+    private final int parallelism;
+
+    public GroupOptimizer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an optimizer that runs {@code parallelism} searches at a time, one per thread.
+     */
+    public GroupOptimizer(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Adds the objective of spreading each value of {@code category} evenly over the groups.
+     */
+    public GroupOptimizer balanceCategory(Function<Person, ?> category, double weight) {
+        requireNonNull(category);
+        categories.add(category);
+        categoryWeights.add(weight);
+        return this;
+    }
+
+    /**
+     * Adds the objective of giving every group the same mean of {@code value}. Persons without a value count as having
+     * the mean value of all persons.
+     */
+    public GroupOptimizer balanceMean(Function<Person, OptionalDouble> value, double weight) {
+        requireNonNull(value);
+        means.add(value);
+        meanWeights.add(weight);
+        return this;
+    }
+
+    /**
+     * Returns the imbalance score of {@code groups}, zero for perfectly balanced groups.
+     */
+    public double score(List<? extends List<Person>> groups) {
+        requireNonNull(groups);
+        return new Problem(groups).newSearch(0).getScore();
+    }
+
+    /**
+     * Returns the best groups found by searching from {@code groups} for at most {@code timeBudgetMillis}
+     * milliseconds. The search cools by the number of swaps tried, so the same {@code seed} gives the same groups
+     * whenever every search finishes its swaps within the time budget.
+     */
+    public ArrayList<ArrayList<Person>> optimize(List<? extends List<Person>> groups, long timeBudgetMillis,
+                                                 long seed) {
+        requireNonNull(groups);
+        Problem problem = new Problem(groups);
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000;
+        SplittableRandom seeds = new SplittableRandom(seed);
+
+        List<Search> searches = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            Search search = problem.newSearch(seeds.nextLong());
+            if (i > 0) {
+                search.shuffle();
+            }
+            searches.add(search);
+        }
+        runAll(searches, deadline);
+
+        Search best = searches.get(0);
+        for (Search search : searches) {
+            logger.fine("Group optimizer search ended with score " + search.getBestScore());
+            if (search.getBestScore() < best.getBestScore()) {
+                best = search;
+            }
+        }
+        logger.info(String.format("Group optimizer improved score from %.3f to %.3f",
+                searches.get(0).getStartScore(), best.getBestScore()));
+        return problem.toGroups(best.getBestGroupOf());
+    }
+
+    /**
+     * Runs the searches, in parallel if there is more than one, until each has finished or {@code deadline} has passed.
+     */
+    private static void runAll(List<Search> searches, long deadline) {
+        if (searches.size() == 1) {
+            searches.get(0).run(deadline);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(searches.size(), runnable -> {
+            Thread thread = new Thread(runnable, "Group optimizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Search search : searches) {
+                futures.add(executor.submit(() -> search.run(deadline)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException(ee.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The persons to distribute, with their objective values encoded as numbers, shared by all searches.
+     */
+    private class Problem {
+        private final List<Person> persons = new ArrayList<>();
+        private final int[] startGroupOf;
+        private final int[] groupSizes;
+        /** The category of each person for each category objective, numbered from 0. */
+        private final int[][] categoryOf;
+        private final int[] categoryCounts;
+        /** The fair share of each group of each category, indexed by {@code group * categoryCount + category}. */
+        private final double[][] fairShares;
+        /** The value of each person for each mean objective, in standard deviations from the mean. */
+        private final double[][] standardScores;
+        private final double[] categoryWeight;
+        private final double[] meanWeight;
+
+        Problem(List<? extends List<Person>> groups) {
+            requireAllNonNull(groups);
+            groupSizes = new int[groups.size()];
+            List<Integer> groupOf = new ArrayList<>();
+            for (int group = 0; group < groups.size(); group++) {
+                for (Person p : groups.get(group)) {
+                    persons.add(requireNonNull(p));
+                    groupOf.add(group);
+                }
+                groupSizes[group] = groups.get(group).size();
+            }
+            startGroupOf = groupOf.stream().mapToInt(Integer::intValue).toArray();
+
+            categoryOf = new int[categories.size()][];
+            categoryCounts = new int[categories.size()];
+            fairShares = new double[categories.size()][];
+            for (int objective = 0; objective < categories.size(); objective++) {
+                encodeCategory(objective);
+            }
+            standardScores = new double[means.size()][];
+            for (int objective = 0; objective < means.size(); objective++) {
+                standardScores[objective] = standardise(means.get(objective));
+            }
+            categoryWeight = categoryWeights.stream().mapToDouble(Double::doubleValue).toArray();
+            meanWeight = meanWeights.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+
+        /**
+         * Numbers the categories of the category objective {@code objective} and works out their fair shares.
+         */
+        private void encodeCategory(int objective) {
+            Map<Object, Integer> numbers = new HashMap<>();
+            int[] numberOf = new int[persons.size()];
+            List<Integer> totals = new ArrayList<>();
+            for (int i = 0; i < persons.size(); i++) {
+                int number = numbers.computeIfAbsent(categories.get(objective).apply(persons.get(i)), category -> {
+                    totals.add(0);
+                    return totals.size() - 1;
+                });
+                numberOf[i] = number;
+                totals.set(number, totals.get(number) + 1);
+            }
+            int categoryCount = totals.size();
+            double[] shares = new double[groupSizes.length * categoryCount];
+            for (int group = 0; group < groupSizes.length; group++) {
+                for (int category = 0; category < categoryCount; category++) {
+                    shares[group * categoryCount + category] =
+                            (double) groupSizes[group] * totals.get(category) / persons.size();
+                }
+            }
+            categoryOf[objective] = numberOf;
+            categoryCounts[objective] = categoryCount;
+            fairShares[objective] = shares;
+        }
+
+        /**
+         * Returns the number of standard deviations each person's value is from the mean, or zero for persons without
+         * a value or if all values are the same.
+         */
+        private double[] standardise(Function<Person, OptionalDouble> value) {
+            double[] values = new double[persons.size()];
+            boolean[] hasValue = new boolean[persons.size()];
+            double sum = 0;
+            int count = 0;
+            for (int i = 0; i < persons.size(); i++) {
+                OptionalDouble personValue = value.apply(persons.get(i));
+                if (personValue.isPresent()) {
+                    values[i] = personValue.getAsDouble();
+                    hasValue[i] = true;
+                    sum += values[i];
+                    count++;
+                }
+            }
+            double mean = count == 0 ? 0 : sum / count;
+            double squares = 0;
+            for (int i = 0; i < persons.size(); i++) {
+                if (hasValue[i]) {
+                    squares += (values[i] - mean) * (values[i] - mean);
+                }
+            }
+            double standardDeviation = count == 0 ? 0 : Math.sqrt(squares / count);
+            double[] scores = new double[persons.size()];
+            for (int i = 0; i < persons.size(); i++) {
+                scores[i] = hasValue[i] && standardDeviation > 0 ? (values[i] - mean) / standardDeviation : 0;
+            }
+            return scores;
+        }
+
+        Search newSearch(long seed) {
+            return new Search(this, startGroupOf.clone(), new SplittableRandom(seed));
+        }
+
+        /**
+         * Returns the groups of the persons, given the group of each person.
+         */
+        ArrayList<ArrayList<Person>> toGroups(int[] groupOf) {
+            ArrayList<ArrayList<Person>> groups = new ArrayList<>(groupSizes.length);
+            for (int size : groupSizes) {
+                groups.add(new ArrayList<>(size));
+            }
+            for (int i = 0; i < groupOf.length; i++) {
+                groups.get(groupOf[i]).add(persons.get(i));
+            }
+            return groups;
+        }
+    }
+
+    /**
+     * One simulated annealing search, keeping its own assignment of persons to groups.
+     */
+    private class Search {
+        private final Problem problem;
+        private final int[] groupOf;
+        private final SplittableRandom random;
+        /** The number of persons of each category in each group, laid out as {@link Problem#fairShares}. */
+        private final int[][] counts;
+        /** The sum of the standard scores of the persons in each group for each mean objective. */
+        private final double[][] sums;
+        private final double startScore;
+        private double score;
+        private double bestScore;
+        /** A copy of the best assignment seen, or null while the current assignment is the best. */
+        private int[] bestGroupOf;
+
+        Search(Problem problem, int[] groupOf, SplittableRandom random) {
+            this.problem = problem;
+            this.groupOf = groupOf;
+            this.random = random;
+            counts = new int[categories.size()][];
+            sums = new double[means.size()][];
+            score = computeScore();
+            startScore = score;
+            bestScore = score;
+        }
+
+        /**
+         * Moves the persons to random groups, keeping the group sizes.
+         */
+        void shuffle() {
+            for (int i = groupOf.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int group = groupOf[i];
+                groupOf[i] = groupOf[j];
+                groupOf[j] = group;
+            }
+            score = computeScore();
+            bestScore = score;
+        }
+
+        double getScore() {
+            return score;
+        }
+
+        double getStartScore() {
+            return startScore;
+        }
+
+        double getBestScore() {
+            return bestScore;
+        }
+
+        /**
+         * Returns the group of each person in the best assignment found, once the search has been run.
+         */
+        int[] getBestGroupOf() {
+            return groupOf;
+        }
+
+        /**
+         * Works out the counts, sums and score of the current assignment from scratch.
+         */
+        private double computeScore() {
+            int groupCount = problem.groupSizes.length;
+            double total = 0;
+            for (int objective = 0; objective < categories.size(); objective++) {
+                int categoryCount = problem.categoryCounts[objective];
+                counts[objective] = new int[groupCount * categoryCount];
+                for (int i = 0; i < groupOf.length; i++) {
+                    counts[objective][groupOf[i] * categoryCount + problem.categoryOf[objective][i]]++;
+                }
+                double squares = 0;
+                for (int cell = 0; cell < counts[objective].length; cell++) {
+                    double deviation = counts[objective][cell] - problem.fairShares[objective][cell];
+                    squares += deviation * deviation;
+                }
+                total += problem.categoryWeight[objective] * squares;
+            }
+            for (int objective = 0; objective < means.size(); objective++) {
+                sums[objective] = new double[groupCount];
+                for (int i = 0; i < groupOf.length; i++) {
+                    sums[objective][groupOf[i]] += problem.standardScores[objective][i];
+                }
+                double squares = 0;
+                for (double sum : sums[objective]) {
+                    squares += sum * sum;
+                }
+                total += problem.meanWeight[objective] * squares;
+            }
+            return total;
+        }
+
+        /**
+         * Tries swaps until the search has cooled down or {@code deadline} has passed. The deadline only stops the
+         * search early; it does not change how fast it cools.
+         */
+        void run(long deadline) {
+            int personCount = groupOf.length;
+            if (problem.groupSizes.length < 2 || personCount < 2) {
+                return;
+            }
+            long maxSwaps = (long) SWAPS_PER_PERSON * personCount;
+            double temperature = START_TEMPERATURE;
+            for (long swap = 0; swap < maxSwaps; swap++) {
+                if (swap % SWAPS_PER_CLOCK_CHECK == 0) {
+                    if (System.nanoTime() >= deadline) {
+                        break;
+                    }
+                    // the search cools by the swaps tried, never by the time taken, so that a seed repeats
+                    double progress = (double) swap / maxSwaps;
+                    temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+                }
+                int a = random.nextInt(personCount);
+                int b = random.nextInt(personCount);
+                if (groupOf[a] == groupOf[b]) {
+                    continue;
+                }
+                double delta = getSwapDelta(a, b);
+                if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                    accept(a, b, delta);
+                }
+            }
+            if (bestGroupOf != null) {
+                System.arraycopy(bestGroupOf, 0, groupOf, 0, groupOf.length);
+                bestGroupOf = null;
+            }
+            // the score is updated incrementally, so it is worked out again to leave out any rounding drift
+            score = computeScore();
+            bestScore = score;
+        }
+
+        /**
+         * Returns the change in score from swapping the groups of persons {@code a} and {@code b}.
+         */
+        private double getSwapDelta(int a, int b) {
+            int groupA = groupOf[a];
+            int groupB = groupOf[b];
+            double delta = 0;
+            for (int objective = 0; objective < categories.size(); objective++) {
+                int categoryA = problem.categoryOf[objective][a];
+                int categoryB = problem.categoryOf[objective][b];
+                if (categoryA == categoryB) {
+                    continue;
+                }
+                int categoryCount = problem.categoryCounts[objective];
+                int[] count = counts[objective];
+                double[] share = problem.fairShares[objective];
+                int cellAa = groupA * categoryCount + categoryA;
+                int cellAb = groupA * categoryCount + categoryB;
+                int cellBa = groupB * categoryCount + categoryA;
+                int cellBb = groupB * categoryCount + categoryB;
+                // group A loses one of category A and gains one of category B, and group B the other way round;
+                // moving a deviation d by one changes its square by 1 - 2d or 1 + 2d
+                double change = 4
+                        - 2 * (count[cellAa] - share[cellAa]) + 2 * (count[cellAb] - share[cellAb])
+                        + 2 * (count[cellBa] - share[cellBa]) - 2 * (count[cellBb] - share[cellBb]);
+                delta += problem.categoryWeight[objective] * change;
+            }
+            for (int objective = 0; objective < means.size(); objective++) {
+                double difference = problem.standardScores[objective][b] - problem.standardScores[objective][a];
+                double[] sum = sums[objective];
+                double change = 2 * difference * (sum[groupA] - sum[groupB]) + 2 * difference * difference;
+                delta += problem.meanWeight[objective] * change;
+            }
+            return delta;
+        }
+
+        /**
+         * Swaps the groups of persons {@code a} and {@code b}, keeping a copy of the best assignment seen.
+         */
+        private void accept(int a, int b, double delta) {
+            if (delta > 0 && bestGroupOf == null) {
+                // the current assignment is the best seen and is about to be left
+                bestGroupOf = groupOf.clone();
+            }
+            int groupA = groupOf[a];
+            int groupB = groupOf[b];
+            for (int objective = 0; objective < categories.size(); objective++) {
+                int categoryCount = problem.categoryCounts[objective];
+                int[] count = counts[objective];
+                count[groupA * categoryCount + problem.categoryOf[objective][a]]--;
+                count[groupB * categoryCount + problem.categoryOf[objective][a]]++;
+                count[groupB * categoryCount + problem.categoryOf[objective][b]]--;
+                count[groupA * categoryCount + problem.categoryOf[objective][b]]++;
+            }
+            for (int objective = 0; objective < means.size(); objective++) {
+                double difference = problem.standardScores[objective][b] - problem.standardScores[objective][a];
+                sums[objective][groupA] += difference;
+                sums[objective][groupB] -= difference;
+            }
+            groupOf[a] = groupB;
+            groupOf[b] = groupA;
+            score += delta;
+            if (score < bestScore) {
+                bestScore = score;
+                bestGroupOf = null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.distribute;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Distributes persons into groups so that each group gets a balanced share of every combination of the given
+ * attributes, such as gender and nationality.
+ *
+ * The persons are first split into strata, one for each combination of attribute values. The strata are ordered
+ * attribute by attribute, so that all strata sharing a value of the first attribute are next to each other, and so on
+ * for the following attributes, with the larger values before the smaller ones at each level. The strata are then
+ * dealt in that order in a snake order across the groups, from the first group to the last and back again, carrying
+ * on from where the previous stratum ended. As the snake never gives a group a second person before every other group
+ * has had its turn, group sizes differ by at most one, and each attribute value is spread evenly over the groups.
+ * Both steps take time linear in the number of persons, apart from sorting the distinct values of each attribute.
+ */
+public class StratifiedDistribution {
+
+    private final List<Function<Person, ?>> attributes;
+
+    /**
+     * Creates a distribution balancing the given attributes, the most important first.
+     */
+    public StratifiedDistribution(List<Function<Person, ?>> attributes) {
+        requireNonNull(attributes);
+        this.attributes = new ArrayList<>(attributes);
+    }
+
+    /**
+     * Returns the strata of {@code persons} in the order they are dealt. Each stratum keeps its persons in the order
+     * they appear in {@code persons}.
+     */
+    public List<List<Person>> stratify(List<Person> persons) {
+        requireNonNull(persons);
+        List<List<Person>> strata = new ArrayList<>();
+        if (!persons.isEmpty()) {
+            addStrata(persons, 0, strata);
+        }
+        return strata;
+    }
+
+    /**
+     * Distributes {@code persons} into {@code numOfGroups} groups.
+     *
+     * @throws IllegalArgumentException if {@code numOfGroups} is not positive.
+     */
+    public ArrayList<ArrayList<Person>> distribute(List<Person> persons, int numOfGroups) {
+        requireNonNull(persons);
+        if (numOfGroups <= 0) {
+            throw new IllegalArgumentException("Number of groups must be positive");
+        }
+        ArrayList<ArrayList<Person>> groupArrayList = new ArrayList<>(numOfGroups);
+        for (int i = 0; i < numOfGroups; i++) {
+            groupArrayList.add(new ArrayList<>());
+        }
+        int turn = 0;
+        for (List<Person> stratum : stratify(persons)) {
+            for (Person p : stratum) {
+                groupArrayList.get(getSnakeGroup(turn, numOfGroups)).add(p);
+                turn = (turn + 1) % (2 * numOfGroups);
+            }
+        }
+        return groupArrayList;
+    }
+
+    /**
+     * Returns the group that gets the person dealt on the given turn of a snake order over {@code numOfGroups}
+     * groups, where turns {@code 0} to {@code 2 * numOfGroups - 1} make one round there and back.
+     */
+    static int getSnakeGroup(int turn, int numOfGroups) {
+        return turn < numOfGroups ? turn : 2 * numOfGroups - 1 - turn;
+    }
+
+    /**
+     * Splits {@code persons} by the attribute at {@code level} and each attribute after it, adding the strata found
+     * to {@code strata} in order.
+     */
+    private void addStrata(List<Person> persons, int level, List<List<Person>> strata) {
+        if (level == attributes.size()) {
+            strata.add(persons);
+            return;
+        }
+        Function<Person, ?> attribute = attributes.get(level);
+        Map<Object, List<Person>> byValue = new LinkedHashMap<>();
+        for (Person p : persons) {
+            byValue.computeIfAbsent(attribute.apply(p), value -> new ArrayList<>()).add(p);
+        }
+        List<List<Person>> parts = new ArrayList<>(byValue.values());
+        // stable, so values of the same size keep the order they were first seen in
+        parts.sort(Collections.reverseOrder(Comparator.comparingInt(List::size)));
+        for (List<Person> part : parts) {
+            addStrata(part, level + 1, strata);
+        }
+    }
+
+}
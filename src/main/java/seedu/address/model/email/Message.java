@@ -2,6 +2,7 @@ package seedu.address.model.email;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isSingleLine;
 
 /**
  * Represents a email message for EmailUtil.
@@ -11,7 +12,8 @@ public class Message {
 
     public static final String MESSAGE_MESSAGE_CONSTRAINTS =
             "Message content has exceeded permissible size limit.";
-    public static final String MESSAGE_VALIDATION_REGEX = "^.{0,25000000}$";
+    public static final int MAX_MESSAGE_LENGTH = 25000000;
+    public static final String MESSAGE_VALIDATION_REGEX = "^.{0," + MAX_MESSAGE_LENGTH + "}$";
     public final String value;
 
     /**
@@ -29,7 +31,7 @@ public class Message {
      * Returns true if a given string is a valid message.
      */
     public static boolean isValidMessage(String test) {
-        return test.matches(MESSAGE_VALIDATION_REGEX);
+        return isSingleLine(test, MAX_MESSAGE_LENGTH);
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.model.email;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isSingleLine;
 
 /**
  * Represents a email subject for EmailUtil.
@@ -12,7 +13,8 @@ public class Subject {
     public static final String MESSAGE_SUBJECT_CONSTRAINTS =
             "Email subject has no character limit (RFC 2822), "
                     + "however to prevent folding of subject, 78 characters is enforced.";
-    public static final String SUBJECT_VALIDATION_REGEX = "^.{0,78}$";
+    public static final int MAX_SUBJECT_LENGTH = 78;
+    public static final String SUBJECT_VALIDATION_REGEX = "^.{0," + MAX_SUBJECT_LENGTH + "}$";
     public final String value;
 
     /**
@@ -30,7 +32,7 @@ public class Subject {
      * Returns true if a given string is a valid subject header.
      */
     public static boolean isValidSubject(String test) {
-        return test.matches(SUBJECT_VALIDATION_REGEX);
+        return isSingleLine(test, MAX_SUBJECT_LENGTH);
     }
 
     @Override
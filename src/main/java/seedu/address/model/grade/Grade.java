@@ -2,6 +2,9 @@ package seedu.address.model.grade;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isSingleLine;
+
+import seedu.address.commons.util.Interner;
 
 
 /**
@@ -12,6 +15,8 @@ public class Grade {
     public static final String MESSAGE_GRADE_CONSTRAINTS =
             "Grades only A,B,....D and F";
     public static final String GRADE_VALIDATION_REGEX = ".*";
+    private static final Interner<Grade> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -25,11 +30,27 @@ public class Grade {
         value = grade;
     }
 
+    /**
+     * Returns the shared {@code Grade} for {@code grade}.
+     *
+     * @param grade A valid grade.
+     */
+    public static Grade of(String grade) {
+        return intern(new Grade(grade));
+    }
+
+    /**
+     * Returns the shared {@code Grade} equal to {@code grade}.
+     */
+    public static Grade intern(Grade grade) {
+        return INTERNER.intern(grade);
+    }
+
     /**
      * Returns true if a given string is a valid grade number.
      */
     public static boolean isValidGrade(String test) {
-        return test.matches(GRADE_VALIDATION_REGEX);
+        return isSingleLine(test, Integer.MAX_VALUE);
     }
 
     @Override
@@ -2,6 +2,11 @@ package seedu.address.model.grade;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isDecimal;
+import static seedu.address.commons.util.ValidationUtil.lookupTable;
+
+import java.util.Set;
+
 //@@author clara1234566
 /**
  * Represents a Marks in the address book.
@@ -13,6 +18,10 @@ public class Marks {
     public static final String MESSAGE_MARKS_CONSTRAINTS =
             "marks should be >=0 && <= 100 and does not  contain any space";
     public static final String MARKS_VALIDATION_REGEX = "^(?:100(?:\\.00?)?|\\d?\\d(?:\\.\\d\\d?)?)$";
+
+    /** The forms of full marks accepted by {@link #MARKS_VALIDATION_REGEX}; other marks have at most two digits. */
+    private static final Set<String> FULL_MARKS = lookupTable("100", "100.0", "100.00");
+
     public final String value;
 
     /**
@@ -30,7 +39,7 @@ public class Marks {
      * Returns true if a given string is a valid mark number.
      */
     public static boolean isValidMarks(String test) {
-        return test.matches(MARKS_VALIDATION_REGEX);
+        return isDecimal(test, 2, 2) || FULL_MARKS.contains(test);
     }
 
     @Override
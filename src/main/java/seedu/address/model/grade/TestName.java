@@ -2,6 +2,9 @@ package seedu.address.model.grade;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericWords;
+
+import seedu.address.commons.util.Interner;
 /**
  * Represents a TestName in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -12,6 +15,8 @@ public class TestName {
             + "certain characters such as '[', ']' and '-' and should it not be blank or contain space";
 
     public static final String TEST_NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Interner<TestName> INTERNER = new Interner<>();
+
     public final String testName;
 
     /**
@@ -25,12 +30,28 @@ public class TestName {
         this.testName = testName;
     }
 
+    /**
+     * Returns the shared {@code TestName} for {@code testName}.
+     *
+     * @param testName A valid test name.
+     */
+    public static TestName of(String testName) {
+        return intern(new TestName(testName));
+    }
+
+    /**
+     * Returns the shared {@code TestName} equal to {@code testName}.
+     */
+    public static TestName intern(TestName testName) {
+        return INTERNER.intern(testName);
+    }
+
     /**
      * Returns true if a given string is a valid test name.
      */
     public static boolean isValidTestName(String test) {
 
-        return test.matches(TEST_NAME_VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
     @Override
@@ -5,15 +5,20 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a group in the address book.
+ * Members are referred to by their {@code PersonId} and are kept in the order they were added.
  * Guarantees: Details are present and not null, field values are validated.
  */
 public class Group {
@@ -27,7 +32,7 @@ public class Group {
     private final Set<Tag> tags = new HashSet<>();
 
     // Data Fields
-    private final Set<Person> persons = new HashSet<>();
+    private final Set<PersonId> personIds = new LinkedHashSet<>();
 
     /**
      * Receives group details.
@@ -72,13 +77,24 @@ public class Group {
     }
 
     /**
-     * Returns an immutable person set, which throws {@code UnsupportedOperationException}
+     * Returns an immutable set of the ids of the group members, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      *
-     * @return Person Set.
+     * @return Person id Set.
      */
-    public Set<Person> getPersons() {
-        return Collections.unmodifiableSet(persons);
+    public Set<PersonId> getPersonIds() {
+        return Collections.unmodifiableSet(personIds);
+    }
+
+    /**
+     * Returns true if the person is a member of the group.
+     *
+     * @param person Person to check for.
+     * @return Check result.
+     */
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return personIds.contains(person.getId());
     }
 
     /**
@@ -88,7 +104,7 @@ public class Group {
      */
     public void addPersons(Person persons) {
         requireNonNull(persons);
-        this.persons.add(persons);
+        this.personIds.add(persons.getId());
     }
 
     /**
@@ -98,7 +114,17 @@ public class Group {
      */
     public void addPersons(Set<Person> persons) {
         requireNonNull(persons);
-        this.persons.addAll(persons);
+        persons.forEach(this::addPersons);
+    }
+
+    /**
+     * Adds the persons with the given ids to the group.
+     *
+     * @param personIds Ids of the persons to add.
+     */
+    public void addPersonIds(Collection<PersonId> personIds) {
+        requireNonNull(personIds);
+        this.personIds.addAll(personIds);
     }
 
     /**
@@ -139,7 +165,18 @@ public class Group {
         return otherGroup.getGroupName().equals(getGroupName())
                 && otherGroup.getGroupLocation().equals(getGroupLocation())
                 && otherGroup.getTags().equals(getTags())
-                && otherGroup.getPersons().equals(getPersons());
+                && otherGroup.getPersonIds().equals(getPersonIds());
+    }
+
+    /**
+     * Returns a hash code over the identity fields only, so that it stays the same as members are added or removed
+     * while the group is a key of a hash map.
+     *
+     * @return Hash code of the group.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(groupName, groupLocation, tags);
     }
 
     /**
@@ -2,6 +2,7 @@ package seedu.address.model.group;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
 
 /**
  * Represents a Group's location in the address book.
@@ -34,7 +35,7 @@ public class GroupLocation {
     }
 
     public static boolean isValidGroupLocation(String test) {
-        return test.matches(LOCATION_VALIDATION_REGEX);
+        return isAlphanumeric(test, "-");
     }
 
     @Override
@@ -49,4 +50,9 @@ public class GroupLocation {
                 && groupLocation.equals(((GroupLocation) other).groupLocation)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return groupLocation.hashCode();
+    }
+
 }
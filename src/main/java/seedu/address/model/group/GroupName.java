@@ -2,6 +2,7 @@ package seedu.address.model.group;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
 
 /**
  * Represents a Group's Name in the address book.
@@ -37,7 +38,7 @@ public class GroupName {
      * Returns true if a given string is a valid group name.
      */
     public static boolean isValidGroupName(String test) {
-        return test.matches(GROUP_NAME_VALIDATION_REGEX);
+        return isAlphanumeric(test, "-[]");
     }
 
     @Override
@@ -52,4 +53,9 @@ public class GroupName {
                 && groupName.equals(((GroupName) other).groupName)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return groupName.hashCode();
+    }
+
 }
@@ -5,16 +5,23 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
@@ -28,6 +35,11 @@ import seedu.address.model.tag.Tag;
  * However, the removal of a Group uses Group#equals(Object) so
  * as to ensure that the group with exactly the same fields will be removed.
  *
+ * The position of every group in the internal list is kept in a map keyed by its identity fields,
+ * so that identity checks and in-place replacement of groups do not scan the list or compare member sets.
+ * Groups refer to their members by {@code PersonId}, and the list keeps the reverse index from each member to the
+ * groups it belongs to, so that a person can be taken out of all of their groups without scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Group#isSameGroup(Group).
@@ -35,6 +47,8 @@ import seedu.address.model.tag.Tag;
 public class UniqueGroupList implements Iterable<Group> {
 
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
+    private final Map<GroupKey, Integer> positions = new HashMap<>();
+    private final Map<PersonId, Set<GroupKey>> memberships = new HashMap<>();
 
     /**
      * Returns true if the internal list contains an equivalent group as the given argument.
@@ -44,7 +58,7 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameGroup);
+        return positions.containsKey(new GroupKey(toCheck));
     }
 
     /**
@@ -56,12 +70,9 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public boolean contains(AddGroup toCheck) {
         requireNonNull(toCheck);
-        for (Group g : internalList) {
-            if (g.isSameGroup(toCheck.getGroup())) {
-                return contains(g, toCheck);
-            }
-        }
-        return false;
+        // getGroup() throws until the group of toCheck is set, so it is not asked for while there is none to match
+        Integer index = internalList.isEmpty() ? null : positions.get(new GroupKey(toCheck.getGroup()));
+        return index != null && contains(internalList.get(index), toCheck);
     }
 
     /**
@@ -74,11 +85,9 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public boolean contains(Group group, AddGroup toCheck) {
         requireAllNonNull(group, toCheck);
-        for (Person p : group.getPersons()) {
-            for (Person p2 : toCheck.getPersonSet()) {
-                if (p.equals(p2)) {
-                    return true;
-                }
+        for (Person p : toCheck.getPersonSet()) {
+            if (group.hasPerson(p)) {
+                return true;
             }
         }
         return false;
@@ -95,7 +104,31 @@ public class UniqueGroupList implements Iterable<Group> {
         if (contains(toCreate)) {
             throw new DuplicateGroupException();
         }
+        positions.put(new GroupKey(toCreate), internalList.size());
         internalList.add(toCreate);
+        indexMembers(toCreate, memberships);
+    }
+
+    /**
+     * Adds groups to the end of the internal list at once.
+     * None of the groups may already exist in the list or appear twice, or none of them is added.
+     *
+     * @param toCreate Groups to be added.
+     */
+    public void createGroups(List<Group> toCreate) {
+        requireAllNonNull(toCreate);
+        Map<GroupKey, Integer> newPositions = new HashMap<>();
+        for (Group group : toCreate) {
+            GroupKey key = new GroupKey(group);
+            if (positions.containsKey(key)
+                    || newPositions.putIfAbsent(key, internalList.size() + newPositions.size()) != null) {
+                throw new DuplicateGroupException();
+            }
+        }
+
+        positions.putAll(newPositions);
+        internalList.addAll(toCreate);
+        toCreate.forEach(group -> indexMembers(group, memberships));
     }
 
     /**
@@ -106,9 +139,16 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void remove(Group toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.get(new GroupKey(toRemove));
+        if (index == null || !internalList.get(index).equals(toRemove)) {
             throw new GroupNotFoundException();
         }
+
+        positions.remove(new GroupKey(toRemove));
+        unindexMembers(internalList.remove((int) index));
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(new GroupKey(internalList.get(i)), i);
+        }
     }
 
     /**
@@ -121,23 +161,36 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void removeGroupPerson(Group group, Person toRemove) {
         requireAllNonNull(group, toRemove);
-        int index = internalList.indexOf(group);
+        int index = indexOf(group);
 
         if (index == -1) {
             throw new GroupNotFoundException();
-        } else if (!group.getPersons().contains(toRemove)) {
+        }
+
+        Group target = internalList.get(index);
+        if (!target.hasPerson(toRemove)) {
             throw new PersonNotFoundException();
         }
 
-        Set<Person> personSet = new HashSet<>();
-        for (Person p : group.getPersons()) {
-            if (!p.equals(toRemove)) {
-                personSet.add(p);
-            }
+        replace(index, withoutMember(target, toRemove.getId()));
+    }
+
+    /**
+     * Removes a person from every group in the list that the person belongs to.
+     *
+     * @param toRemove Person to be removed.
+     */
+    public void removePerson(Person toRemove) {
+        requireNonNull(toRemove);
+        Set<GroupKey> keys = memberships.get(toRemove.getId());
+        if (keys == null) {
+            return;
         }
 
-        Group editedGroup = createEditedGroup(group, personSet, false);
-        internalList.set(index, editedGroup);
+        for (GroupKey key : new ArrayList<>(keys)) {
+            int index = positions.get(key);
+            replace(index, withoutMember(internalList.get(index), toRemove.getId()));
+        }
     }
 
     /**
@@ -163,14 +216,13 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void addPersons(AddGroup toAdd) {
         requireNonNull(toAdd);
-        Group target = toAdd.getGroup();
-        Group editedGroup = createEditedGroup(target, toAdd.getPersonSet(), true);
-        int index = internalList.indexOf(target);
+        int index = indexOf(toAdd.getGroup());
 
         if (index == -1) {
             throw new GroupNotFoundException();
         }
-        internalList.set(index, editedGroup);
+        Group editedGroup = createEditedGroup(internalList.get(index), toAdd.getPersonSet(), true);
+        replace(index, editedGroup);
     }
 
     /**
@@ -188,7 +240,7 @@ public class UniqueGroupList implements Iterable<Group> {
         Group editedGroup = new Group (new GroupName(target.getGroupName().groupName),
                 new GroupLocation(target.getGroupLocation().groupLocation), editedGroupTagSet);
         if (addPerson) {
-            editedGroup.addPersons(target.getPersons());
+            editedGroup.addPersonIds(target.getPersonIds());
         }
         editedGroup.addPersons(personSet);
 
@@ -203,11 +255,59 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void setGroups(List<Group> groups) {
         requireAllNonNull(groups);
-        if (!groupsAreUnique(groups)) {
-            throw new DuplicateGroupException();
+        Map<GroupKey, Integer> newPositions = new HashMap<>();
+        for (int i = 0; i < groups.size(); i++) {
+            if (newPositions.putIfAbsent(new GroupKey(groups.get(i)), i) != null) {
+                throw new DuplicateGroupException();
+            }
         }
 
+        Map<PersonId, Set<GroupKey>> newMemberships = new HashMap<>();
+        groups.forEach(group -> indexMembers(group, newMemberships));
+
         internalList.setAll(groups);
+        positions.clear();
+        positions.putAll(newPositions);
+        memberships.clear();
+        memberships.putAll(newMemberships);
+    }
+
+    /**
+     * Replaces the groups from position {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * No two groups in the resulting list may have the same identity fields, or nothing is replaced.
+     * Groups outside of the range are not moved or reindexed unless the number of groups changes.
+     *
+     * @param from Position of the first group to replace.
+     * @param to Position after the last group to replace.
+     * @param replacement Groups to put in their place.
+     */
+    public void replaceRange(int from, int to, List<Group> replacement) {
+        requireAllNonNull(replacement);
+        List<Group> replaced = new ArrayList<>(internalList.subList(from, to));
+        Set<GroupKey> replacedKeys = replaced.stream().map(GroupKey::new).collect(Collectors.toSet());
+        Set<GroupKey> newKeys = new HashSet<>();
+        for (Group group : replacement) {
+            GroupKey key = new GroupKey(group);
+            if (!newKeys.add(key) || (positions.containsKey(key) && !replacedKeys.contains(key))) {
+                throw new DuplicateGroupException();
+            }
+        }
+
+        replacedKeys.forEach(positions::remove);
+        replaced.forEach(this::unindexMembers);
+        if (replacement.size() == replaced.size()) {
+            for (int i = 0; i < replacement.size(); i++) {
+                internalList.set(from + i, replacement.get(i));
+            }
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, replacement);
+        }
+        replacement.forEach(group -> indexMembers(group, memberships));
+        int end = replacement.size() == replaced.size() ? from + replacement.size() : internalList.size();
+        for (int i = from; i < end; i++) {
+            positions.put(new GroupKey(internalList.get(i)), i);
+        }
     }
 
     /**
@@ -243,19 +343,97 @@ public class UniqueGroupList implements Iterable<Group> {
     }
 
     /**
-     * Returns true if {@code groups} contains only unique groups.
+     * Returns the position of the group with the same identity fields as {@code group}, or -1 if there is none.
      *
-     * @param groups Groups to check for uniqueness.
-     * @return Comparison result.
+     * @param group Group to look for.
+     * @return Position in the internal list.
+     */
+    private int indexOf(Group group) {
+        Integer index = positions.get(new GroupKey(group));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Replaces the group at {@code index} with {@code editedGroup}, which must have the same identity fields.
+     *
+     * @param index Position in the internal list.
+     * @param editedGroup Group to replace with.
+     */
+    private void replace(int index, Group editedGroup) {
+        unindexMembers(internalList.get(index));
+        internalList.set(index, editedGroup);
+        indexMembers(editedGroup, memberships);
+    }
+
+    /**
+     * Returns a copy of {@code target} without the member {@code personId}.
+     *
+     * @param target Group to copy.
+     * @param personId Id of the member to leave out.
+     * @return Edited group.
+     */
+    private Group withoutMember(Group target, PersonId personId) {
+        Group editedGroup = createEditedGroup(target, Collections.emptySet(), false);
+        editedGroup.addPersonIds(target.getPersonIds().stream()
+                .filter(id -> !id.equals(personId))
+                .collect(Collectors.toList()));
+        return editedGroup;
+    }
+
+    /**
+     * Records {@code group} in {@code index} as a group of each of its members.
+     *
+     * @param group Group to record.
+     * @param index Index from person id to the groups of that person.
+     */
+    private static void indexMembers(Group group, Map<PersonId, Set<GroupKey>> index) {
+        GroupKey key = new GroupKey(group);
+        for (PersonId personId : group.getPersonIds()) {
+            index.computeIfAbsent(personId, unused -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes {@code group} from the groups of each of its members.
+     *
+     * @param group Group to remove.
      */
-    private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
+    private void unindexMembers(Group group) {
+        GroupKey key = new GroupKey(group);
+        for (PersonId personId : group.getPersonIds()) {
+            Set<GroupKey> keys = memberships.get(personId);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                memberships.remove(personId);
             }
         }
-        return true;
+    }
+
+    /**
+     * Identity fields of a {@code Group}, used as a hash key.
+     */
+    private static final class GroupKey {
+        private final GroupName groupName;
+        private final GroupLocation groupLocation;
+        private final Set<Tag> tags;
+
+        private GroupKey(Group group) {
+            this.groupName = group.getGroupName();
+            this.groupLocation = group.getGroupLocation();
+            this.tags = group.getTags();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof GroupKey // instanceof handles nulls
+                    && groupName.equals(((GroupKey) other).groupName)
+                    && groupLocation.equals(((GroupKey) other).groupLocation)
+                    && tags.equals(((GroupKey) other).tags));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupName, groupLocation, tags);
+        }
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isSingleLine;
+import static seedu.address.commons.util.ValidationUtil.isWhitespace;
 
 /**
  * Represents a Person's address in the address book.
@@ -35,7 +37,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX);
+        return !test.isEmpty() && !isWhitespace(test.charAt(0)) && isSingleLine(test, 1, Integer.MAX_VALUE);
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
 
 /**
  * Represents a Person's email in the address book.
@@ -26,6 +27,9 @@ public class Email {
     private static final String DOMAIN_LAST_CHARACTER_REGEX = "[^\\W_]$";
     public static final String EMAIL_VALIDATION_REGEX = LOCAL_PART_REGEX + "@"
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
+    // the symbols allowed besides alphanumeric characters by LOCAL_PART_REGEX and DOMAIN_MIDDLE_REGEX
+    private static final String LOCAL_PART_SYMBOLS = "_" + SPECIAL_CHARACTERS;
+    private static final String DOMAIN_SYMBOLS = ".-";
 
     public final String value;
 
@@ -44,7 +48,13 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(EMAIL_VALIDATION_REGEX);
+        // the local-part cannot contain '@', so the first '@' ends it
+        int at = test.indexOf('@');
+        int last = test.length() - 1;
+        return at > 0 && last - at >= 2
+                && isAlphanumeric(test, 0, at, LOCAL_PART_SYMBOLS)
+                && isAlphanumeric(test.charAt(at + 1)) && isAlphanumeric(test.charAt(last))
+                && isAlphanumeric(test, at + 1, test.length(), DOMAIN_SYMBOLS);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's Gender in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isInputAccepted(String)}
@@ -18,6 +20,8 @@ public class Gender {
     public static final String VALID_GENDER_ABBREVIATION_MALE = "M";
     public static final String VALID_GENDER_ABBREVIATION_FEMALE = "F";
 
+    private static final Interner<Gender> INTERNER = new Interner<>();
+
     public final String gender;
 
     /**
@@ -34,6 +38,22 @@ public class Gender {
         this.gender = gender;
     }
 
+    /**
+     * Returns the shared {@code Gender} for {@code gender}.
+     *
+     * @param gender A valid gender
+     */
+    public static Gender of(String gender) {
+        return intern(new Gender(gender));
+    }
+
+    /**
+     * Returns the shared {@code Gender} equal to {@code gender}.
+     */
+    public static Gender intern(Gender gender) {
+        return INTERNER.intern(gender);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      * Accepted Valid Strings are : "MALE"
@@ -2,6 +2,12 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericWords;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Represents a Person's name in the address book.
@@ -20,6 +26,9 @@ public class Name {
 
     public final String fullName;
 
+    /** The words of the name in lower case, split once here so that name searches need not split it again. */
+    private final List<String> words;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,15 +38,35 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_NAME_CONSTRAINTS);
         fullName = name;
+        words = splitWords(name);
+    }
+
+    /**
+     * Returns the non-empty space-separated words of {@code name}, in lower case.
+     */
+    private static List<String> splitWords(String name) {
+        List<String> words = new ArrayList<>();
+        for (String word : name.toLowerCase(Locale.ROOT).split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return Collections.unmodifiableList(words);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
+    /**
+     * Returns the words of the name in lower case, in the order they appear.
+     */
+    public List<String> getWords() {
+        return words;
+    }
 
     @Override
     public String toString() {
@@ -1,31 +1,138 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a word of the name ignoring case. A keyword ending in {@value #PREFIX_MARKER} matches any word
+ * starting with the rest of the keyword, and a keyword ending in {@value #TYPO_MARKER} also matches words that are
+ * one typo away from the rest of the keyword. Predicates made by {@link #ofWholeWords(List)} take no markers.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+    public static final char PREFIX_MARKER = '*';
+    public static final char TYPO_MARKER = '~';
+
     private final List<String> keywords;
+    private final boolean isMarkerAllowed;
+    private final List<Keyword> parsedKeywords = new ArrayList<>();
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, true);
+    }
+
+    private NameContainsKeywordsPredicate(List<String> keywords, boolean isMarkerAllowed) {
         this.keywords = keywords;
+        this.isMarkerAllowed = isMarkerAllowed;
+        keywords.forEach(keyword -> parsedKeywords.add(new Keyword(keyword, isMarkerAllowed)));
+    }
+
+    /**
+     * Returns a predicate matching the keywords as whole words only, so that a name typed in full is never widened
+     * by a trailing {@value #PREFIX_MARKER} or {@value #TYPO_MARKER}.
+     */
+    public static NameContainsKeywordsPredicate ofWholeWords(List<String> keywords) {
+        return new NameContainsKeywordsPredicate(keywords, false);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        List<String> words = person.getName().getWords();
+        return parsedKeywords.stream().anyMatch(keyword -> words.stream().anyMatch(keyword::matches));
+    }
+
+    /**
+     * Returns the persons in {@code personIndex} that match any of the keywords, looked up through the index instead
+     * of by testing every person.
+     */
+    public List<Person> getMatchingPersons(PersonIndex personIndex) {
+        Set<Person> matches = new LinkedHashSet<>();
+        parsedKeywords.forEach(keyword -> matches.addAll(keyword.lookUp(personIndex)));
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match any of the keywords, in the order of {@code persons}.
+     * {@code persons} must be the persons indexed by {@code personIndex}. The matches are looked up through the
+     * index, and {@code persons} is only scanned to put them in order when there is more than one.
+     */
+    public List<Person> getMatchingPersons(PersonIndex personIndex, List<Person> persons) {
+        List<Person> matches = getMatchingPersons(personIndex);
+        if (matches.size() < 2) {
+            return matches;
+        }
+        Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchSet.addAll(matches);
+        List<Person> orderedMatches = new ArrayList<>(matches.size());
+        for (Person person : persons) {
+            if (matchSet.contains(person)) {
+                orderedMatches.add(person);
+            }
+        }
+        return orderedMatches;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof NameContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
+                && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)
+                && isMarkerAllowed == ((NameContainsKeywordsPredicate) other).isMarkerAllowed); // state check
     }
 
+    /**
+     * A keyword split into the lower-cased text to match and the kind of match asked for.
+     */
+    private static class Keyword {
+        private final String text;
+        private final boolean isPrefix;
+        private final boolean isTypoTolerant;
+
+        Keyword(String keyword, boolean isMarkerAllowed) {
+            String lowerCaseKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+            char marker = isMarkerAllowed && lowerCaseKeyword.length() > 1
+                    ? lowerCaseKeyword.charAt(lowerCaseKeyword.length() - 1)
+                    : 0;
+            isPrefix = marker == PREFIX_MARKER;
+            isTypoTolerant = marker == TYPO_MARKER;
+            text = isPrefix || isTypoTolerant
+                    ? lowerCaseKeyword.substring(0, lowerCaseKeyword.length() - 1)
+                    : lowerCaseKeyword;
+        }
+
+        /**
+         * Returns true if {@code word}, which must be in lower case, matches this keyword.
+         */
+        boolean matches(String word) {
+            if (isPrefix) {
+                return word.startsWith(text);
+            } else if (isTypoTolerant) {
+                return StringUtil.isWithinOneEdit(text, word);
+            } else {
+                return word.equals(text);
+            }
+        }
+
+        /**
+         * Returns the persons in {@code personIndex} with a word matching this keyword.
+         */
+        List<Person> lookUp(PersonIndex personIndex) {
+            if (isPrefix) {
+                return personIndex.getPersonsWithNameWordPrefix(text);
+            } else if (isTypoTolerant) {
+                return personIndex.getPersonsWithNameWordMatching(this::matches);
+            } else {
+                return personIndex.getPersonsWithNameWord(text);
+            }
+        }
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's Nationality in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCountryCode(String)}
@@ -12,24 +14,42 @@ public class Nationality {
     public static final String MESSAGE_NATIONALITY_CONSTRAINT =
             "Country Code should only contain 2 UPPERCASE characters and valid. It should not be blank";
 
+    /** The ISO 3166-1 alpha-2 country codes accepted as nationalities. */
+    private static final String[] COUNTRY_CODES = {
+        "AF", "AX", "AL", "DZ", "AS", "AD", "AO", "AI", "AQ", "AG", "AR", "AM", "AW", "AU", "AT", "AZ",
+        "BS", "BH", "BD", "BB", "BY", "BE", "BZ", "BJ", "BM", "BT", "BO", "BQ", "BA", "BW", "BV", "BR",
+        "IO", "BN", "BG", "BF", "BI", "KH", "CM", "CA", "CV", "KY", "CF", "TD", "CL", "CN", "CX", "CC",
+        "CO", "KM", "CG", "CD", "CK", "CR", "CI", "HR", "CU", "CW", "CY", "CZ", "DK", "DJ", "DM", "DO",
+        "EC", "EG", "SV", "GQ", "ER", "EE", "ET", "FK", "FO", "FJ", "FI", "FR", "GF", "PF", "TF", "GA",
+        "GM", "GE", "DE", "GH", "GI", "GR", "GL", "GD", "GP", "GU", "GT", "GG", "GN", "GW", "GY", "HT",
+        "HM", "VA", "HN", "HK", "HU", "IS", "IN", "ID", "IR", "IQ", "IE", "IM", "IL", "IT", "JM", "JP",
+        "JE", "JO", "KZ", "KE", "KI", "KP", "KR", "KW", "KG", "LA", "LV", "LB", "LS", "LR", "LY", "LI",
+        "LT", "LU", "MO", "MK", "MG", "MW", "MY", "MV", "ML", "MT", "MH", "MQ", "MR", "MU", "YT", "MX",
+        "FM", "MD", "MC", "MN", "ME", "MS", "MA", "MZ", "MM", "NA", "NR", "NP", "NL", "NC", "NZ", "NI",
+        "NE", "NG", "NU", "NF", "MP", "NO", "OM", "PK", "PW", "PS", "PA", "PG", "PY", "PE", "PH", "PN",
+        "PL", "PT", "PR", "QA", "RE", "RO", "RU", "RW", "BL", "SH", "KN", "LC", "MF", "PM", "VC", "WS",
+        "SM", "ST", "SA", "SN", "RS", "SC", "SL", "SG", "SX", "SK", "SI", "SB", "SO", "ZA", "GS", "SS",
+        "ES", "LK", "SD", "SR", "SJ", "SZ", "SE", "CH", "SY", "TW", "TJ", "TZ", "TH", "TL", "TG", "TK",
+        "TO", "TT", "TN", "TR", "TM", "TC", "TV", "UG", "UA", "AE", "GB", "US", "UM", "UY", "UZ", "VU",
+        "VE", "VN", "VG", "VI", "WF", "EH", "YE", "ZM", "ZW"
+    };
+
     /**
      * The regex follow closely to the ISO 3166-1 alpha-2 Country Code
      * It contain all the valid country code.
      */
-    public static final String COUNTRY_VALIDATION_REGEX =
-            "^(AF|AX|AL|DZ|AS|AD|AO|AI|AQ|AG|AR|AM|AW|AU|AT|AZ|"
-                    + "BS|BH|BD|BB|BY|BE|BZ|BJ|BM|BT|BO|BQ|BA|BW|BV|BR|IO|BN|BG|BF|BI|"
-                    + "KH|CM|CA|CV|KY|CF|TD|CL|CN|CX|CC|CO|KM|CG|CD|CK|CR|CI|HR|CU|CW|"
-                    + "CY|CZ|DK|DJ|DM|DO|EC|EG|SV|GQ|ER|EE|ET|FK|FO|FJ|FI|FR|GF|PF|TF|"
-                    + "GA|GM|GE|DE|GH|GI|GR|GL|GD|GP|GU|GT|GG|GN|GW|GY|HT|HM|VA|HN|HK|"
-                    + "HU|IS|IN|ID|IR|IQ|IE|IM|IL|IT|JM|JP|JE|JO|KZ|KE|KI|KP|KR|KW|KG|"
-                    + "LA|LV|LB|LS|LR|LY|LI|LT|LU|MO|MK|MG|MW|MY|MV|ML|MT|MH|MQ|MR|MU|"
-                    + "YT|MX|FM|MD|MC|MN|ME|MS|MA|MZ|MM|NA|NR|NP|NL|NC|NZ|NI|NE|NG|NU|"
-                    + "NF|MP|NO|OM|PK|PW|PS|PA|PG|PY|PE|PH|PN|PL|PT|PR|QA|RE|RO|RU|RW|"
-                    + "BL|SH|KN|LC|MF|PM|VC|WS|SM|ST|SA|SN|RS|SC|SL|SG|SX|SK|SI|SB|SO|"
-                    + "ZA|GS|SS|ES|LK|SD|SR|SJ|SZ|SE|CH|SY|TW|TJ|TZ|TH|TL|TG|TK|TO|TT|"
-                    + "TN|TR|TM|TC|TV|UG|UA|AE|GB|US|UM|UY|UZ|VU|VE|VN|VG|VI|WF|EH|YE|"
-                    + "ZM|ZW)$";
+    public static final String COUNTRY_VALIDATION_REGEX = "^(" + String.join("|", COUNTRY_CODES) + ")$";
+
+    /** Whether each pair of letters, indexed by {@link #tableIndex(char, char)}, is a valid country code. */
+    private static final boolean[] IS_COUNTRY_CODE = new boolean[26 * 26];
+
+    static {
+        for (String code : COUNTRY_CODES) {
+            IS_COUNTRY_CODE[tableIndex(code.charAt(0), code.charAt(1))] = true;
+        }
+    }
+
+    private static final Interner<Nationality> INTERNER = new Interner<>();
 
     public final String nationality;
 
@@ -44,11 +64,36 @@ public class Nationality {
         this.nationality = nationality;
     }
 
+    /**
+     * Returns the shared {@code Nationality} for {@code nationality}.
+     *
+     * @param nationality A valid country.
+     */
+    public static Nationality of(String nationality) {
+        return intern(new Nationality(nationality));
+    }
+
+    /**
+     * Returns the shared {@code Nationality} equal to {@code nationality}.
+     */
+    public static Nationality intern(Nationality nationality) {
+        return INTERNER.intern(nationality);
+    }
+
     /**
      * Returns true if a given string is a valid nationality.
      */
     public static boolean isValidCountryCode(String input) {
-        return input.matches(COUNTRY_VALIDATION_REGEX);
+        return input.length() == 2 && isUpperCase(input.charAt(0)) && isUpperCase(input.charAt(1))
+                && IS_COUNTRY_CODE[tableIndex(input.charAt(0), input.charAt(1))];
+    }
+
+    private static boolean isUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static int tableIndex(char first, char second) {
+        return (first - 'A') * 26 + (second - 'A');
     }
 
     @Override
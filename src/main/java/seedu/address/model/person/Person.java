@@ -4,7 +4,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
-
 import java.util.Objects;
 import java.util.Set;
 
@@ -18,6 +17,9 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Person {
+    private static final Marks DEFAULT_MARKS = new Marks("0");
+
+    private final PersonId id;
     private final Name name;
     private final Phone phone;
     private final Email email;
@@ -28,18 +30,32 @@ public class Person {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
     private final Set<Test> testList = new HashSet<>();
-    private Grade grade = new Grade("Undefined");
-    private Marks marks = new Marks("0");
+    private final Grade grade = Grade.of("Undefined");
+    private final Marks marks = DEFAULT_MARKS;
+
+    // Derived from the fields above, which never change
+    private final int hash;
+    private final IdentityKey namePhoneKey;
+    private final IdentityKey nameEmailKey;
 
     /**
      * Every field must be present and not null.
+     * The person is given a new id.
      */
-
     public Person(Name name, Gender gender, Nationality nationality, Phone phone,
                   Email email, Address address, Set<Tag> tags, Set<Test> testList) {
+        this(PersonId.next(), name, gender, nationality, phone, email, address, tags, testList);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(PersonId id, Name name, Gender gender, Nationality nationality, Phone phone,
+                  Email email, Address address, Set<Tag> tags, Set<Test> testList) {
 
-        requireAllNonNull(name, gender, nationality, phone, email, address, tags, testList);
+        requireAllNonNull(id, name, gender, nationality, phone, email, address, tags, testList);
 
+        this.id = id;
         this.name = name;
         this.gender = gender;
         this.nationality = nationality;
@@ -48,7 +64,11 @@ public class Person {
         this.address = address;
         this.tags.addAll(tags);
         this.testList.addAll(testList);
+        this.hash = Objects.hash(name, gender, nationality, phone, email, address, this.tags, this.testList);
+        this.namePhoneKey = new IdentityKey(name, phone);
+        this.nameEmailKey = new IdentityKey(name, email);
     }
+
     public Grade getGrade() {
         return grade;
     }
@@ -57,12 +77,15 @@ public class Person {
         return marks;
     }
 
-    public void setGrade(Grade grade) {
-        this.grade = grade;
+    /**
+     * Returns a copy of this person that is known by {@code id} instead.
+     */
+    public Person withId(PersonId id) {
+        return new Person(id, name, gender, nationality, phone, email, address, tags, testList);
     }
 
-    public void setMarks(Marks marks) {
-        this.marks = marks;
+    public PersonId getId() {
+        return id;
     }
 
     public Name getName() {
@@ -102,6 +125,20 @@ public class Person {
         return Collections.unmodifiableSet(testList);
     }
 
+    /**
+     * Returns the name and phone of this person as a hash key.
+     */
+    IdentityKey getNamePhoneKey() {
+        return namePhoneKey;
+    }
+
+    /**
+     * Returns the name and email of this person as a hash key.
+     */
+    IdentityKey getNameEmailKey() {
+        return nameEmailKey;
+    }
+
 
     /**
      * Returns true if both persons of the same name have at least one other identity field that is the same.
@@ -113,13 +150,13 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().equals(getName())
-                && (otherPerson.getPhone().equals(getPhone()) || otherPerson.getEmail().equals(getEmail()));
+                && (otherPerson.namePhoneKey.equals(namePhoneKey) || otherPerson.nameEmailKey.equals(nameEmailKey));
     }
 
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The id is not compared, as it only links the person to the groups it belongs to.
      */
     @Override
     public boolean equals(Object other) {
@@ -132,7 +169,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return otherPerson.getName().equals(getName())
+        return otherPerson.hash == hash
+                && otherPerson.getName().equals(getName())
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getGender().equals(getGender())
                 && otherPerson.getNationality().equals(getNationality())
@@ -145,8 +183,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, gender, nationality, phone, email, address, tags, testList);
+        return hash;
     }
 
     @Override
@@ -170,4 +207,34 @@ public class Person {
         return builder.toString();
     }
 
+    /**
+     * A pair of identity fields of a {@code Person}, used as a hash key.
+     * Two persons are the same person if they share either their name and phone key or their name and email key.
+     */
+    static final class IdentityKey {
+        private final Name name;
+        private final Object field;
+        private final int hash;
+
+        private IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+            this.hash = Objects.hash(name, field);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && hash == ((IdentityKey) other).hash
+                    && name.equals(((IdentityKey) other).name)
+                    && field.equals(((IdentityKey) other).field));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isDigits;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the identifier of a Person in the address book. A person keeps the same id when it is edited,
+ * so other records can refer to the person by id instead of holding a copy of it.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_ID_CONSTRAINTS = "Person ids should be non-negative numbers of up to 18 digits";
+    public static final String ID_VALIDATION_REGEX = "\\d{1,18}";
+
+    /** The smallest id that has not been handed out or read from a file yet. */
+    private static final AtomicLong NEXT_VALUE = new AtomicLong();
+
+    public final long value;
+
+    /**
+     * Constructs a {@code PersonId} read from storage.
+     * Ids handed out by {@link #next()} afterwards will not clash with it.
+     *
+     * @param id A valid id.
+     */
+    public PersonId(String id) {
+        this(parseId(id));
+    }
+
+    private PersonId(long value) {
+        this.value = value;
+        NEXT_VALUE.accumulateAndGet(value + 1, Math::max);
+    }
+
+    private static long parseId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        return Long.parseLong(id);
+    }
+
+    /**
+     * Returns an id that has not been used by any other person yet.
+     */
+    public static PersonId next() {
+        return new PersonId(NEXT_VALUE.getAndIncrement());
+    }
+
+    /**
+     * Returns true if a given string is a valid id.
+     */
+    public static boolean isValidId(String test) {
+        return isDigits(test, 1, 18);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonId // instanceof handles nulls
+                && value == ((PersonId) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+}
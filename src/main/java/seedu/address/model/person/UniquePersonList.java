@@ -3,11 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Person.IdentityKey;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +27,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since two persons are the same if they share a name and either a phone or an email, the list keeps a
+ * (name, phone) index and a (name, email) index alongside the backing list so that identity checks do not
+ * need to scan every person. Persons are also indexed by their {@code PersonId}, which must be unique in the list
+ * and is kept when a person is replaced by an edited version of it, and the position of each person in the backing
+ * list is kept by id, so that persons are replaced and removed without searching the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -25,61 +40,171 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<IdentityKey, Person> namePhoneIndex = new HashMap<>();
+    private final Map<IdentityKey, Person> nameEmailIndex = new HashMap<>();
+    private final Map<PersonId, Person> idIndex = new HashMap<>();
+    private final Map<PersonId, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return namePhoneIndex.containsKey(toCheck.getNamePhoneKey())
+                || nameEmailIndex.containsKey(toCheck.getNameEmailKey());
+    }
+
+    /**
+     * Returns the person in the list with the same identity as {@code person}, if there is one.
+     * A person with the same name and phone is preferred to one with the same name and email.
+     */
+    public Optional<Person> getSamePerson(Person person) {
+        requireNonNull(person);
+        Person samePerson = namePhoneIndex.get(person.getNamePhoneKey());
+        return Optional.ofNullable(samePerson != null ? samePerson : nameEmailIndex.get(person.getNameEmailKey()));
+    }
+
+    /**
+     * Returns the person with the given id, if it is in the list.
+     */
+    public Optional<Person> get(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list. If its id is already used by another person in the list,
+     * the person is stored under a new id instead.
+     *
+     * @return The person as stored, which carries the id it was stored under.
      */
-    public void add(Person toAdd) {
+    public Person add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person stored = idIndex.containsKey(toAdd.getId()) ? toAdd.withId(PersonId.next()) : toAdd;
+        positions.put(stored.getId(), internalList.size());
+        internalList.add(stored);
+        index(stored, namePhoneIndex, nameEmailIndex);
+        idIndex.put(stored.getId(), stored);
+        return stored;
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * {@code editedPerson} is stored under the id of {@code target}.
+     *
+     * @return The edited person as stored, which carries the id of {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person existing = internalList.get(index);
+        if (isIdentityTakenByOther(editedPerson, existing)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person stored = editedPerson.getId().equals(existing.getId())
+                ? editedPerson
+                : editedPerson.withId(existing.getId());
+        internalList.set(index, stored);
+        unindex(existing);
+        index(stored, namePhoneIndex, nameEmailIndex);
+        idIndex.put(stored.getId(), stored);
+        return stored;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return The person that was removed, which carries the id it was stored under.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        unindex(removed);
+        idIndex.remove(removed.getId());
+        positions.remove(removed.getId());
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces the persons from position {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement},
+     * which are stored under their own ids.
+     * No two persons in the resulting list may have the same identity or id, or nothing is replaced.
+     * Persons outside of the range are not moved or reindexed unless the number of persons changes.
+     *
+     * @return The persons that were replaced.
+     */
+    public List<Person> replaceRange(int from, int to, List<Person> replacement) {
+        requireAllNonNull(replacement);
+        List<Person> replaced = new ArrayList<>(internalList.subList(from, to));
+        Set<Person> replacedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        replacedPersons.addAll(replaced);
+
+        Map<IdentityKey, Person> newNamePhoneIndex = new HashMap<>();
+        Map<IdentityKey, Person> newNameEmailIndex = new HashMap<>();
+        Set<PersonId> newIds = new HashSet<>();
+        for (Person person : replacement) {
+            if (!newIds.add(person.getId()) || !index(person, newNamePhoneIndex, newNameEmailIndex)
+                    || isKeptOutside(namePhoneIndex.get(person.getNamePhoneKey()), replacedPersons)
+                    || isKeptOutside(nameEmailIndex.get(person.getNameEmailKey()), replacedPersons)
+                    || isKeptOutside(idIndex.get(person.getId()), replacedPersons)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        for (Person person : replaced) {
+            unindex(person);
+            idIndex.remove(person.getId());
+            positions.remove(person.getId());
+        }
+        if (replacement.size() == replaced.size()) {
+            for (int i = 0; i < replacement.size(); i++) {
+                internalList.set(from + i, replacement.get(i));
+            }
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, replacement);
+        }
+        namePhoneIndex.putAll(newNamePhoneIndex);
+        nameEmailIndex.putAll(newNameEmailIndex);
+        replacement.forEach(person -> idIndex.put(person.getId(), person));
+        int end = replacement.size() == replaced.size() ? from + replacement.size() : internalList.size();
+        for (int i = from; i < end; i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        return replaced;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(replacement.namePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(replacement.nameEmailIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        positions.clear();
+        positions.putAll(replacement.positions);
     }
 
     /**
@@ -88,11 +213,27 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<IdentityKey, Person> newNamePhoneIndex = new HashMap<>();
+        Map<IdentityKey, Person> newNameEmailIndex = new HashMap<>();
+        Map<PersonId, Person> newIdIndex = new HashMap<>();
+        Map<PersonId, Integer> newPositions = new HashMap<>();
+        for (Person person : persons) {
+            if (newIdIndex.putIfAbsent(person.getId(), person) != null
+                    || !index(person, newNamePhoneIndex, newNameEmailIndex)) {
+                throw new DuplicatePersonException();
+            }
+            newPositions.put(person.getId(), newPositions.size());
         }
 
         internalList.setAll(persons);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(newNamePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(newNameEmailIndex);
+        idIndex.clear();
+        idIndex.putAll(newIdIndex);
+        positions.clear();
+        positions.putAll(newPositions);
     }
 
     /**
@@ -120,16 +261,51 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is none.
+     * Equal persons have the same identity, so the only candidate is the person indexed under its name and phone.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Person person) {
+        Person candidate = namePhoneIndex.get(person.getNamePhoneKey());
+        return candidate != null && candidate.equals(person) ? positions.get(candidate.getId()) : -1;
+    }
+
+    /**
+     * Returns true if a person other than {@code self} has the same identity as {@code toCheck}.
+     */
+    private boolean isIdentityTakenByOther(Person toCheck, Person self) {
+        Person samePhone = namePhoneIndex.get(toCheck.getNamePhoneKey());
+        Person sameEmail = nameEmailIndex.get(toCheck.getNameEmailKey());
+        return (samePhone != null && samePhone != self) || (sameEmail != null && sameEmail != self);
+    }
+
+    /**
+     * Returns true if {@code holder} is in the list but not among {@code replaced}.
+     */
+    private static boolean isKeptOutside(Person holder, Set<Person> replaced) {
+        return holder != null && !replaced.contains(holder);
+    }
+
+    /**
+     * Adds {@code person} to the given identity indexes.
+     * Returns false, leaving the indexes untouched, if a person with the same identity is already indexed.
+     */
+    private static boolean index(Person person, Map<IdentityKey, Person> phoneIndex,
+                                 Map<IdentityKey, Person> emailIndex) {
+        IdentityKey phoneKey = person.getNamePhoneKey();
+        IdentityKey emailKey = person.getNameEmailKey();
+        if (phoneIndex.containsKey(phoneKey) || emailIndex.containsKey(emailKey)) {
+            return false;
         }
+        phoneIndex.put(phoneKey, person);
+        emailIndex.put(emailKey, person);
         return true;
     }
+
+    /**
+     * Removes {@code person} from the identity indexes.
+     */
+    private void unindex(Person person) {
+        namePhoneIndex.remove(person.getNamePhoneKey());
+        nameEmailIndex.remove(person.getNameEmailKey());
+    }
 }
@@ -2,6 +2,9 @@ package seedu.address.model.script;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.lookupTable;
+
+import java.util.Set;
 
 /**
  * Represents a CommandType.
@@ -10,10 +13,19 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class CommandType {
     public static final String MESSAGE_MESSAGE_CONSTRAINTS =
             "Command string is not valid";
-    public static final String MESSAGE_VALIDATION_REGEX = "^(add|a|addgroup|ag|add_testmarks|adt|clear|c|"
-            + "creategroup|cg|delete|d|deletegroup|dg|deletegroupstudent|dgs|distinto|di|edit|e|edit_test|edt|"
-            + "sendmail|sm|exit|ex|find|f|genlist|"
-            + "gl|display|disp|help|h|history|his|list|l|listgroup|lg|redo|r|select|s|selectgroup|sg|undo|u)$";
+
+    /** The command words and aliases that a script may contain. */
+    private static final String[] COMMAND_WORDS = {
+        "add", "a", "addgroup", "ag", "add_testmarks", "adt", "clear", "c", "creategroup", "cg",
+        "delete", "d", "deletegroup", "dg", "deletegroupstudent", "dgs", "distinto", "di", "edit", "e",
+        "edit_test", "edt", "sendmail", "sm", "exit", "ex", "find", "f", "genlist", "gl", "display", "disp",
+        "help", "h", "history", "his", "list", "l", "listgroup", "lg", "redo", "r", "select", "s",
+        "selectgroup", "sg", "undo", "u"
+    };
+
+    public static final String MESSAGE_VALIDATION_REGEX = "^(" + String.join("|", COMMAND_WORDS) + ")$";
+
+    private static final Set<String> COMMAND_WORD_TABLE = lookupTable(COMMAND_WORDS);
 
     public final String value;
     /**
@@ -31,7 +43,8 @@ public class CommandType {
      * Returns true if a given string is a valid message.
      */
     public static boolean isValidCommand(String test) {
-        return test.matches(MESSAGE_VALIDATION_REGEX);
+        requireNonNull(test);
+        return COMMAND_WORD_TABLE.contains(test);
     }
 
     @Override
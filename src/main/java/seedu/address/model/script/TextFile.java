@@ -2,6 +2,7 @@ package seedu.address.model.script;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isNonBlankWithout;
 
 /**
  * Represents a text file name.
@@ -28,7 +29,7 @@ public class TextFile {
      * Returns true if a given string is a valid text file name.
      */
     public static boolean isValidTextFile(String test) {
-        return test.matches(MESSAGE_VALIDATION_REGEX);
+        return isNonBlankWithout(test, "\"<>?/:*");
     }
 
     public String getTextFile() {
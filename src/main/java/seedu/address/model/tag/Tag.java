@@ -2,6 +2,9 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
+
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents a Tag in the address book.
@@ -12,6 +15,8 @@ public class Tag {
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +30,27 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the shared {@code Tag} equal to {@code tag}.
+     */
+    public static Tag intern(Tag tag) {
+        return INTERNER.intern(tag);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return isAlphanumeric(test, "");
     }
 
     @Override
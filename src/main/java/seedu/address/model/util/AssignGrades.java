@@ -57,7 +57,7 @@ public class AssignGrades {
         for (String s: splited) {
             name.add(s);
         }
-        return new EditTestMarksCommand(new NameContainsKeywordsPredicate(name), testName, marks, grade, name);
+        return new EditTestMarksCommand(NameContainsKeywordsPredicate.ofWholeWords(name), testName, marks, grade, name);
 
     }
 }
@@ -277,33 +277,35 @@ public class SampleDataUtil {
 
     public static ReadOnlyAddressBook getSampleAddressBook() {
         AddressBook sampleAb = new AddressBook();
-        for (Person samplePerson : getSamplePersons()) {
+        Person[] samplePersons = getSamplePersons();
+        for (Person samplePerson : samplePersons) {
             sampleAb.addPerson(samplePerson);
         }
-        for (Group sampleGroup : getSampleGroups()) {
+        for (Group sampleGroup : setPersonsInGroups(getSampleGroups(), samplePersons)) {
             sampleAb.createGroup(sampleGroup);
         }
 
-        return setPersonsInGroups(sampleAb);
+        return sampleAb;
     }
 
     /**
-     * Adds persons from sampleAb to groups in sampleAb
-     * @param sampleAb
+     * Adds persons to groups, before the groups are added to an address book.
+     * @param groups
+     * @param persons
      * @return
      */
-    public static AddressBook setPersonsInGroups (AddressBook sampleAb) {
+    public static Group[] setPersonsInGroups (Group[] groups, Person[] persons) {
         int count = 0;
-        for (Group abGroup : sampleAb.getGroupList()) {
-            for (Person abPerson : sampleAb.getPersonList()) {
+        for (Group group : groups) {
+            for (Person person : persons) {
                 if (++count == 5) {
                     count = 0;
                     continue;
                 }
-                abGroup.addPersons(abPerson);
+                group.addPersons(person);
             }
         }
-        return sampleAb;
+        return groups;
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.util;
 import static seedu.address.logic.commands.GradeSummaryCommand.MESSAGE_ERROR_NOT_FOUND;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 
@@ -18,6 +20,10 @@ import seedu.address.model.person.Person;
  * sort student in ascending order by scores.
  */
 public class SortMarks { //from lowest to highest
+
+    /** Marks have at most two decimal places, so they are compared in hundredths. */
+    private static final int MARKS_SCALE = 100;
+
     /**
      * sort student in ascending order by scores.
      */
@@ -46,33 +52,58 @@ public class SortMarks { //from lowest to highest
             throw new CommandException(MESSAGE_ERROR_NOT_FOUND);
         }
 
-        ArrayList<PersonTest> pList = new ArrayList<>(bubbleSort(listToSort, testName, listToSort.size()));
-        for (int q = 0; q < listToSort.size(); q++) {
-            System.out.println(pList.get(q));
-        }
-        return pList;
+        return sortByMarks(listToSort);
     }
 
     /**
-     * implement bubblesort function to sort students by test marks.
-     * */
-    public static ArrayList<PersonTest> bubbleSort(ArrayList<PersonTest> list, String testName, int n) {
-        int i;
-        int j;
-        PersonTest temp;
-        for (i = 0; i < n - 1; i++) {
+     * sort the tests of students by marks from lowest to highest, keeping tests with the same marks in their order.
+     */
+    public static ArrayList<PersonTest> sortByMarks(List<PersonTest> list) {
+        double[] marks = new double[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            marks[i] = Double.parseDouble(list.get(i).getMarks().value);
+        }
+        ArrayList<PersonTest> sortedList = new ArrayList<>(list.size());
+        for (int i : getOrderFromLowestToHighest(marks)) {
+            sortedList.add(list.get(i));
+        }
+        return sortedList;
+    }
 
-            for (j = 0; j < n - i - 1; j++) {
+    /**
+     * Returns the positions of {@code marks} in order of the marks from lowest to highest, with equal marks in
+     * position order. Marks must not be negative and are compared to two decimal places, the precision they are
+     * entered with. Each mark is packed with its position into a single primitive key, so the sort takes
+     * O(n log n) time without boxing.
+     */
+    public static int[] getOrderFromLowestToHighest(double[] marks) {
+        return getOrder(marks, false);
+    }
 
-                if (Double.parseDouble(list.get(j).getMarks().toString())
-                        > Double.parseDouble(list.get(j + 1).getMarks().toString())) {
-                    temp = list.get(j);
-                    list.set(j, list.get(j + 1));
-                    list.set(j + 1, temp);
-                }
+    /**
+     * Similar to {@link #getOrderFromLowestToHighest(double[])}, but orders the marks from highest to lowest.
+     * Equal marks are still in position order.
+     */
+    public static int[] getOrderFromHighestToLowest(double[] marks) {
+        return getOrder(marks, true);
+    }
 
-            }
+    /**
+     * Returns the positions of {@code marks} in order of the marks, with equal marks in position order.
+     * For the highest marks to come first, each mark is subtracted from a ceiling before it is packed, which
+     * reverses the order of the marks but not of the positions.
+     */
+    private static int[] getOrder(double[] marks, boolean isDescending) {
+        long[] keys = new long[marks.length];
+        for (int i = 0; i < marks.length; i++) {
+            long hundredths = Math.round(marks[i] * MARKS_SCALE);
+            keys[i] = (isDescending ? Integer.MAX_VALUE - hundredths : hundredths) << Integer.SIZE | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[marks.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
         }
-        return list;
+        return order;
     }
 }
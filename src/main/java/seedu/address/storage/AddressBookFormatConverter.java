@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the xml and the binary format.
+ * Files whose names end in {@code .xml} are taken to be xml files, and all others binary files. Either kind of file
+ * is compressed with gzip if its name has a further {@code .gz} extension.
+ */
+public class AddressBookFormatConverter {
+
+    public static final String XML_FILE_EXTENSION = ".xml";
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFormatConverter SOURCE_FILE TARGET_FILE\n"
+            + "Converts an address book between the xml and the binary format. "
+            + "Files ending in " + XML_FILE_EXTENSION + " are xml files, all others are binary files. "
+            + "Files ending in " + FileUtil.GZIP_FILE_EXTENSION + " are also compressed.";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Address book file %s not found";
+
+    /**
+     * Reads the address book at {@code source} and writes it to {@code target}, each in the format given by its name.
+     * Throws {@code FileNotFoundException} if there is no file at {@code source}.
+     *
+     * @throws DataConversionException if the file at {@code source} is not in the correct format.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        ReadOnlyAddressBook addressBook = storageFor(source).readAddressBook()
+                .orElseThrow(() -> new FileNotFoundException(String.format(MESSAGE_SOURCE_NOT_FOUND, source)));
+        storageFor(target).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns the storage for the file at {@code filePath}, chosen by the file's name.
+     */
+    public static AddressBookStorage storageFor(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(FileUtil.GZIP_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - FileUtil.GZIP_FILE_EXTENSION.length());
+        }
+        return fileName.endsWith(XML_FILE_EXTENSION)
+                ? new XmlAddressBookStorage(filePath)
+                : new BinaryAddressBookStorage(filePath);
+    }
+
+    /**
+     * Converts the file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
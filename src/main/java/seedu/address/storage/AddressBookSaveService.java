@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the address book on a background thread, so that the thread that changes the address book does not wait
+ * for the file to be written.
+ *
+ * A save request takes a snapshot of the persons and groups, which are immutable, and schedules a save after the
+ * save delay. Requests arriving before the scheduled save runs replace its snapshot, so a burst of changes is
+ * written to disk once. With a save delay of zero, every request is saved at once on the requesting thread.
+ */
+public class AddressBookSaveService {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveService.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long saveDelayMillis;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledExecutorService saver;
+
+    // guarded by this
+    private ReadOnlyAddressBook pendingSnapshot;
+    private int pendingRequestCount;
+    private ScheduledFuture<?> scheduledSave;
+    private long saveCount;
+    private long lastSaveLatencyNanos;
+    private long maxSaveLatencyNanos;
+    private long totalSaveLatencyNanos;
+
+    /**
+     * Creates a service that saves to {@code addressBookStorage} at most {@code saveDelayMillis} milliseconds after
+     * a request and passes the exceptions thrown while saving to {@code failureHandler}.
+     */
+    public AddressBookSaveService(AddressBookStorage addressBookStorage, long saveDelayMillis,
+                                  Consumer<IOException> failureHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(failureHandler);
+        if (saveDelayMillis < 0) {
+            throw new IllegalArgumentException("Save delay cannot be negative");
+        }
+        this.addressBookStorage = addressBookStorage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.failureHandler = failureHandler;
+        saver = saveDelayMillis == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookSaver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests that the current state of {@code addressBook} be saved.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook);
+        if (saver == null) {
+            save(snapshot, 1);
+            return;
+        }
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            pendingRequestCount++;
+            if (scheduledSave == null) {
+                scheduledSave = saver.schedule(this::savePending, saveDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Saves the last requested state now if it has not been saved yet, and waits until it is on disk.
+     */
+    public void flush() {
+        if (saver == null) {
+            return;
+        }
+        synchronized (this) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+                scheduledSave = null;
+            }
+        }
+        try {
+            saver.submit(this::savePending).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Unexpected exception " + ee.getMessage(), ee);
+        }
+    }
+
+    /**
+     * Returns the number of save requests that have not been written to disk yet.
+     */
+    public synchronized int getPendingRequestCount() {
+        return pendingRequestCount;
+    }
+
+    /**
+     * Returns the number of times the address book has been written to disk.
+     */
+    public synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the time taken by the last save, in nanoseconds.
+     */
+    public synchronized long getLastSaveLatencyNanos() {
+        return lastSaveLatencyNanos;
+    }
+
+    /**
+     * Returns the time taken by the slowest save so far, in nanoseconds.
+     */
+    public synchronized long getMaxSaveLatencyNanos() {
+        return maxSaveLatencyNanos;
+    }
+
+    /**
+     * Returns the average time taken by a save so far, in nanoseconds.
+     */
+    public synchronized long getAverageSaveLatencyNanos() {
+        return saveCount == 0 ? 0 : totalSaveLatencyNanos / saveCount;
+    }
+
+    /**
+     * Saves the snapshot of the last request, if it has not been saved yet.
+     */
+    private void savePending() {
+        ReadOnlyAddressBook snapshot;
+        int requestCount;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            requestCount = pendingRequestCount;
+            pendingSnapshot = null;
+            pendingRequestCount = 0;
+            scheduledSave = null;
+        }
+        if (snapshot != null) {
+            save(snapshot, requestCount);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot}, which covers {@code requestCount} save requests, to disk and records how long it took.
+     */
+    private void save(ReadOnlyAddressBook snapshot, int requestCount) {
+        long start = System.nanoTime();
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+        } catch (IOException ioe) {
+            failureHandler.accept(ioe);
+            return;
+        }
+        long latency = System.nanoTime() - start;
+        synchronized (this) {
+            saveCount++;
+            lastSaveLatencyNanos = latency;
+            maxSaveLatencyNanos = Math.max(maxSaveLatencyNanos, latency);
+            totalSaveLatencyNanos += latency;
+        }
+        logger.fine(() -> String.format("Saved %s in %d ms for %d change(s)", snapshot,
+                TimeUnit.NANOSECONDS.toMillis(latency), requestCount));
+    }
+
+    /**
+     * The persons and groups of an address book at the time a save was requested.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Group> groups;
+
+        Snapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            groups = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getGroupList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Group> getGroupList() {
+            return groups;
+        }
+
+        @Override
+        public String toString() {
+            return persons.size() + " persons, " + groups.size() + " groups";
+        }
+    }
+}
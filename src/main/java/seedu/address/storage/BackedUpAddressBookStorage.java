@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data in the file of another {@code AddressBookStorage} that keeps gzip-compressed
+ * backups of earlier versions of the file.
+ *
+ * The first time the address book is saved in each run of the app, the file as it was before is kept as the newest
+ * backup, {@code <file>.1.gz}, and each older backup moves one generation down, up to {@code <file>.<generations>.gz}.
+ * The backups thus hold the address book as it was at the start of the last {@code generations} runs that changed it.
+ */
+public class BackedUpAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackedUpAddressBookStorage.class);
+
+    private final AddressBookStorage fileStorage;
+    private final int generations;
+    private boolean hasBackedUp = false;
+
+    /**
+     * Creates a storage keeping its data in {@code fileStorage} that keeps {@code generations} backups.
+     */
+    public BackedUpAddressBookStorage(AddressBookStorage fileStorage, int generations) {
+        requireNonNull(fileStorage);
+        if (generations <= 0) {
+            throw new IllegalArgumentException("Number of backup generations must be positive");
+        }
+        this.fileStorage = fileStorage;
+        this.generations = generations;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return fileStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the backup of the given generation, from 1 for the newest backup.
+     */
+    public Path getBackupFilePath(int generation) {
+        Path filePath = getAddressBookFilePath();
+        String fileName = filePath.getFileName().toString();
+        if (FileUtil.isGzipFileName(filePath)) {
+            fileName = fileName.substring(0, fileName.length() - FileUtil.GZIP_FILE_EXTENSION.length());
+        }
+        return filePath.resolveSibling(fileName + "." + generation + FileUtil.GZIP_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return fileStorage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return fileStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Files other than this storage's own are written without backups.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!hasBackedUp && filePath.equals(getAddressBookFilePath())) {
+            backUp();
+            hasBackedUp = true;
+        }
+        fileStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Moves each backup one generation down, dropping the oldest, and keeps the current file as the newest backup.
+     * The address book is saved even if it could not be backed up.
+     */
+    private void backUp() {
+        Path filePath = getAddressBookFilePath();
+        if (!FileUtil.isFileExists(filePath)) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(getBackupFilePath(generations));
+            for (int generation = generations - 1; generation >= 1; generation--) {
+                Path backup = getBackupFilePath(generation);
+                if (Files.exists(backup)) {
+                    Files.move(backup, getBackupFilePath(generation + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            copyCompressed(filePath, getBackupFilePath(1));
+            logger.fine("Backed up " + filePath + " to " + getBackupFilePath(1));
+        } catch (IOException ioe) {
+            logger.warning("Could not back up " + filePath + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Copies {@code source} to {@code target}, compressing it with gzip unless it is already compressed.
+     */
+    private static void copyCompressed(Path source, Path target) throws IOException {
+        Path tempFile = FileUtil.createTempFileNextTo(target);
+        try {
+            if (FileUtil.isGzipFile(source)) {
+                Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                try (InputStream in = Files.newInputStream(source);
+                        OutputStream out = FileUtil.newOutputStream(tempFile, true)) {
+                    in.transferTo(out);
+                }
+            }
+            FileUtil.replaceWith(target, tempFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+}
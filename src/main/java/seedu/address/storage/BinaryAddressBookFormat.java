@@ -0,0 +1,587 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.grade.Grade;
+import seedu.address.model.grade.Marks;
+import seedu.address.model.grade.Test;
+import seedu.address.model.grade.TestName;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupLocation;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nationality;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts an address book to and from a compact binary form.
+ *
+ * The data starts with {@link #MAGIC}, the format version and a CRC-32 checksum of the rest of the data, followed by
+ * a dictionary holding each distinct string once. Persons and groups follow as records prefixed by their length in
+ * bytes, so that a reader can skip fields added to the end of a record by later versions. Strings are written as
+ * their position in the dictionary, and numbers as varints: seven bits to a byte, lowest bits first, with the top
+ * bit set on all but the last byte.
+ *
+ * <pre>
+ * file    := MAGIC version checksum dictionary count person* count group*
+ * person  := length id name gender nationality phone email address count tag* count test*
+ * test    := testName marks grade
+ * group   := length groupName groupLocation count tag* count memberId*
+ * </pre>
+ *
+ * The checksum only detects data damaged since it was written: data whose checksum does not match is rejected as
+ * corrupted. Every value is checked as the xml format does, whether or not the data has a checksum, as data of version
+ * {@link #UNCHECKED_VERSION} does not.
+ */
+public class BinaryAddressBookFormat {
+
+    public static final int VERSION = 2;
+    public static final int UNCHECKED_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY = "Data is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is truncated or corrupted.";
+
+    private static final byte[] MAGIC = {'A', 'B', 'K', 'B'};
+
+    /**
+     * Marks are written as their value in hundredths, together with the number of digits before and after the
+     * decimal point so that the exact text is restored. The digit counts take the lowest {@code MARKS_FORMAT_BITS}.
+     */
+    private static final int MARKS_FORMAT_BITS = 4;
+    private static final int MAX_FRACTION_DIGITS = 2;
+
+    /**
+     * Returns {@code addressBook} in binary form.
+     */
+    public static byte[] encode(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Encoder encoder = new Encoder();
+        ByteSink records = new ByteSink();
+        ByteSink record = new ByteSink();
+
+        records.writeVarLong(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            record.reset();
+            encoder.writePerson(record, person);
+            records.writeRecord(record);
+        }
+        records.writeVarLong(addressBook.getGroupList().size());
+        for (Group group : addressBook.getGroupList()) {
+            record.reset();
+            encoder.writeGroup(record, group);
+            records.writeRecord(record);
+        }
+
+        ByteSink body = new ByteSink();
+        encoder.writeDictionary(body);
+        body.writeBytes(records.bytes, 0, records.size);
+
+        ByteSink file = new ByteSink();
+        file.writeBytes(MAGIC, 0, MAGIC.length);
+        file.writeVarLong(VERSION);
+        file.writeVarLong(checksum(body.bytes, 0, body.size));
+        file.writeBytes(body.bytes, 0, body.size);
+        return file.toByteArray();
+    }
+
+    /**
+     * Returns the address book held by {@code data}, checking every value as the xml format does.
+     *
+     * @throws IllegalValueException if {@code data} is not a binary address book of a supported version, if it does
+     *     not match its checksum, or if there were any data constraints violated or duplicates in it.
+     */
+    public static AddressBook decode(byte[] data) throws IllegalValueException {
+        requireNonNull(data);
+        if (data.length < MAGIC.length || !Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        ByteSource source = new ByteSource(data, MAGIC.length, data.length);
+        long version = source.readVarLong();
+        if (version != VERSION && version != UNCHECKED_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (version == VERSION
+                && source.readVarLong() != checksum(data, source.position, data.length - source.position)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return new Decoder(source).readAddressBook();
+    }
+
+    /**
+     * Returns the CRC-32 checksum of {@code length} bytes of {@code bytes} from {@code offset}.
+     */
+    private static long checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the text of valid marks as its value in hundredths followed by the digit counts needed to restore it.
+     */
+    private static long encodeMarks(String value) {
+        int point = value.indexOf('.');
+        int integerDigits = point < 0 ? value.length() : point;
+        int fractionDigits = point < 0 ? 0 : value.length() - point - 1;
+        long hundredths = Long.parseLong(value.substring(0, integerDigits)) * 100;
+        if (fractionDigits > 0) {
+            String fraction = value.substring(point + 1);
+            hundredths += Long.parseLong(fractionDigits == 1 ? fraction + "0" : fraction);
+        }
+        long format = integerDigits * (MAX_FRACTION_DIGITS + 1) + fractionDigits;
+        return (hundredths << MARKS_FORMAT_BITS) | format;
+    }
+
+    /**
+     * Returns the text of marks written by {@link #encodeMarks(String)}, checking that it is valid marks.
+     */
+    private static String decodeMarks(long encoded) throws IllegalValueException {
+        long format = encoded & ((1 << MARKS_FORMAT_BITS) - 1);
+        long hundredths = encoded >>> MARKS_FORMAT_BITS;
+        int integerDigits = (int) (format / (MAX_FRACTION_DIGITS + 1));
+        int fractionDigits = (int) (format % (MAX_FRACTION_DIGITS + 1));
+
+        StringBuilder text = new StringBuilder(Long.toString(hundredths / 100));
+        while (text.length() < integerDigits) {
+            text.insert(0, '0');
+        }
+        if (fractionDigits > 0) {
+            int fraction = (int) (hundredths % 100);
+            text.append('.').append((char) ('0' + fraction / 10));
+            if (fractionDigits == 2) {
+                text.append((char) ('0' + fraction % 10));
+            }
+        }
+        // anything that does not encode back to the same number was not written by this format
+        if (!Marks.isValidMarks(text.toString()) || encodeMarks(text.toString()) != encoded) {
+            throw new IllegalValueException(Marks.MESSAGE_MARKS_CONSTRAINTS);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes persons and groups, collecting the strings they use into a dictionary.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        /**
+         * Writes {@code person} to {@code sink}.
+         */
+        void writePerson(ByteSink sink, Person person) {
+            sink.writeVarLong(person.getId().value);
+            writeString(sink, person.getName().fullName);
+            writeString(sink, person.getGender().gender);
+            writeString(sink, person.getNationality().nationality);
+            writeString(sink, person.getPhone().value);
+            writeString(sink, person.getEmail().value);
+            writeString(sink, person.getAddress().value);
+            writeTags(sink, person.getTags());
+            sink.writeVarLong(person.getTests().size());
+            for (Test test : person.getTests()) {
+                writeString(sink, test.getTestName().testName);
+                sink.writeVarLong(encodeMarks(test.getMarks().value));
+                writeString(sink, test.getGrade().value);
+            }
+        }
+
+        /**
+         * Writes {@code group} to {@code sink}.
+         */
+        void writeGroup(ByteSink sink, Group group) {
+            writeString(sink, group.getGroupName().groupName);
+            writeString(sink, group.getGroupLocation().groupLocation);
+            writeTags(sink, group.getTags());
+            sink.writeVarLong(group.getPersonIds().size());
+            for (PersonId id : group.getPersonIds()) {
+                sink.writeVarLong(id.value);
+            }
+        }
+
+        /**
+         * Writes the strings collected so far to {@code sink}, in the order of their indices.
+         */
+        void writeDictionary(ByteSink sink) {
+            sink.writeVarLong(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                sink.writeVarLong(bytes.length);
+                sink.writeBytes(bytes, 0, bytes.length);
+            }
+        }
+
+        /**
+         * Writes the number of {@code tags} followed by each tag.
+         */
+        private void writeTags(ByteSink sink, Set<Tag> tags) {
+            sink.writeVarLong(tags.size());
+            for (Tag tag : tags) {
+                writeString(sink, tag.tagName);
+            }
+        }
+
+        /**
+         * Writes the index of {@code string} in the dictionary, adding it if it is not there yet.
+         */
+        private void writeString(ByteSink sink, String string) {
+            Integer index = dictionary.get(string);
+            if (index == null) {
+                index = strings.size();
+                dictionary.put(string, index);
+                strings.add(string);
+            }
+            sink.writeVarLong(index);
+        }
+    }
+
+    /**
+     * Reads persons and groups, checking and creating each distinct value of a kind only once.
+     */
+    private static class Decoder {
+        private final ByteSource source;
+        private final String[] strings;
+        private final ValueDecoder<Name> names;
+        private final ValueDecoder<Gender> genders;
+        private final ValueDecoder<Nationality> nationalities;
+        private final ValueDecoder<Phone> phones;
+        private final ValueDecoder<Email> emails;
+        private final ValueDecoder<Address> addresses;
+        private final ValueDecoder<Tag> tags;
+        private final ValueDecoder<TestName> testNames;
+        private final ValueDecoder<Grade> grades;
+        private final ValueDecoder<GroupName> groupNames;
+        private final ValueDecoder<GroupLocation> groupLocations;
+
+        /**
+         * Creates a decoder for the data in {@code source}, reading its dictionary.
+         */
+        Decoder(ByteSource source) throws IllegalValueException {
+            this.source = source;
+            strings = new String[source.readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = source.readUtf8(source.readCount());
+            }
+            names = new ValueDecoder<>(strings, Name::isValidName, Name.MESSAGE_NAME_CONSTRAINTS, Name::new);
+            genders = new ValueDecoder<>(strings, Gender::isInputAccepted, Gender.MESSAGE_GENDER_CONSTRAINTS,
+                    Gender::of);
+            nationalities = new ValueDecoder<>(strings, Nationality::isValidCountryCode,
+                    Nationality.MESSAGE_NATIONALITY_CONSTRAINT, Nationality::of);
+            phones = new ValueDecoder<>(strings, Phone::isValidPhone, Phone.MESSAGE_PHONE_CONSTRAINTS, Phone::new);
+            emails = new ValueDecoder<>(strings, Email::isValidEmail, Email.MESSAGE_EMAIL_CONSTRAINTS, Email::new);
+            addresses = new ValueDecoder<>(strings, Address::isValidAddress, Address.MESSAGE_ADDRESS_CONSTRAINTS,
+                    Address::new);
+            tags = new ValueDecoder<>(strings, Tag::isValidTagName, Tag.MESSAGE_TAG_CONSTRAINTS, Tag::of);
+            testNames = new ValueDecoder<>(strings, TestName::isValidTestName,
+                    TestName.MESSAGE_TEST_NAME_CONSTRAINTS, TestName::of);
+            grades = new ValueDecoder<>(strings, Grade::isValidGrade, Grade.MESSAGE_GRADE_CONSTRAINTS, Grade::of);
+            groupNames = new ValueDecoder<>(strings, GroupName::isValidGroupName,
+                    GroupName.MESSAGE_GROUP_NAME_CONSTRAINTS, GroupName::new);
+            groupLocations = new ValueDecoder<>(strings, GroupLocation::isValidGroupLocation,
+                    GroupLocation.MESSAGE_GROUP_LOCATION_CONSTRAINTS, GroupLocation::new);
+        }
+
+        /**
+         * Reads the persons and groups, rejecting duplicates as the xml format does.
+         */
+        AddressBook readAddressBook() throws IllegalValueException {
+            int personCount = source.readCount();
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                int end = source.readRecordEnd();
+                persons.add(readPerson());
+                source.skipTo(end);
+            }
+            // the persons are added at once, which checks for duplicates without adding them one by one
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            int groupCount = source.readCount();
+            for (int i = 0; i < groupCount; i++) {
+                int end = source.readRecordEnd();
+                Group group = readGroup(addressBook);
+                source.skipTo(end);
+                if (addressBook.hasGroup(group)) {
+                    throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_GROUP);
+                }
+                addressBook.createGroup(group);
+            }
+            return addressBook;
+        }
+
+        /**
+         * Reads the fields of a person record.
+         */
+        private Person readPerson() throws IllegalValueException {
+            PersonId id = readId();
+            Name name = names.decode(source.readCount());
+            Gender gender = genders.decode(source.readCount());
+            Nationality nationality = nationalities.decode(source.readCount());
+            Phone phone = phones.decode(source.readCount());
+            Email email = emails.decode(source.readCount());
+            Address address = addresses.decode(source.readCount());
+            Set<Tag> personTags = readTags();
+            int testCount = source.readCount();
+            Set<Test> tests = new HashSet<>();
+            for (int i = 0; i < testCount; i++) {
+                TestName testName = testNames.decode(source.readCount());
+                Marks marks = newValue(Marks::new, decodeMarks(source.readVarLong()), Marks.MESSAGE_MARKS_CONSTRAINTS);
+                Grade grade = grades.decode(source.readCount());
+                tests.add(new Test(testName, marks, grade));
+            }
+            return new Person(id, name, gender, nationality, phone, email, address, personTags, tests);
+        }
+
+        /**
+         * Reads the fields of a group record, whose members must be persons of {@code addressBook}.
+         */
+        private Group readGroup(AddressBook addressBook) throws IllegalValueException {
+            GroupName groupName = groupNames.decode(source.readCount());
+            GroupLocation groupLocation = groupLocations.decode(source.readCount());
+            Set<Tag> groupTags = readTags();
+            int memberCount = source.readCount();
+            List<PersonId> members = new ArrayList<>(memberCount);
+            for (int i = 0; i < memberCount; i++) {
+                PersonId member = readId();
+                if (!addressBook.getPerson(member).isPresent()) {
+                    throw new IllegalValueException(
+                            String.format(XmlAdaptedGroup.UNKNOWN_MEMBER_MESSAGE_FORMAT, member));
+                }
+                members.add(member);
+            }
+            Group group = new Group(groupName, groupLocation, groupTags);
+            group.addPersonIds(members);
+            return group;
+        }
+
+        /**
+         * Reads a number of tags followed by the tags.
+         */
+        private Set<Tag> readTags() throws IllegalValueException {
+            int tagCount = source.readCount();
+            Set<Tag> result = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                result.add(tags.decode(source.readCount()));
+            }
+            return result;
+        }
+
+        /**
+         * Reads a person id.
+         */
+        private PersonId readId() throws IllegalValueException {
+            String id = Long.toString(source.readVarLong());
+            if (!PersonId.isValidId(id)) {
+                throw new IllegalValueException(PersonId.MESSAGE_ID_CONSTRAINTS);
+            }
+            return newValue(PersonId::new, id, PersonId.MESSAGE_ID_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Returns the value {@code factory} makes of {@code string}, which the model checks against its constraints.
+     *
+     * @throws IllegalValueException if {@code string} is not a valid value.
+     */
+    private static <T> T newValue(Function<String, T> factory, String string, String constraints)
+            throws IllegalValueException {
+        try {
+            return factory.apply(string);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(constraints);
+        }
+    }
+
+    /**
+     * Creates the values of one kind from dictionary strings, remembering the value made from each string.
+     * Strings are checked with {@code isValid} before they are made into values.
+     */
+    private static class ValueDecoder<T> {
+        private final String[] strings;
+        private final Predicate<String> isValid;
+        private final String constraints;
+        private final Function<String, T> factory;
+        private final Object[] decoded;
+
+        ValueDecoder(String[] strings, Predicate<String> isValid, String constraints,
+                     Function<String, T> factory) {
+            this.strings = strings;
+            this.isValid = isValid;
+            this.constraints = constraints;
+            this.factory = factory;
+            this.decoded = new Object[strings.length];
+        }
+
+        /**
+         * Returns the value made from the dictionary string at {@code index}.
+         *
+         * @throws IllegalValueException if there is no such string, or the string is not a valid value.
+         */
+        @SuppressWarnings("unchecked")
+        T decode(int index) throws IllegalValueException {
+            if (index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            if (decoded[index] == null) {
+                if (!isValid.test(strings[index])) {
+                    throw new IllegalValueException(constraints);
+                }
+                decoded[index] = newValue(factory, strings[index], constraints);
+            }
+            return (T) decoded[index];
+        }
+    }
+
+    /**
+     * A growable array of bytes.
+     */
+    private static class ByteSink {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        /**
+         * Appends the non-negative {@code value} as a varint.
+         */
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        /**
+         * Appends {@code length} bytes of {@code source} from {@code offset}.
+         */
+        void writeBytes(byte[] source, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        /**
+         * Writes the contents of {@code record} prefixed by its length.
+         */
+        void writeRecord(ByteSink record) {
+            writeVarLong(record.size);
+            writeBytes(record.bytes, 0, record.size);
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Reads values from a range of an array of bytes, treating reads past the end as corruption.
+     */
+    private static class ByteSource {
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+
+        ByteSource(byte[] bytes, int from, int end) {
+            this.bytes = bytes;
+            this.position = from;
+            this.end = end;
+        }
+
+        /**
+         * Reads a varint.
+         */
+        long readVarLong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (position >= end) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        /**
+         * Reads a count or a dictionary index, which cannot be larger than the data itself.
+         */
+        int readCount() throws IllegalValueException {
+            long value = readVarLong();
+            if (value < 0 || value > end) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads the length of the record that follows and returns the position just past its end.
+         */
+        int readRecordEnd() throws IllegalValueException {
+            int length = readCount();
+            if (length > end - position) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return position + length;
+        }
+
+        /**
+         * Moves past the rest of a record ending at {@code recordEnd}, which holds fields unknown to this version.
+         */
+        void skipTo(int recordEnd) throws IllegalValueException {
+            if (position > recordEnd) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            position = recordEnd;
+        }
+
+        /**
+         * Reads a string of {@code length} bytes of UTF-8.
+         */
+        String readUtf8(int length) throws IllegalValueException {
+            if (length > end - position) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            String string = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return string;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the {@link BinaryAddressBookFormat} on the hard disk.
+ * The file can be compressed with gzip in the same way as for {@link XmlAddressBookStorage}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private boolean isCompressed;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, FileUtil.isGzipFileName(filePath));
+    }
+
+    public BinaryAddressBookStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            return Optional.of(BinaryAddressBookFormat.decode(in.readAllBytes()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The data is written to a temporary file first, which then replaces the file at {@code filePath}, so the
+     * file is never left partly written.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path tempFile = FileUtil.createTempFileNextTo(filePath);
+        try {
+            try (OutputStream out = FileUtil.newOutputStream(tempFile,
+                    isCompressed || FileUtil.isGzipFileName(filePath))) {
+                out.write(BinaryAddressBookFormat.encode(addressBook));
+            }
+            FileUtil.replaceWith(filePath, tempFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+}
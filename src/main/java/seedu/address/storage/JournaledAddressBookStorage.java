@@ -0,0 +1,379 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.isSameElements;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot plus a journal of the changes made since the snapshot.
+ *
+ * Each save appends a record for every person added, edited or removed since the last save, and one record with
+ * the group list if any group changed, so the cost of a save grows with the size of the change rather than the
+ * size of the address book. Once the journal holds {@code compactionThreshold} records, or if the persons were
+ * reordered in a way the journal cannot express, the whole address book is written as a new snapshot and the
+ * journal starts over. Reading loads the snapshot and replays the journal on top of it.
+ *
+ * The first line of the journal holds the checksum of the snapshot it applies to, so a journal left behind by a
+ * compaction that was interrupted after the new snapshot was written is recognised as stale and ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_UNKNOWN_RECORD = "Journal record type %s is unknown.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String HEADER_PREFIX = "snapshot ";
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalPath;
+    private final int compactionThreshold;
+
+    /** The persons and groups last written to disk, or null if they are not known. */
+    private LinkedHashMap<PersonId, Person> persistedPersons;
+    private List<Group> persistedGroups;
+    private int journalRecordCount;
+    /** True if the journal on disk cannot be appended to, because it is missing, stale or ends in a partial record. */
+    private boolean needsCompaction = true;
+
+    /**
+     * Creates a storage keeping its snapshot at {@code filePath} that writes a new snapshot after
+     * {@code compactionThreshold} journal records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(new XmlAddressBookStorage(requireNonNull(filePath)), compactionThreshold);
+    }
+
+    /**
+     * Creates a storage keeping its snapshots in {@code snapshotStorage} that writes a new snapshot after
+     * {@code compactionThreshold} journal records.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.snapshotStorage = snapshotStorage;
+        this.journalPath = Paths.get(snapshotStorage.getAddressBookFilePath().toString() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * Files other than this storage's own are read as plain xml files, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            persistedPersons = null;
+            needsCompaction = true;
+            return Optional.empty();
+        }
+
+        List<XmlJournalRecord> records = readJournal(checksumOf(filePath));
+        AddressBook addressBook;
+        try {
+            addressBook = replay(snapshot.get(), records);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        remember(addressBook);
+        journalRecordCount = records.size();
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Files other than this storage's own are written in full as plain xml files, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<XmlJournalRecord>> records = persistedPersons == null || needsCompaction
+                ? Optional.empty()
+                : diff(addressBook);
+        if (!records.isPresent() || journalRecordCount + records.get().size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+        if (records.get().isEmpty()) {
+            return;
+        }
+        append(records.get());
+        journalRecordCount += records.get().size();
+        remember(addressBook);
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and starts a new journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+
+        Path tempFile = FileUtil.createTempFileNextTo(journalPath);
+        try {
+            FileUtil.writeToFile(tempFile, HEADER_PREFIX + checksumOf(filePath) + "\n");
+            FileUtil.replaceWith(journalPath, tempFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        journalRecordCount = 0;
+        needsCompaction = false;
+        remember(addressBook);
+        logger.fine("Compacted journal into " + filePath);
+    }
+
+    /**
+     * Returns the records that turn the persisted persons and groups into those of {@code addressBook}, or an empty
+     * {@code Optional} if the persons were reordered in a way that replaying the records would not reproduce.
+     * Records are immutable, so unchanged ones are recognised by reference.
+     */
+    private Optional<List<XmlJournalRecord>> diff(ReadOnlyAddressBook addressBook) {
+        List<XmlJournalRecord> records = new ArrayList<>();
+        Set<PersonId> currentIds = new HashSet<>();
+        for (Person person : addressBook.getPersonList()) {
+            currentIds.add(person.getId());
+        }
+
+        // replaying adds new persons at the end and keeps the others where they are
+        Iterator<PersonId> persistedOrder = persistedPersons.keySet().iterator();
+        boolean hasNewPerson = false;
+        for (Person person : addressBook.getPersonList()) {
+            Person persisted = persistedPersons.get(person.getId());
+            if (persisted == null) {
+                hasNewPerson = true;
+                records.add(XmlJournalRecord.ofPerson(person));
+                continue;
+            }
+            if (hasNewPerson || !person.getId().equals(nextRemaining(persistedOrder, currentIds))) {
+                return Optional.empty();
+            }
+            if (persisted != person) {
+                records.add(XmlJournalRecord.ofPerson(person));
+            }
+        }
+        for (PersonId id : persistedPersons.keySet()) {
+            if (!currentIds.contains(id)) {
+                records.add(XmlJournalRecord.ofRemovedPerson(id));
+            }
+        }
+
+        if (!isSameElements(persistedGroups, addressBook.getGroupList())) {
+            records.add(XmlJournalRecord.ofGroups(addressBook.getGroupList()));
+        }
+        return Optional.of(records);
+    }
+
+    /**
+     * Returns the next id from {@code ids} that is in {@code remaining}, or null if there is none.
+     */
+    private static PersonId nextRemaining(Iterator<PersonId> ids, Set<PersonId> remaining) {
+        while (ids.hasNext()) {
+            PersonId id = ids.next();
+            if (remaining.contains(id)) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records {@code addressBook} as the state last written to disk.
+     */
+    private void remember(ReadOnlyAddressBook addressBook) {
+        persistedPersons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> persistedPersons.put(person.getId(), person));
+        persistedGroups = new ArrayList<>(addressBook.getGroupList());
+    }
+
+    /**
+     * Applies {@code records} in order to a copy of {@code snapshot}.
+     */
+    private static AddressBook replay(ReadOnlyAddressBook snapshot, List<XmlJournalRecord> records)
+            throws IllegalValueException {
+        Map<PersonId, Person> persons = new LinkedHashMap<>();
+        snapshot.getPersonList().forEach(person -> persons.put(person.getId(), person));
+        List<XmlAdaptedGroup> replayedGroups = null;
+
+        for (XmlJournalRecord record : records) {
+            switch (String.valueOf(record.getType())) {
+            case XmlJournalRecord.TYPE_PERSON:
+                Person person = record.getPerson().toModelType();
+                persons.put(person.getId(), person);
+                break;
+            case XmlJournalRecord.TYPE_REMOVED_PERSON:
+                if (record.getRemovedId() == null || !PersonId.isValidId(record.getRemovedId())) {
+                    throw new IllegalValueException(PersonId.MESSAGE_ID_CONSTRAINTS);
+                }
+                persons.remove(new PersonId(record.getRemovedId()));
+                break;
+            case XmlJournalRecord.TYPE_GROUPS:
+                replayedGroups = record.getGroups();
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_RECORD, record.getType()));
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(new ArrayList<>(persons.values()));
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        if (replayedGroups == null) {
+            addressBook.setGroups(snapshot.getGroupList());
+            return addressBook;
+        }
+        for (XmlAdaptedGroup adaptedGroup : replayedGroups) {
+            Group group = adaptedGroup.toModelType(addressBook);
+            if (addressBook.hasGroup(group)) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_GROUP);
+            }
+            addressBook.createGroup(group);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the records of the journal if it applies to the snapshot with checksum {@code snapshotChecksum}.
+     * A last record that was only partly written is ignored.
+     * Notes whether the journal can be appended to.
+     */
+    private List<XmlJournalRecord> readJournal(String snapshotChecksum) throws DataConversionException, IOException {
+        List<XmlJournalRecord> records = new ArrayList<>();
+        needsCompaction = true;
+        if (!FileUtil.isFileExists(journalPath)) {
+            return records;
+        }
+
+        String content = FileUtil.readFromFile(journalPath);
+        String[] lines = content.split("\n", -1);
+        if (!lines[0].equals(HEADER_PREFIX + snapshotChecksum)) {
+            logger.info("Journal " + journalPath + " does not belong to the current snapshot, ignoring it");
+            return records;
+        }
+
+        try {
+            Unmarshaller unmarshaller = XmlUtil.getContext(XmlJournalRecord.class).createUnmarshaller();
+            // the content ends with a line break unless the last record was cut short
+            for (int i = 1; i < lines.length - 1; i++) {
+                records.add((XmlJournalRecord) unmarshaller.unmarshal(new StringReader(lines[i])));
+            }
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+        if (!lines[lines.length - 1].isEmpty()) {
+            logger.warning("Ignoring the incomplete last record of " + journalPath);
+            return records;
+        }
+        needsCompaction = false;
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal, one per line, and forces them to the disk.
+     */
+    private void append(List<XmlJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        try {
+            Marshaller marshaller = XmlUtil.getContext(XmlJournalRecord.class).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            for (XmlJournalRecord record : records) {
+                StringWriter line = new StringWriter();
+                marshaller.marshal(record, line);
+                // line breaks inside values are escaped so that each record stays on one line
+                lines.append(line.toString().replace("\n", "&#10;").replace("\r", "&#13;")).append('\n');
+            }
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            journal.write(ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8)));
+            journal.force(false);
+        }
+    }
+
+    private static String checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return Long.toHexString(crc.getValue());
+    }
+
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts stored records into model objects on all available cores.
+ * The records are split in halves with fork/join until each part is small enough to convert directly.
+ * Converting a record must only touch that record, so that any number of records can be converted at once.
+ */
+class RecordConverter {
+
+    /** Number of records below which a part is converted by the thread that holds it. */
+    static final int SEQUENTIAL_THRESHOLD = 512;
+
+    /**
+     * Converts one stored record into a model object.
+     *
+     * @param <S> Type of the stored records.
+     * @param <T> Type of the model objects.
+     */
+    @FunctionalInterface
+    interface Conversion<S, T> {
+        T convert(S record) throws IllegalValueException;
+    }
+
+    private RecordConverter() {}
+
+    /**
+     * Returns the model objects converted from {@code records}, in the same order.
+     * If several records are invalid, the error reported is that of the first of them, as if they had been
+     * converted one after another.
+     *
+     * @throws IllegalValueException if any record violates the model's constraints.
+     */
+    static <S, T> List<T> convertAll(List<S> records, Conversion<S, T> conversion) throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(conversion);
+        Object[] converted = new Object[records.size()];
+        ConvertTask<S, T> task = new ConvertTask<>(records, conversion, converted, 0, records.size());
+        if (records.size() <= SEQUENTIAL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        if (task.error != null) {
+            throw task.error;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> models = (List<T>) new ArrayList<>(Arrays.asList(converted));
+        return models;
+    }
+
+    /**
+     * Converts the records in {@code [from, to)} into the same positions of the result array.
+     */
+    private static class ConvertTask<S, T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<S> records;
+        private final Conversion<S, T> conversion;
+        private final Object[] converted;
+        private final int from;
+        private final int to;
+        private IllegalValueException error;
+
+        ConvertTask(List<S> records, Conversion<S, T> conversion, Object[] converted, int from, int to) {
+            this.records = records;
+            this.conversion = conversion;
+            this.converted = converted;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Converts the records directly if there are few of them, or else splits them in halves.
+         * Records after the first invalid one are not converted.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                try {
+                    for (int i = from; i < to; i++) {
+                        converted[i] = conversion.convert(records.get(i));
+                    }
+                } catch (IllegalValueException ive) {
+                    error = ive;
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            ConvertTask<S, T> first = new ConvertTask<>(records, conversion, converted, from, middle);
+            ConvertTask<S, T> second = new ConvertTask<>(records, conversion, converted, middle, to);
+            invokeAll(first, second);
+            error = first.error != null ? first.error : second.error;
+        }
+    }
+}
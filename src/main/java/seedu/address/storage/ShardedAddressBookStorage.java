@@ -0,0 +1,416 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.isSameElements;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * A class to access AddressBook data stored as a manifest plus shard files, so that saving an address book rewrites
+ * only the parts of it that changed.
+ *
+ * The persons are split into runs of at most {@code shardSize} consecutive persons, and each run is kept in its own
+ * shard file in the xml format of {@link XmlFileStorage}, compressed with gzip if asked. The groups are kept in one
+ * more shard file. The manifest at the address book file path lists the shard files in order, while the shard files
+ * themselves are kept in a folder next to it. Reading loads the person shards in parallel.
+ *
+ * A person stays in the shard it was last written to for as long as the persons keep their order, so editing,
+ * adding or removing a person rewrites only the shard holding it. Changed shards are written to new files and forced
+ * to disk before the manifest is replaced the same way, so the files on disk make up either the old or the new
+ * address book, even after a crash. Shard files the manifest no longer lists are deleted after each save.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_FOLDER_SUFFIX = ".shards";
+    public static final String MESSAGE_INVALID_SHARD_NAME = "Shard file name %s is invalid.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String PERSON_SHARD_PREFIX = "persons-";
+    private static final String GROUP_SHARD_PREFIX = "groups-";
+    private static final String SHARD_FILE_SUFFIX = ".xml";
+    private static final Pattern SHARD_NAME_PATTERN = Pattern.compile("(?:persons|groups)-(\\d{1,18})\\.xml");
+
+    private final Path manifestPath;
+    private final Path shardFolder;
+    private final int shardSize;
+    private final boolean isCompressed;
+
+    /** The person shards last written to disk, in order, or null if they are not known. */
+    private List<PersonShard> persistedShards;
+    private List<Group> persistedGroups;
+    private String persistedGroupShard;
+
+    /**
+     * Creates a storage keeping its manifest at {@code filePath} that puts at most {@code shardSize} persons in
+     * each shard. Shards are compressed if the manifest file name ends in {@code .gz}.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardSize) {
+        this(filePath, shardSize, FileUtil.isGzipFileName(filePath));
+    }
+
+    /**
+     * Creates a storage keeping its manifest at {@code filePath} that puts at most {@code shardSize} persons in
+     * each shard, and compresses the shards with gzip if {@code isCompressed}. The manifest is never compressed.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardSize, boolean isCompressed) {
+        requireNonNull(filePath);
+        if (shardSize <= 0) {
+            throw new IllegalArgumentException("Shard size must be positive");
+        }
+        this.manifestPath = filePath;
+        this.shardFolder = Paths.get(filePath.toString() + SHARD_FOLDER_SUFFIX);
+        this.shardSize = shardSize;
+        this.isCompressed = isCompressed;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return manifestPath;
+    }
+
+    public Path getShardFolderPath() {
+        return shardFolder;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(manifestPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * Address books at other paths are read from their own manifest and shard folder.
+     *
+     * @param filePath location of the manifest. Cannot be null
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(manifestPath)) {
+            return new ShardedAddressBookStorage(filePath, shardSize, isCompressed).readAddressBook();
+        }
+
+        if (!FileUtil.isFileExists(manifestPath)) {
+            logger.info("AddressBook file " + manifestPath + " not found");
+            persistedShards = null;
+            return Optional.empty();
+        }
+
+        XmlShardManifest manifest;
+        try {
+            manifest = XmlUtil.getDataFromFile(manifestPath, XmlShardManifest.class);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+
+        List<ShardLoad> loads = new ArrayList<>();
+        try {
+            for (String shardName : manifest.getPersonShards()) {
+                ShardLoad load = new ShardLoad(resolveShard(shardName));
+                load.fork();
+                loads.add(load);
+            }
+            List<XmlAdaptedGroup> groups = new ArrayList<>();
+            if (manifest.getGroupShard() != null) {
+                XmlFileStorage.loadRecordsFromFile(resolveShard(manifest.getGroupShard()), new ArrayList<>(), groups);
+            }
+
+            List<PersonShard> shards = new ArrayList<>();
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < loads.size(); i++) {
+                List<Person> shardPersons = loads.get(i).getPersons();
+                shards.add(new PersonShard(manifest.getPersonShards().get(i), shardPersons));
+                persons.addAll(shardPersons);
+            }
+            AddressBook addressBook = XmlSerializableAddressBook.toModelType(persons, groups);
+
+            persistedShards = shards;
+            persistedGroups = new ArrayList<>(addressBook.getGroupList());
+            persistedGroupShard = manifest.getGroupShard();
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            // only has an effect if reading stopped early, as every load has been joined otherwise
+            loads.forEach(load -> load.cancel(false));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, manifestPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Address books at other paths are written in full, with their own manifest and shard folder.
+     *
+     * @param filePath location of the manifest. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(manifestPath)) {
+            new ShardedAddressBookStorage(filePath, shardSize, isCompressed).saveAddressBook(addressBook);
+            return;
+        }
+
+        List<PersonShard> shards = planShards(addressBook.getPersonList());
+        boolean hasGroupsChanged = persistedGroups == null
+                || !isSameElements(persistedGroups, addressBook.getGroupList());
+        if (!hasGroupsChanged && shards.equals(persistedShards)) {
+            return;
+        }
+
+        FileUtil.createFolder(shardFolder);
+        long nextShardNumber = findNextShardNumber();
+        int writtenCount = 0;
+        for (PersonShard shard : shards) {
+            if (shard.fileName == null) {
+                shard.fileName = PERSON_SHARD_PREFIX + nextShardNumber++ + SHARD_FILE_SUFFIX;
+                writeShard(shard.fileName, shard.persons, Collections.emptyList());
+                writtenCount++;
+            }
+        }
+        String groupShard = persistedGroupShard;
+        if (hasGroupsChanged) {
+            groupShard = GROUP_SHARD_PREFIX + nextShardNumber + SHARD_FILE_SUFFIX;
+            writeShard(groupShard, Collections.emptyList(), addressBook.getGroupList());
+            writtenCount++;
+        }
+
+        List<String> personShardNames = new ArrayList<>();
+        shards.forEach(shard -> personShardNames.add(shard.fileName));
+        writeManifest(new XmlShardManifest(personShardNames, groupShard));
+        persistedShards = shards;
+        persistedGroups = new ArrayList<>(addressBook.getGroupList());
+        persistedGroupShard = groupShard;
+        logger.fine("Wrote " + writtenCount + " of " + (shards.size() + 1) + " shards of " + manifestPath);
+
+        Set<String> listedShards = new HashSet<>(personShardNames);
+        listedShards.add(groupShard);
+        deleteShardsExcept(listedShards);
+    }
+
+    /**
+     * Splits {@code persons} into runs of consecutive persons, reusing each persisted shard whose persons are all
+     * unchanged and still in order. A person joins the shard it was last written to, or the shard of the person
+     * before it if it is new, as long as that shard has room. Runs that have to be written are merged with the run
+     * before them where they fit, so that removing persons does not leave ever smaller shards behind.
+     */
+    private List<PersonShard> planShards(List<Person> persons) {
+        Map<PersonId, PersonShard> owners = new HashMap<>();
+        if (persistedShards != null) {
+            persistedShards.forEach(shard -> shard.persons.forEach(person -> owners.put(person.getId(), shard)));
+        }
+
+        List<PersonShard> origins = new ArrayList<>();
+        List<List<Person>> runs = new ArrayList<>();
+        for (Person person : persons) {
+            PersonShard owner = owners.get(person.getId());
+            int last = runs.size() - 1;
+            if (last < 0 || runs.get(last).size() >= shardSize || (owner != null && owner != origins.get(last))) {
+                origins.add(owner);
+                runs.add(new ArrayList<>());
+                last++;
+            }
+            runs.get(last).add(person);
+        }
+
+        List<PersonShard> shards = new ArrayList<>();
+        for (int i = 0; i < runs.size(); i++) {
+            PersonShard origin = origins.get(i);
+            List<Person> run = runs.get(i);
+            if (origin != null && isSameElements(origin.persons, run)) {
+                shards.add(origin);
+                continue;
+            }
+            PersonShard previous = shards.isEmpty() ? null : shards.get(shards.size() - 1);
+            if (previous != null && previous.fileName == null && previous.persons.size() + run.size() <= shardSize) {
+                previous.persons.addAll(run);
+            } else {
+                shards.add(new PersonShard(null, run));
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the path of the shard file named {@code shardName} in the shard folder.
+     *
+     * @throws IllegalValueException if {@code shardName} is not the name of a shard file.
+     */
+    private Path resolveShard(String shardName) throws IllegalValueException {
+        if (shardName == null || !SHARD_NAME_PATTERN.matcher(shardName).matches()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_NAME, shardName));
+        }
+        return shardFolder.resolve(shardName);
+    }
+
+    /**
+     * Writes {@code persons} and {@code groups} to a new shard file named {@code shardName}.
+     * The shard is written to a temporary file that is forced to disk before it takes its name, so that a manifest
+     * replaced after it never lists a shard that a crash could leave empty or partly written.
+     */
+    private void writeShard(String shardName, List<Person> persons, List<Group> groups) throws IOException {
+        Path shardPath = shardFolder.resolve(shardName);
+        Path tempFile = FileUtil.createTempFileNextTo(shardPath);
+        try {
+            XmlFileStorage.saveRecordsToFile(tempFile, persons, groups, isCompressed);
+            FileUtil.replaceWith(shardPath, tempFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Replaces the manifest with {@code manifest}.
+     */
+    private void writeManifest(XmlShardManifest manifest) throws IOException {
+        Path tempFile = FileUtil.createTempFileNextTo(manifestPath);
+        try {
+            XmlUtil.saveDataToFile(tempFile, manifest);
+            FileUtil.replaceWith(manifestPath, tempFile);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns a shard number higher than that of any shard file in the shard folder.
+     */
+    private long findNextShardNumber() throws IOException {
+        long next = 0;
+        for (String shardName : listShardFiles()) {
+            Matcher matcher = SHARD_NAME_PATTERN.matcher(shardName);
+            if (matcher.matches()) {
+                next = Math.max(next, Long.parseLong(matcher.group(1)) + 1);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Deletes the shard files in the shard folder that are not in {@code listedShards}, such as those replaced by
+     * the last save or left behind by a save that was interrupted.
+     */
+    private void deleteShardsExcept(Set<String> listedShards) {
+        try {
+            for (String shardName : listShardFiles()) {
+                if (!listedShards.contains(shardName)) {
+                    Files.deleteIfExists(shardFolder.resolve(shardName));
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not delete old shards of " + manifestPath + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Returns the names of the shard files in the shard folder.
+     */
+    private List<String> listShardFiles() throws IOException {
+        List<String> shardNames = new ArrayList<>();
+        if (!Files.isDirectory(shardFolder)) {
+            return shardNames;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardFolder)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (SHARD_NAME_PATTERN.matcher(fileName).matches()) {
+                    shardNames.add(fileName);
+                }
+            }
+        }
+        return shardNames;
+    }
+
+    /**
+     * Loads the persons of one person shard, possibly at the same time as other shards.
+     */
+    private static class ShardLoad extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path shardPath;
+        private final List<Person> persons = new ArrayList<>();
+        private Exception error;
+
+        ShardLoad(Path shardPath) {
+            this.shardPath = shardPath;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                XmlFileStorage.loadRecordsFromFile(shardPath, persons, new ArrayList<>());
+            } catch (DataConversionException | IllegalValueException | IOException e) {
+                error = e;
+            }
+        }
+
+        /**
+         * Waits for the shard to be loaded and returns its persons, rethrowing the exception loading ended with.
+         */
+        List<Person> getPersons() throws DataConversionException, IllegalValueException, IOException {
+            join();
+            if (error instanceof DataConversionException) {
+                throw (DataConversionException) error;
+            } else if (error instanceof IllegalValueException) {
+                throw (IllegalValueException) error;
+            } else if (error instanceof IOException) {
+                throw (IOException) error;
+            }
+            return persons;
+        }
+    }
+
+    /**
+     * A run of consecutive persons of the address book that is kept in one shard file.
+     */
+    private static class PersonShard {
+        private final List<Person> persons;
+        /** The name of the file the persons are kept in, or null if they have not been written yet. */
+        private String fileName;
+
+        PersonShard(String fileName, List<Person> persons) {
+            this.fileName = fileName;
+            this.persons = persons;
+        }
+    }
+
+}
@@ -31,9 +31,15 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Address Book to the hard disk, possibly after a delay during which
+     * further changes are saved along with it.
      * Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Saves the changes to the Address Book that are still waiting to be saved, and waits until they are saved.
+     */
+    void flushAddressBook();
 }
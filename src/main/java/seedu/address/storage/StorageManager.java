@@ -23,12 +23,25 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AddressBookSaveService saveService;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the address book on a background thread, writing
+     * the changes made within {@code saveDelayMillis} milliseconds of each other at once.
+     * A delay of zero saves each change on the thread that reports it.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelayMillis) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveService = new AddressBookSaveService(
+                addressBookStorage, saveDelayMillis, exception -> raise(new DataSavingExceptionEvent(exception)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -79,15 +92,24 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    @Override
+    public void flushAddressBook() {
+        saveService.flush();
+    }
+
+    /**
+     * Returns the service that saves the address book when it changes.
+     */
+    public AddressBookSaveService getSaveService() {
+        return saveService;
+    }
+
+
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        saveService.requestSave(event.data);
     }
 
 }
@@ -6,25 +6,34 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupLocation;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.tag.Tag;
 
 
 /**
  * JAXB-friendly version of the Group.
+ * Members are saved as references to the ids of persons in the persons list of the same file.
  */
 public class XmlAdaptedGroup {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Group's %s field is missing!";
+    public static final String UNKNOWN_MEMBER_MESSAGE_FORMAT = "Group's member %s is not in the persons list!";
+
+    private static final Logger logger = LogsCenter.getLogger(XmlAdaptedGroup.class);
 
     @XmlElement(required = true)
     private String groupName;
@@ -35,6 +44,10 @@ public class XmlAdaptedGroup {
     @XmlElement
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
 
+    @XmlElement(name = "member")
+    private List<String> members = new ArrayList<>();
+
+    /** Members saved in full by older versions of the file. Only read, never written. */
     @XmlElement
     private List<XmlAdaptedPerson> persons = new ArrayList<>();
 
@@ -51,17 +64,17 @@ public class XmlAdaptedGroup {
      * @param groupName Group name.
      * @param groupLocation Group location.
      * @param tagged Group tags.
-     * @param persons Group persons.
+     * @param members Ids of the group members.
      */
     public XmlAdaptedGroup(String groupName, String groupLocation,
-                           List<XmlAdaptedTag> tagged, List<XmlAdaptedPerson> persons) {
+                           List<XmlAdaptedTag> tagged, List<String> members) {
         this.groupName = groupName;
         this.groupLocation = groupLocation;
         if (tagged != null) {
             this.tagged = new ArrayList<>(tagged);
         }
-        if (persons != null) {
-            this.persons = new ArrayList<>(persons);
+        if (members != null) {
+            this.members = new ArrayList<>(members);
         }
     }
 
@@ -76,26 +89,31 @@ public class XmlAdaptedGroup {
         tagged = source.getTags().stream()
                 .map(XmlAdaptedTag::new)
                 .collect(Collectors.toList());
-        persons = source.getPersons().stream()
-                .map(XmlAdaptedPerson::new)
+        members = source.getPersonIds().stream()
+                .map(PersonId::toString)
                 .collect(Collectors.toList());
     }
 
     /**
      * Converts this jaxb-friendly adapted group object into the model's Group object.
+     * Members saved in full by older versions of the file are matched to the persons in {@code addressBook}
+     * with the same identity, looked up through the identity index of its person list; those that are no longer
+     * there are dropped with a warning.
      *
+     * @param addressBook Address book holding the persons the members refer to.
      * @return Model group object.
-     * @throws IllegalValueException if there were any data constraints violated in the adapted group.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted group,
+     *     or if a member is not in {@code addressBook}.
      */
-    public Group toModelType() throws IllegalValueException {
+    public Group toModelType(AddressBook addressBook) throws IllegalValueException {
         final List<Tag> groupTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             groupTags.add(tag.toModelType());
         }
 
-        final List<Person> groupPersons = new ArrayList<>();
+        final List<Person> legacyPersons = new ArrayList<>();
         for (XmlAdaptedPerson person : persons) {
-            groupPersons.add(person.toModelType());
+            legacyPersons.add(person.toModelType());
         }
 
         if (groupName == null) {
@@ -116,11 +134,31 @@ public class XmlAdaptedGroup {
         }
         final GroupLocation modelGroupLocation = new GroupLocation(groupLocation);
 
+        final List<PersonId> modelMembers = new ArrayList<>();
+        for (String member : members) {
+            if (!PersonId.isValidId(member)) {
+                throw new IllegalValueException(PersonId.MESSAGE_ID_CONSTRAINTS);
+            }
+            PersonId memberId = new PersonId(member);
+            if (!addressBook.getPerson(memberId).isPresent()) {
+                throw new IllegalValueException(String.format(UNKNOWN_MEMBER_MESSAGE_FORMAT, member));
+            }
+            modelMembers.add(memberId);
+        }
+        for (Person legacyPerson : legacyPersons) {
+            Optional<Person> member = addressBook.getSamePerson(legacyPerson);
+            if (member.isPresent()) {
+                modelMembers.add(member.get().getId());
+            } else {
+                logger.warning("Dropping member " + legacyPerson.getName() + " of group " + groupName
+                        + " as it is not in the persons list");
+            }
+        }
+
         final Set<Tag> modelTags = new HashSet<>(groupTags);
-        final Set<Person> modelPersons = new HashSet<>(groupPersons);
 
         Group group = new Group(modelGroupName, modelGroupLocation, modelTags);
-        group.addPersons(modelPersons);
+        group.addPersonIds(modelMembers);
 
         return group;
     }
@@ -145,6 +183,7 @@ public class XmlAdaptedGroup {
         return Objects.equals(groupName, otherGroup.groupName)
                 && Objects.equals(groupLocation, otherGroup.groupLocation)
                 && tagged.equals(otherGroup.tagged)
+                && members.equals(otherGroup.members)
                 && persons.equals(otherGroup.persons);
     }
 
@@ -19,6 +19,7 @@ import seedu.address.model.person.Gender;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Nationality;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -29,6 +30,8 @@ public class XmlAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    @XmlElement
+    private String id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -61,7 +64,15 @@ public class XmlAdaptedPerson {
 
     public XmlAdaptedPerson(String name, String gender, String nationality, String phone, String email, String address,
                              List<XmlAdaptedTag> tagged, List<XmlAdaptedTest> tests) {
+        this(null, name, gender, nationality, phone, email, address, tagged, tests);
+    }
 
+    /**
+     * Constructs an {@code XmlAdaptedPerson} with the given id and person details.
+     */
+    public XmlAdaptedPerson(String id, String name, String gender, String nationality, String phone, String email,
+                            String address, List<XmlAdaptedTag> tagged, List<XmlAdaptedTest> tests) {
+        this.id = id;
         this.name = name;
         this.gender = gender;
         this.nationality = nationality;
@@ -82,6 +93,7 @@ public class XmlAdaptedPerson {
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
     public XmlAdaptedPerson(Person source) {
+        id = source.getId().toString();
         name = source.getName().fullName;
         gender = source.getGender().gender;
         nationality = source.getNationality().nationality;
@@ -98,6 +110,7 @@ public class XmlAdaptedPerson {
 
     /**
      * Converts this jaxb-friendly adapted person object into the model's Person object.
+     * A person saved without an id is given a new one.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
@@ -107,6 +120,11 @@ public class XmlAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
+        if (id != null && !PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_ID_CONSTRAINTS);
+        }
+        final PersonId modelId = id == null ? PersonId.next() : new PersonId(id);
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -121,7 +139,7 @@ public class XmlAdaptedPerson {
         if (!Gender.isInputAccepted(gender)) {
             throw new IllegalValueException(Gender.MESSAGE_GENDER_CONSTRAINTS);
         }
-        final Gender modelGender = new Gender(gender);
+        final Gender modelGender = Gender.of(gender);
 
         if (nationality == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -130,7 +148,7 @@ public class XmlAdaptedPerson {
         if (!Nationality.isValidCountryCode(nationality)) {
             throw new IllegalValueException(Nationality.MESSAGE_NATIONALITY_CONSTRAINT);
         }
-        final Nationality modelNationality = new Nationality(nationality);
+        final Nationality modelNationality = Nationality.of(nationality);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -165,7 +183,7 @@ public class XmlAdaptedPerson {
         }
         final Set<Test> modelTests = new HashSet<>(personTests);
 
-        return new Person(modelName, modelGender, modelNationality, modelPhone,
+        return new Person(modelId, modelName, modelGender, modelNationality, modelPhone,
                 modelEmail, modelAddress, modelTags, modelTests);
 
     }
@@ -181,7 +199,8 @@ public class XmlAdaptedPerson {
         }
 
         XmlAdaptedPerson otherPerson = (XmlAdaptedPerson) other;
-        return Objects.equals(name, otherPerson.name)
+        return Objects.equals(id, otherPerson.id)
+                && Objects.equals(name, otherPerson.name)
                 && Objects.equals(gender, otherPerson.gender)
                 && Objects.equals(nationality, otherPerson.nationality)
                 && Objects.equals(phone, otherPerson.phone)
@@ -45,7 +45,7 @@ public class XmlAdaptedTag {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
     @Override
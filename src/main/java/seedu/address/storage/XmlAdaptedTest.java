@@ -69,7 +69,7 @@ public class XmlAdaptedTest {
         if (!TestName.isValidTestName(testName)) {
             throw new IllegalValueException(TestName.MESSAGE_TEST_NAME_CONSTRAINTS);
         }
-        TestName modelTestName = new TestName(testName);
+        TestName modelTestName = TestName.of(testName);
 
         if (marks == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -85,7 +85,7 @@ public class XmlAdaptedTest {
         if (!Grade.isValidGrade(grade)) {
             throw new IllegalValueException(Grade.MESSAGE_GRADE_CONSTRAINTS);
         }
-        final Grade modelGrades = new Grade(grade);
+        final Grade modelGrades = Grade.of(grade);
 
         return new Test(modelTestName, modelMarks, modelGrades);
     }
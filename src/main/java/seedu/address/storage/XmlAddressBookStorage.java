@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -17,15 +16,24 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as an xml file on the hard disk.
+ * The file can be compressed with gzip, which makes it about ten times smaller. Compressed files are read
+ * whatever their name, while files are written compressed if the storage was asked to, or if their name ends
+ * in {@code .gz}.
  */
 public class XmlAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isCompressed;
 
     public XmlAddressBookStorage(Path filePath) {
+        this(filePath, FileUtil.isGzipFileName(filePath));
+    }
+
+    public XmlAddressBookStorage(Path filePath, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
@@ -44,7 +52,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
-            FileNotFoundException {
+            IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -52,9 +60,8 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlAddressBook.toModelType());
+            return Optional.of(XmlFileStorage.loadDataFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -68,6 +75,8 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The data is written to a temporary file first, which then replaces the file at {@code filePath}, so the
+     * file is never left partly written.
      *
      * @param filePath location of the data. Cannot be null
      */
@@ -75,8 +84,13 @@ public class XmlAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableAddressBook(addressBook));
+        Path tempFile = FileUtil.createTempFileNextTo(filePath);
+        try {
+            XmlFileStorage.saveDataToFile(tempFile, addressBook, isCompressed || FileUtil.isGzipFileName(filePath));
+            FileUtil.replaceWith(filePath, tempFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
     }
 
 }
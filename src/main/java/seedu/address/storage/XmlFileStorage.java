@@ -1,39 +1,373 @@
 package seedu.address.storage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static seedu.address.commons.util.ValidationUtil.lookupTable;
+
+import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.grade.Test;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
- * Stores addressbook data in an XML file
+ * Stores addressbook data in an XML file, in the format of {@link XmlSerializableAddressBook}.
+ *
+ * The file is streamed rather than held in memory as a whole: saving writes each person and group straight from the
+ * model, and loading converts persons into the model a batch at a time, in parallel, as they are read. Only one batch
+ * of persons is ever held in its xml form, so the memory used grows with the address book itself rather than twice
+ * over. Groups, which are few and may hold persons in the format of older versions, are read through JAXB.
  */
 public class XmlFileStorage {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String GROUP_ELEMENT = "groups";
+    private static final String TAG_ELEMENT = "tagged";
+    private static final String MEMBER_ELEMENT = "member";
+    private static final String SCORE_LIST_ELEMENT = "scoreList";
+    private static final String TEST_ELEMENT = "test";
+    private static final String INDENT = "    ";
+    private static final int PERSON_BATCH_SIZE = 8 * RecordConverter.SEQUENTIAL_THRESHOLD;
+    private static final Set<String> PERSON_FIELDS =
+            lookupTable("id", "name", "gender", "nationality", "phone", "email", "address");
+    private static final Set<String> TEST_FIELDS = lookupTable("testName", "marks", "grade");
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
     /**
      * Saves the given addressbook data to the specified file.
      */
-    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook)
-            throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(file, addressBook);
-        } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+    public static void saveDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        saveDataToFile(file, addressBook, false);
+    }
+
+    /**
+     * Saves the given addressbook data to the specified file, compressed with gzip if {@code isCompressed}.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyAddressBook addressBook, boolean isCompressed)
+            throws IOException {
+        saveRecordsToFile(file, addressBook.getPersonList(), addressBook.getGroupList(), isCompressed);
+    }
+
+    /**
+     * Saves the given persons and groups to the specified file, in the same format as a whole address book.
+     */
+    static void saveRecordsToFile(Path file, List<Person> persons, List<Group> groups, boolean isCompressed)
+            throws IOException {
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(FileUtil.newOutputStream(file, isCompressed),
+                UTF_8))) {
+            out.write(XML_DECLARATION);
+            XMLStreamWriter xml = OUTPUT_FACTORY.createXMLStreamWriter(out);
+            writeAddressBook(xml, persons, groups);
+            xml.writeEndDocument();
+            xml.close();
+            out.write('\n');
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
         }
     }
 
     /**
-     * Returns address book in the file or an empty address book
+     * Returns address book in the file, which is decompressed as it is read if it is gzip-compressed.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableAddressBook loadDataFromSaveFile(Path file) throws DataConversionException,
-            FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
-        } catch (JAXBException e) {
+    public static AddressBook loadDataFromSaveFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        List<Person> persons = new ArrayList<>();
+        List<XmlAdaptedGroup> groups = new ArrayList<>();
+        loadRecordsFromFile(file, persons, groups);
+        return XmlSerializableAddressBook.toModelType(persons, groups);
+    }
+
+    /**
+     * Adds the persons in the file to {@code persons} and the groups to {@code groups}.
+     * The groups are left unconverted, as their members may be kept in other files.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated by the persons in the file.
+     */
+    static void loadRecordsFromFile(Path file, List<Person> persons, List<XmlAdaptedGroup> groups)
+            throws DataConversionException, IllegalValueException, IOException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            XMLStreamReader xml = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                readRecords(xml, persons, groups);
+            } finally {
+                xml.close();
+            }
+        } catch (XMLStreamException | JAXBException e) {
             throw new DataConversionException(e);
         }
     }
 
+    /**
+     * Reads the persons and groups of the address book at the root of {@code xml} into {@code persons} and
+     * {@code groups}. Persons are converted in batches as they are read, while groups are left for the caller to
+     * convert once all persons are known.
+     */
+    private static void readRecords(XMLStreamReader xml, List<Person> persons, List<XmlAdaptedGroup> groups)
+            throws IllegalValueException, JAXBException, XMLStreamException {
+        moveToNextTag(xml);
+        if (!xml.isStartElement() || !xml.getLocalName().equals(ROOT_ELEMENT)) {
+            throw new XMLStreamException("Root element is not <" + ROOT_ELEMENT + ">", xml.getLocation());
+        }
+        xml.next();
+
+        Unmarshaller unmarshaller = XmlUtil.getContext(XmlSerializableAddressBook.class).createUnmarshaller();
+        List<XmlAdaptedPerson> batch = new ArrayList<>(PERSON_BATCH_SIZE);
+        for (moveToNextTag(xml); xml.isStartElement(); moveToNextTag(xml)) {
+            switch (xml.getLocalName()) {
+            case PERSON_ELEMENT:
+                batch.add(readPerson(xml));
+                if (batch.size() == PERSON_BATCH_SIZE) {
+                    persons.addAll(RecordConverter.convertAll(batch, XmlAdaptedPerson::toModelType));
+                    batch.clear();
+                }
+                break;
+            case GROUP_ELEMENT:
+                groups.add(unmarshaller.unmarshal(xml, XmlAdaptedGroup.class).getValue());
+                break;
+            default:
+                skipElement(xml);
+            }
+        }
+        persons.addAll(RecordConverter.convertAll(batch, XmlAdaptedPerson::toModelType));
+    }
+
+    /**
+     * Reads the person element at {@code xml} as JAXB reads a {@code XmlAdaptedPerson}, leaving {@code xml} just
+     * past its end. Reading the few elements of a person directly is much faster than going through JAXB.
+     */
+    private static XmlAdaptedPerson readPerson(XMLStreamReader xml) throws XMLStreamException {
+        Map<String, String> fields = new HashMap<>();
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        List<XmlAdaptedTest> tests = new ArrayList<>();
+        xml.next();
+        for (moveToNextTag(xml); xml.isStartElement(); moveToNextTag(xml)) {
+            String name = xml.getLocalName();
+            if (name.equals(TAG_ELEMENT)) {
+                tags.add(new XmlAdaptedTag(readText(xml)));
+            } else if (name.equals(SCORE_LIST_ELEMENT)) {
+                readTests(xml, tests);
+            } else if (PERSON_FIELDS.contains(name)) {
+                fields.put(name, readText(xml));
+            } else {
+                skipElement(xml);
+            }
+        }
+        xml.next();
+        return new XmlAdaptedPerson(fields.get("id"), fields.get("name"), fields.get("gender"),
+                fields.get("nationality"), fields.get("phone"), fields.get("email"), fields.get("address"),
+                tags, tests);
+    }
+
+    /**
+     * Reads the tests in the score list element at {@code xml} into {@code tests}.
+     */
+    private static void readTests(XMLStreamReader xml, List<XmlAdaptedTest> tests) throws XMLStreamException {
+        xml.next();
+        for (moveToNextTag(xml); xml.isStartElement(); moveToNextTag(xml)) {
+            if (!xml.getLocalName().equals(TEST_ELEMENT)) {
+                skipElement(xml);
+                continue;
+            }
+            Map<String, String> fields = new HashMap<>();
+            xml.next();
+            for (moveToNextTag(xml); xml.isStartElement(); moveToNextTag(xml)) {
+                String name = xml.getLocalName();
+                if (TEST_FIELDS.contains(name)) {
+                    fields.put(name, readText(xml));
+                } else {
+                    skipElement(xml);
+                }
+            }
+            xml.next();
+            tests.add(new XmlAdaptedTest(fields.get("testName"), fields.get("marks"), fields.get("grade")));
+        }
+        xml.next();
+    }
+
+    /**
+     * Returns the text of the element at {@code xml}, leaving {@code xml} just past its end.
+     */
+    private static String readText(XMLStreamReader xml) throws XMLStreamException {
+        String text = xml.getElementText();
+        xml.next();
+        return text;
+    }
+
+    /**
+     * Moves {@code xml} past text and comments to the next start or end tag, if there is one.
+     */
+    private static void moveToNextTag(XMLStreamReader xml) throws XMLStreamException {
+        while (!xml.isStartElement() && !xml.isEndElement() && xml.hasNext()) {
+            xml.next();
+        }
+    }
+
+    /**
+     * Moves {@code xml} from the start of an element to just past its end.
+     */
+    private static void skipElement(XMLStreamReader xml) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (xml.isStartElement()) {
+                depth++;
+            } else if (xml.isEndElement()) {
+                depth--;
+            }
+            xml.next();
+        } while (depth > 0);
+    }
+
+    /**
+     * Writes {@code persons} and {@code groups} laid out as JAXB lays out a {@code XmlSerializableAddressBook}.
+     */
+    private static void writeAddressBook(XMLStreamWriter xml, List<Person> persons, List<Group> groups)
+            throws XMLStreamException {
+        if (persons.isEmpty() && groups.isEmpty()) {
+            xml.writeEmptyElement(ROOT_ELEMENT);
+            return;
+        }
+
+        xml.writeStartElement(ROOT_ELEMENT);
+        for (Person person : persons) {
+            writePerson(xml, person);
+        }
+        for (Group group : groups) {
+            writeGroup(xml, group);
+        }
+        xml.writeCharacters("\n");
+        xml.writeEndElement();
+    }
+
+    /**
+     * Writes {@code person} as the element JAXB makes of a {@code XmlAdaptedPerson}.
+     */
+    private static void writePerson(XMLStreamWriter xml, Person person) throws XMLStreamException {
+        startElement(xml, 1, PERSON_ELEMENT);
+        writeElement(xml, 2, "id", person.getId().toString());
+        writeElement(xml, 2, "name", person.getName().fullName);
+        writeElement(xml, 2, "gender", person.getGender().gender);
+        writeElement(xml, 2, "nationality", person.getNationality().nationality);
+        writeElement(xml, 2, "phone", person.getPhone().value);
+        writeElement(xml, 2, "email", person.getEmail().value);
+        writeElement(xml, 2, "address", person.getAddress().value);
+        for (Tag tag : person.getTags()) {
+            writeElement(xml, 2, TAG_ELEMENT, tag.tagName);
+        }
+        if (person.getTests().isEmpty()) {
+            indent(xml, 2);
+            xml.writeEmptyElement(SCORE_LIST_ELEMENT);
+        } else {
+            startElement(xml, 2, SCORE_LIST_ELEMENT);
+            for (Test test : person.getTests()) {
+                startElement(xml, 3, TEST_ELEMENT);
+                writeElement(xml, 4, "testName", test.getTestName().testName);
+                writeElement(xml, 4, "marks", test.getMarks().value);
+                writeElement(xml, 4, "grade", test.getGrade().value);
+                endElement(xml, 3);
+            }
+            endElement(xml, 2);
+        }
+        endElement(xml, 1);
+    }
+
+    /**
+     * Writes {@code group} as the element JAXB makes of a {@code XmlAdaptedGroup}.
+     */
+    private static void writeGroup(XMLStreamWriter xml, Group group) throws XMLStreamException {
+        startElement(xml, 1, GROUP_ELEMENT);
+        writeElement(xml, 2, "groupName", group.getGroupName().groupName);
+        writeElement(xml, 2, "groupLocation", group.getGroupLocation().groupLocation);
+        for (Tag tag : group.getTags()) {
+            writeElement(xml, 2, TAG_ELEMENT, tag.tagName);
+        }
+        for (PersonId member : group.getPersonIds()) {
+            writeElement(xml, 2, MEMBER_ELEMENT, member.toString());
+        }
+        endElement(xml, 1);
+    }
+
+    /**
+     * Writes an element holding only {@code text} on a new line indented to the nesting {@code level}.
+     */
+    private static void writeElement(XMLStreamWriter xml, int level, String name, String text)
+            throws XMLStreamException {
+        indent(xml, level);
+        xml.writeStartElement(name);
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+
+    private static void startElement(XMLStreamWriter xml, int level, String name) throws XMLStreamException {
+        indent(xml, level);
+        xml.writeStartElement(name);
+    }
+
+    private static void endElement(XMLStreamWriter xml, int level) throws XMLStreamException {
+        indent(xml, level);
+        xml.writeEndElement();
+    }
+
+    /**
+     * Starts a new line indented to the nesting {@code level}.
+     */
+    private static void indent(XMLStreamWriter xml, int level) throws XMLStreamException {
+        xml.writeCharacters("\n");
+        for (int i = 0; i < level; i++) {
+            xml.writeCharacters(INDENT);
+        }
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
 }
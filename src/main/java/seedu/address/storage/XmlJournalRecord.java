@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * JAXB-friendly version of one change recorded in the journal of a {@link JournaledAddressBookStorage}.
+ * A record either adds or replaces a person, removes a person, or replaces the whole group list.
+ */
+@XmlRootElement(name = "record")
+public class XmlJournalRecord {
+
+    public static final String TYPE_PERSON = "person";
+    public static final String TYPE_REMOVED_PERSON = "removedPerson";
+    public static final String TYPE_GROUPS = "groups";
+
+    @XmlAttribute(required = true)
+    private String type;
+    @XmlAttribute
+    private String removedId;
+    @XmlElement
+    private XmlAdaptedPerson person;
+    @XmlElement(name = "group")
+    private List<XmlAdaptedGroup> groups = new ArrayList<>();
+
+    /**
+     * Constructs an XmlJournalRecord.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlJournalRecord() {
+    }
+
+    private XmlJournalRecord(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns a record that adds {@code person}, or replaces the person with the same id.
+     */
+    public static XmlJournalRecord ofPerson(Person person) {
+        XmlJournalRecord record = new XmlJournalRecord(TYPE_PERSON);
+        record.person = new XmlAdaptedPerson(person);
+        return record;
+    }
+
+    /**
+     * Returns a record that removes the person with id {@code id}.
+     */
+    public static XmlJournalRecord ofRemovedPerson(PersonId id) {
+        XmlJournalRecord record = new XmlJournalRecord(TYPE_REMOVED_PERSON);
+        record.removedId = id.toString();
+        return record;
+    }
+
+    /**
+     * Returns a record that replaces the group list with {@code groups}.
+     */
+    public static XmlJournalRecord ofGroups(List<Group> groups) {
+        XmlJournalRecord record = new XmlJournalRecord(TYPE_GROUPS);
+        record.groups = groups.stream().map(XmlAdaptedGroup::new).collect(Collectors.toList());
+        return record;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getRemovedId() {
+        return removedId;
+    }
+
+    public XmlAdaptedPerson getPerson() {
+        return person;
+    }
+
+    public List<XmlAdaptedGroup> getGroups() {
+        return groups;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlJournalRecord)) {
+            return false;
+        }
+
+        XmlJournalRecord otherRecord = (XmlJournalRecord) other;
+        return Objects.equals(type, otherRecord.type)
+                && Objects.equals(removedId, otherRecord.removedId)
+                && Objects.equals(person, otherRecord.person)
+                && Objects.equals(groups, otherRecord.groups);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, removedId, person, groups);
+    }
+}
@@ -10,8 +10,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.group.Group;
+import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to XML format
@@ -48,25 +49,32 @@ public class XmlSerializableAddressBook {
 
     /**
      * Converts this addressbook into the model's {@code AddressBook} object.
+     * The records are converted in parallel, after which duplicates are found in a single pass over them.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the
      * {@code XmlAdaptedPerson} or {@code XmlAdaptedGroup}.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(RecordConverter.convertAll(persons, XmlAdaptedPerson::toModelType), groups);
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the given converted persons and the given groups, which may refer to them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the {@code XmlAdaptedGroup},
+     * or duplicates among the persons or groups.
+     */
+    static AddressBook toModelType(List<Person> persons, List<XmlAdaptedGroup> groups) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (XmlAdaptedPerson p : persons) {
-            Person person = p.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
-        for (XmlAdaptedGroup g : groups) {
-            Group group = g.toModelType();
-            if (addressBook.hasGroup(group)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
-            }
-            addressBook.createGroup(group);
+        try {
+            addressBook.setGroups(RecordConverter.convertAll(groups, group -> group.toModelType(addressBook)));
+        } catch (DuplicateGroupException dge) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
         }
         return addressBook;
     }
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * JAXB-friendly version of the manifest of a {@link ShardedAddressBookStorage}.
+ * The manifest names the shard files that together make up the address book, with the person shards in the order
+ * in which their persons appear in the address book.
+ */
+@XmlRootElement(name = "shards")
+public class XmlShardManifest {
+
+    @XmlElement(name = "personShard")
+    private List<String> personShards = new ArrayList<>();
+    @XmlElement
+    private String groupShard;
+
+    /**
+     * Constructs an XmlShardManifest.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlShardManifest() {
+    }
+
+    public XmlShardManifest(List<String> personShards, String groupShard) {
+        this.personShards = new ArrayList<>(personShards);
+        this.groupShard = groupShard;
+    }
+
+    public List<String> getPersonShards() {
+        return personShards;
+    }
+
+    public String getGroupShard() {
+        return groupShard;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlShardManifest)) {
+            return false;
+        }
+
+        XmlShardManifest otherManifest = (XmlShardManifest) other;
+        return personShards.equals(otherManifest.personShards)
+                && Objects.equals(groupShard, otherManifest.groupShard);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personShards, groupShard);
+    }
+}
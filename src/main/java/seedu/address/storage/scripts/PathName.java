@@ -1,5 +1,7 @@
 package seedu.address.storage.scripts;
 
+import static seedu.address.commons.util.ValidationUtil.isNonBlankWithout;
+
 /**
  * Check if the script path name is in valid format .
  */
@@ -10,6 +12,8 @@ public class PathName {
      * Returns true if a given string is a valid text file name.
      */
     public static boolean isValidPath(String path) {
-        return path.matches(MESSAGE_VALIDATION_REGEX);
+        int last = path.length() - 1;
+        return last >= 2 && path.charAt(0) == '/' && path.charAt(last) == '/' && !path.contains("//")
+                && isNonBlankWithout(path, 1, last, "\"<>?:*");
     }
 }
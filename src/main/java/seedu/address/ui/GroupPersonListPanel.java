@@ -12,6 +12,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.GroupPanelSelectionChangedEvent;
+import seedu.address.logic.Logic;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 
@@ -26,11 +27,16 @@ public class GroupPersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> groupPersonListView;
 
+    private final Logic logic;
+
     /**
      * Registers event handler.
+     *
+     * @param logic Logic used to look up the members of a group.
      */
-    public GroupPersonListPanel() {
+    public GroupPersonListPanel(Logic logic) {
         super(FXML);
+        this.logic = logic;
         registerAsAnEventHandler(this);
     }
 
@@ -40,10 +46,8 @@ public class GroupPersonListPanel extends UiPart<Region> {
      * @param group Group selected.
      */
     private void loadGroupPersons(Group group) {
-        ObservableList<Person> personObservableList = FXCollections.observableArrayList();
-        for (Person p: group.getPersons()) {
-            personObservableList.add(p);
-        }
+        ObservableList<Person> personObservableList =
+                FXCollections.observableArrayList(logic.getGroupPersons(group));
 
         groupPersonListView.setItems(personObservableList);
         groupPersonListView.setCellFactory(listView -> new PersonListViewCell());
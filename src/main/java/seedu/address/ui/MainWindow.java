@@ -138,7 +138,7 @@ public class MainWindow extends UiPart<Stage> {
         groupListPanel = new GroupListPanel(logic.getFilteredGroupList());
         groupListPanelPlaceholder.getChildren().add(groupListPanel.getRoot());
 
-        groupPersonListPanel = new GroupPersonListPanel();
+        groupPersonListPanel = new GroupPersonListPanel(logic);
         groupPersonListPanelPlaceholder.getChildren().add(groupPersonListPanel.getRoot());
 
         ResultDisplay resultDisplay = new ResultDisplay();
@@ -13,6 +13,7 @@ import com.google.common.eventbus.Subscribe;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 
@@ -57,7 +58,8 @@ public class StatusBarFooter extends UiPart<Region> {
         setListOrder(LIST_ORDER);
         setSaveLocation(Paths.get(".").resolve(saveLocation).toString());
         setTotalPersonsGroups(totalPersons, totalGroups);
-        registerAsAnEventHandler(this);
+        // only the latest change matters to the status bar, so bursts of changes update it once
+        registerAsAnEventHandler(this, DispatchPolicy.FX_COALESCED);
     }
 
     /**
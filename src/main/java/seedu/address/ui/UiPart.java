@@ -8,6 +8,7 @@ import java.net.URL;
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
 import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
 import seedu.address.commons.events.BaseEvent;
 
 /**
@@ -77,6 +78,15 @@ public abstract class UiPart<T> {
         EventsCenter.getInstance().registerHandler(handler);
     }
 
+    /**
+     * Registers the object as an event handler at the {@link EventsCenter}, to be passed events as {@code policy}
+     * decides.
+     * @param handler usually {@code this}
+     */
+    protected void registerAsAnEventHandler(Object handler, DispatchPolicy policy) {
+        EventsCenter.getInstance().registerHandler(handler, policy);
+    }
+
     /**
      * Loads the object hierarchy from a FXML document.
      * @param location Location of the FXML document.
@@ -0,0 +1,36 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class EventStatisticsTest {
+
+    @Test
+    public void getBucket() {
+        assertEquals(0, EventStatistics.getBucket(999));
+        assertEquals(1, EventStatistics.getBucket(1000));
+        assertEquals(2, EventStatistics.getBucket(2000));
+        assertEquals(2, EventStatistics.getBucket(3999));
+        assertEquals(3, EventStatistics.getBucket(4000));
+
+        // longer dispatches all fall in the last bucket
+        assertEquals(EventStatistics.BUCKET_COUNT - 1, EventStatistics.getBucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void getLatencyPercentileMicros() {
+        EventStatistics statistics = new EventStatistics();
+        assertEquals(0, statistics.getLatencyPercentileMicros(0.99));
+
+        for (int i = 0; i < 98; i++) {
+            statistics.recordDispatch(500);
+        }
+        statistics.recordDispatch(3000);
+        statistics.recordDispatch(100_000_000_000L);
+        assertEquals(1, statistics.getLatencyPercentileMicros(0.5));
+        assertEquals(4, statistics.getLatencyPercentileMicros(0.99));
+        assertEquals(100_000_000, statistics.getLatencyPercentileMicros(1));
+        assertEquals(100_000_000_000L, statistics.getMaxLatencyNanos());
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.events.ui.ShowHelpRequestEvent;
+
+public class EventsCenterTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_synchronousHandler_handledBeforePostReturns() {
+        ResultCollector collector = new ResultCollector(1);
+        EventsCenter.getInstance().registerHandler(collector);
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("first"));
+
+        assertEquals(Collections.singletonList("first"), collector.getMessages());
+        assertEquals(Thread.currentThread(), collector.getLastThread());
+    }
+
+    @Test
+    public void post_asynchronousHandler_handledInOrderOnAnotherThread() throws Exception {
+        ResultCollector collector = new ResultCollector(3);
+        EventsCenter.getInstance().registerHandler(collector, DispatchPolicy.ASYNCHRONOUS);
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("first"))
+                .post(new NewResultAvailableEvent("second"))
+                .post(new NewResultAvailableEvent("third"));
+
+        assertTrue(collector.await());
+        assertEquals(List.of("first", "second", "third"), collector.getMessages());
+        assertNotEquals(Thread.currentThread(), collector.getLastThread());
+    }
+
+    @Test
+    public void post_fxCoalescedHandler_latestEventHandled() throws Exception {
+        ResultCollector collector = new ResultCollector(1);
+        EventsCenter.getInstance().registerHandler(collector, DispatchPolicy.FX_COALESCED);
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("first"))
+                .post(new NewResultAvailableEvent("second"));
+
+        // without JavaFX each event is handled at once; with it, only the second one may be handled
+        assertTrue(collector.await());
+        EventStatistics statistics = EventsCenter.getInstance().getStatistics(NewResultAvailableEvent.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!collector.getMessages().contains("second") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        List<String> messages = collector.getMessages();
+        assertEquals("second", messages.get(messages.size() - 1));
+        assertEquals(2, messages.size() + statistics.getCoalescedCount());
+    }
+
+    @Test
+    public void getStatistics_eventsPosted_countedAndTimed() {
+        EventsCenter.getInstance().registerHandler(new ResultCollector(0));
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("first"))
+                .post(new NewResultAvailableEvent("second"));
+
+        EventStatistics statistics = EventsCenter.getInstance().getStatistics(NewResultAvailableEvent.class);
+        assertEquals(2, statistics.getPostCount());
+        assertEquals(0, statistics.getCoalescedCount());
+        assertEquals(2, statistics.getDispatchCount());
+        long histogramCount = 0;
+        for (int bucket = 0; bucket < EventStatistics.BUCKET_COUNT; bucket++) {
+            histogramCount += statistics.getBucketCount(bucket);
+        }
+        assertEquals(2, histogramCount);
+    }
+
+    @Test
+    public void getStatistics_policiesWithoutSubscribersForType_notDispatched() {
+        ResultCollector collector = new ResultCollector(0);
+        EventsCenter.getInstance().registerHandler(collector);
+        EventsCenter.getInstance().registerHandler(new HelpRequestCounter(), DispatchPolicy.ASYNCHRONOUS);
+        EventsCenter.getInstance().registerHandler(new HelpRequestCounter(), DispatchPolicy.FX_COALESCED);
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("first"))
+                .post(new NewResultAvailableEvent("second"));
+
+        // only the synchronous subscriber handles results, so they are neither queued for JavaFX nor coalesced
+        EventStatistics statistics = EventsCenter.getInstance().getStatistics(NewResultAvailableEvent.class);
+        assertEquals(List.of("first", "second"), collector.getMessages());
+        assertEquals(0, statistics.getCoalescedCount());
+        assertEquals(2, statistics.getDispatchCount());
+    }
+
+    @Test
+    public void getStatistics_eventWithoutSubscribers_postedButNotDispatched() {
+        EventsCenter.getInstance().registerHandler(new ResultCollector(0));
+        EventsCenter.getInstance().post(new ShowHelpRequestEvent());
+
+        EventStatistics statistics = EventsCenter.getInstance().getStatistics(ShowHelpRequestEvent.class);
+        assertEquals(1, statistics.getPostCount());
+        assertEquals(0, statistics.getDispatchCount());
+    }
+
+    @Test
+    public void getStatistics_severalSubscribers_timedPerSubscriber() {
+        EventsCenter.getInstance().registerHandler(new ResultCollector(0));
+        EventsCenter.getInstance().registerHandler(new ResultCollector(0));
+        EventsCenter.getInstance().registerHandler(new HelpRequestCounter());
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("first"));
+
+        assertEquals(2, EventsCenter.getInstance().getStatistics(NewResultAvailableEvent.class).getDispatchCount());
+        assertEquals(2, EventsCenter.getInstance()
+                .getStatistics(NewResultAvailableEvent.class, ResultCollector.class).getDispatchCount());
+        assertEquals(0, EventsCenter.getInstance()
+                .getStatistics(NewResultAvailableEvent.class, HelpRequestCounter.class).getDispatchCount());
+    }
+
+    /**
+     * Counts the help requests it is passed.
+     */
+    private static class HelpRequestCounter {
+        private int count;
+
+        @Subscribe
+        public void handleShowHelpRequestEvent(ShowHelpRequestEvent event) {
+            count++;
+        }
+    }
+
+    /**
+     * Collects the messages of the results it is passed, and the thread it was last passed one on.
+     */
+    private static class ResultCollector {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch latch;
+        private volatile Thread lastThread;
+
+        ResultCollector(int expectedCount) {
+            latch = new CountDownLatch(expectedCount);
+        }
+
+        @Subscribe
+        public void handleNewResultAvailableEvent(NewResultAvailableEvent event) {
+            messages.add(event.message);
+            lastThread = Thread.currentThread();
+            latch.countDown();
+        }
+
+        /**
+         * Waits until the expected number of results has been collected, returning false if it takes too long.
+         */
+        boolean await() throws InterruptedException {
+            return latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+
+        Thread getLastThread() {
+            return lastThread;
+        }
+    }
+}
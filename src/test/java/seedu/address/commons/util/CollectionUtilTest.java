@@ -81,6 +81,23 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void isSameElements() {
+        Object first = new Object();
+        Object second = new Object();
+        assertTrue(CollectionUtil.isSameElements(Collections.emptyList(), Collections.emptyList()));
+        assertTrue(CollectionUtil.isSameElements(Arrays.asList(first, second), Arrays.asList(first, second)));
+
+        // equal but different objects
+        assertFalse(CollectionUtil.isSameElements(Arrays.asList(new String("a")), Arrays.asList(new String("a"))));
+
+        // different order
+        assertFalse(CollectionUtil.isSameElements(Arrays.asList(first, second), Arrays.asList(second, first)));
+
+        // different sizes
+        assertFalse(CollectionUtil.isSameElements(Arrays.asList(first), Arrays.asList(first, second)));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -7,11 +8,24 @@ import static seedu.address.storage.ScriptSetupTest.SCRIPTS_LOCATION;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
@@ -26,6 +40,9 @@ public class FileUtilTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -38,6 +55,48 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void isGzipFileName() {
+        assertTrue(FileUtil.isGzipFileName(Paths.get("data", "addressbook.xml.gz")));
+        assertTrue(FileUtil.isGzipFileName(Paths.get("data", "addressbook.xml.GZ")));
+        assertFalse(FileUtil.isGzipFileName(Paths.get("data", "addressbook.xml")));
+        assertFalse(FileUtil.isGzipFileName(Paths.get("data.gz", "addressbook")));
+    }
+
+    @Test
+    public void newOutputStreamAndNewInputStream_compressedOrNot_sameContent() throws IOException {
+        byte[] content = String.join("\n", Collections.nCopies(100, helloWorldText)).getBytes(StandardCharsets.UTF_8);
+        for (boolean isCompressed : new boolean[] {true, false}) {
+            Path file = testFolder.newFile().toPath();
+            try (OutputStream out = FileUtil.newOutputStream(file, isCompressed)) {
+                out.write(content);
+            }
+            assertEquals(isCompressed, FileUtil.isGzipFile(file));
+            assertEquals(isCompressed, Files.size(file) < content.length);
+            try (InputStream in = FileUtil.newInputStream(file)) {
+                assertArrayEquals(content, in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void replaceWith_existingTarget_replacedKeepingPermissions() throws IOException {
+        Path target = testFolder.getRoot().toPath().resolve("data.xml");
+        Files.write(target, "old".getBytes(StandardCharsets.UTF_8));
+        Assume.assumeNotNull(Files.getFileAttributeView(target, PosixFileAttributeView.class));
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(target, permissions);
+
+        Path tempFile = FileUtil.createTempFileNextTo(target);
+        assertEquals(target.toAbsolutePath().getParent(), tempFile.getParent());
+        Files.write(tempFile, "new".getBytes(StandardCharsets.UTF_8));
+        FileUtil.replaceWith(target, tempFile);
+
+        assertFalse(Files.exists(tempFile));
+        assertEquals("new", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+        assertEquals(permissions, Files.getPosixFilePermissions(target));
+    }
+
     @Test
     public void writeToTextFile_success() throws IOException {
         ClassLoader classLoader = getClass().getClassLoader();
@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class InternerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        interner.intern(null);
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("friends");
+        String second = new String("friends");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keepsBoth() {
+        String friends = interner.intern("friends");
+        String colleagues = interner.intern("colleagues");
+
+        assertNotSame(friends, colleagues);
+        assertEquals(2, interner.size());
+    }
+}
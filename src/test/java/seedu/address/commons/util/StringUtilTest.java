@@ -137,6 +137,38 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for isWithinOneEdit --------------------------------------
+
+    /*
+     * Equivalence Partitions: null, equal strings, one edit of each kind, more than one edit
+     */
+
+    @Test
+    public void isWithinOneEdit_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.isWithinOneEdit(null, "abc");
+    }
+
+    @Test
+    public void isWithinOneEdit_validInputs_correctResult() {
+        // Equal strings
+        assertTrue(StringUtil.isWithinOneEdit("", "")); // Boundary case
+        assertTrue(StringUtil.isWithinOneEdit("alice", "alice"));
+
+        // One edit
+        assertTrue(StringUtil.isWithinOneEdit("alice", "alicee")); // Insertion at the end (boundary case)
+        assertTrue(StringUtil.isWithinOneEdit("alice", "lice")); // Deletion at the start (boundary case)
+        assertTrue(StringUtil.isWithinOneEdit("alice", "alxce")); // Replacement
+        assertTrue(StringUtil.isWithinOneEdit("alice", "ailce")); // Adjacent swap
+        assertTrue(StringUtil.isWithinOneEdit("", "a"));
+
+        // More than one edit
+        assertFalse(StringUtil.isWithinOneEdit("alice", "alic ee")); // Length differs by two
+        assertFalse(StringUtil.isWithinOneEdit("alice", "axicx")); // Two replacements
+        assertFalse(StringUtil.isWithinOneEdit("alice", "ilace")); // Non-adjacent swap
+        assertFalse(StringUtil.isWithinOneEdit("alice", "Alice ")); // Case differs and insertion
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,94 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ValidationUtilTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void isAlphanumeric_nullString_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        ValidationUtil.isAlphanumeric(null, "");
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        // invalid strings
+        assertFalse(ValidationUtil.isAlphanumeric("", "")); // empty string
+        assertFalse(ValidationUtil.isAlphanumeric("a b", "")); // space not allowed
+        assertFalse(ValidationUtil.isAlphanumeric("café", "")); // non-ASCII letter
+        assertFalse(ValidationUtil.isAlphanumeric("a-b", "[]")); // symbol not allowed
+
+        // valid strings
+        assertTrue(ValidationUtil.isAlphanumeric("friends2", ""));
+        assertTrue(ValidationUtil.isAlphanumeric("-[A1]-", "-[]"));
+        assertTrue(ValidationUtil.isAlphanumeric("ab-cd", 1, 4, "-")); // range only
+        assertFalse(ValidationUtil.isAlphanumeric("ab", 1, 1, "")); // empty range
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        assertFalse(ValidationUtil.isAlphanumericWords(""));
+        assertFalse(ValidationUtil.isAlphanumericWords(" leading space"));
+        assertFalse(ValidationUtil.isAlphanumericWords("peter*"));
+
+        assertTrue(ValidationUtil.isAlphanumericWords("peter jack"));
+        assertTrue(ValidationUtil.isAlphanumericWords("trailing space "));
+    }
+
+    @Test
+    public void isDigits() {
+        assertFalse(ValidationUtil.isDigits("12", 3, 5)); // too short
+        assertFalse(ValidationUtil.isDigits("123456", 3, 5)); // too long
+        assertFalse(ValidationUtil.isDigits("12a4", 3, 5)); // not a digit
+
+        assertTrue(ValidationUtil.isDigits("123", 3, 5));
+        assertTrue(ValidationUtil.isDigits("12345", 3, 5));
+    }
+
+    @Test
+    public void isDecimal() {
+        // invalid numbers
+        assertFalse(ValidationUtil.isDecimal("", 2, 2));
+        assertFalse(ValidationUtil.isDecimal(".5", 2, 2)); // no integer part
+        assertFalse(ValidationUtil.isDecimal("5.", 2, 2)); // no fraction part
+        assertFalse(ValidationUtil.isDecimal("123", 2, 2)); // too many integer digits
+        assertFalse(ValidationUtil.isDecimal("1.234", 2, 2)); // too many fraction digits
+        assertFalse(ValidationUtil.isDecimal("1.2.3", 2, 2)); // two points
+        assertFalse(ValidationUtil.isDecimal("-1", 2, 2)); // sign
+
+        // valid numbers
+        assertTrue(ValidationUtil.isDecimal("7", 2, 2));
+        assertTrue(ValidationUtil.isDecimal("99.99", 2, 2));
+        assertTrue(ValidationUtil.isDecimal("05.5", 2, 2));
+    }
+
+    @Test
+    public void isSingleLine() {
+        assertFalse(ValidationUtil.isSingleLine("two\nlines", 20));
+        assertFalse(ValidationUtil.isSingleLine("two lines", 20));
+        assertFalse(ValidationUtil.isSingleLine("abcd", 3));
+
+        assertTrue(ValidationUtil.isSingleLine("", 0));
+        assertTrue(ValidationUtil.isSingleLine("abc", 3));
+        assertTrue(ValidationUtil.isSingleLine("😀😀", 2)); // surrogate pairs count once
+        assertTrue(ValidationUtil.isSingleLine("\nabc", 1, 3)); // characters before the start are ignored
+    }
+
+    @Test
+    public void isNonBlankWithout() {
+        assertFalse(ValidationUtil.isNonBlankWithout("", "*"));
+        assertFalse(ValidationUtil.isNonBlankWithout("a b", "*"));
+        assertFalse(ValidationUtil.isNonBlankWithout("a*b", "*"));
+
+        assertTrue(ValidationUtil.isNonBlankWithout("a.b", "*"));
+        assertTrue(ValidationUtil.isNonBlankWithout("*a.b*", 1, 4, "*"));
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
-import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
@@ -54,7 +53,7 @@ public class XmlUtilTest {
     private static final String VALID_GROUP_LOCATION = "E1-01-01";
     private static final List<XmlAdaptedTag> VALID_TAGS = Collections.singletonList(new XmlAdaptedTag("friends"));
     private static final List<XmlAdaptedTag> VALID_GROUP_TAGS = Collections.singletonList(new XmlAdaptedTag("maths"));
-    private static final List<XmlAdaptedPerson> VALID_PERSONS = Collections.singletonList(new XmlAdaptedPerson(ALICE));
+    private static final List<String> VALID_MEMBERS = Collections.singletonList("1");
     private static final List<XmlAdaptedTest> VALID_TEST =
             Collections.singletonList(new XmlAdaptedTest("CS2113quiz", "77" , "A"));
     @Rule
@@ -126,7 +125,7 @@ public class XmlUtilTest {
         XmlAdaptedGroup actualGroup = XmlUtil.getDataFromFile(
                 MISSING_GROUP_FIELD_FILE, XmlAdaptedGroupWithRootElement.class);
         XmlAdaptedGroup expectedGroup = new XmlAdaptedGroup(
-                null, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_PERSONS);
+                null, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_MEMBERS);
         assertEquals(expectedGroup, actualGroup);
     }
 
@@ -135,7 +134,7 @@ public class XmlUtilTest {
         XmlAdaptedGroup actualGroup = XmlUtil.getDataFromFile(
                 INVALID_GROUP_FIELD_FILE, XmlAdaptedGroupWithRootElement.class);
         XmlAdaptedGroup expectedGroup = new XmlAdaptedGroup(
-                VALID_GROUP_NAME, INVALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_PERSONS);
+                VALID_GROUP_NAME, INVALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_MEMBERS);
         assertEquals(expectedGroup, actualGroup);
     }
 
@@ -144,7 +143,7 @@ public class XmlUtilTest {
         XmlAdaptedGroup actualGroup = XmlUtil.getDataFromFile(
                 VALID_GROUP_FILE, XmlAdaptedGroupWithRootElement.class);
         XmlAdaptedGroup expectedGroup = new XmlAdaptedGroup(
-                VALID_GROUP_NAME, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_PERSONS);
+                VALID_GROUP_NAME, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_MEMBERS);
         assertEquals(expectedGroup, actualGroup);
     }
 
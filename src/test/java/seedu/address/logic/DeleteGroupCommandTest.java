@@ -12,6 +12,9 @@ import static seedu.address.testutil.TypicalGroups.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_GROUP;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_GROUP;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -25,6 +28,7 @@ import seedu.address.logic.commands.DeleteGroupCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.distribute.Distribute;
@@ -183,6 +187,11 @@ public class DeleteGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonIndex getPersonIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -228,6 +237,11 @@ public class DeleteGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends Exception> void runBatch(Model.Batch<E> batch) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void createGroup(Group createGroup) {
             throw new AssertionError("This method should not be called.");
@@ -248,6 +262,11 @@ public class DeleteGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void assignMembers(Map<Group, Collection<Person>> assignments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteGroup(Group target) {
             throw new AssertionError("This method should not be called.");
@@ -257,6 +276,11 @@ public class DeleteGroupCommandTest {
         public void deleteGroupPerson(Group group, Person target) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Person> getGroupPersons(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public String getScriptFolderLocation() {
             throw new AssertionError("This method should not be called.");
@@ -7,6 +7,9 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -18,6 +21,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.distribute.Distribute;
 import seedu.address.model.group.AddGroup;
@@ -121,6 +125,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonIndex getPersonIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -166,6 +175,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends Exception> void runBatch(Model.Batch<E> batch) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void createGroup(Group createGroup) {
             throw new AssertionError("This method should not be called.");
@@ -186,6 +200,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void assignMembers(Map<Group, Collection<Person>> assignments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteGroup(Group target) {
             throw new AssertionError("This method should not be called.");
@@ -196,6 +215,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getGroupPersons(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String getScriptFolderLocation() {
             throw new AssertionError("This method should not be called.");
@@ -11,6 +11,9 @@ import static seedu.address.testutil.TypicalAddGroups.getAddGroup3;
 import static seedu.address.testutil.TypicalGroups.getTypicalGroupsWithPersons;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -22,6 +25,7 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.distribute.Distribute;
 import seedu.address.model.group.AddGroup;
@@ -140,6 +144,11 @@ public class AddGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonIndex getPersonIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -185,6 +194,11 @@ public class AddGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends Exception> void runBatch(Model.Batch<E> batch) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void createGroup(Group createGroup) {
             throw new AssertionError("This method should not be called.");
@@ -205,6 +219,11 @@ public class AddGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void assignMembers(Map<Group, Collection<Person>> assignments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteGroup(Group target) {
             throw new AssertionError("This method should not be called.");
@@ -215,6 +234,11 @@ public class AddGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getGroupPersons(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String getScriptFolderLocation() {
             throw new AssertionError("This method should not be called.");
@@ -254,11 +278,9 @@ public class AddGroupCommandTest {
         @Override
         public boolean hasPersonInGroup(AddGroup toAdd) {
             requireNonNull(toAdd);
-            for (Person p : group.getPersons()) {
-                for (Person p2 : toAdd.getPersonSet()) {
-                    if (p.equals(p2)) {
-                        return true;
-                    }
+            for (Person p : toAdd.getPersonSet()) {
+                if (group.hasPerson(p)) {
+                    return true;
                 }
             }
             return false;
@@ -13,7 +13,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TEST_NAME_BOB;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -25,7 +27,9 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 
 import seedu.address.model.distribute.Distribute;
@@ -175,6 +179,22 @@ public class AddTestMarksCommandTest {
             return FXCollections.observableArrayList(personsAdded);
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            return getStubAddressBook();
+        }
+
+        @Override
+        public PersonIndex getPersonIndex() {
+            return getStubAddressBook().getPersonIndex();
+        }
+
+        private AddressBook getStubAddressBook() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(Arrays.asList(validPerson, validPerson2));
+            return addressBook;
+        }
+
         @Override
         public void commitAddressBook() {
             // called by {@code AddCommand#execute()}
@@ -216,6 +236,11 @@ public class AddTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonIndex getPersonIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -261,6 +286,11 @@ public class AddTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends Exception> void runBatch(Model.Batch<E> batch) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void createGroup(Group createGroup) {
             throw new AssertionError("This method should not be called.");
@@ -281,6 +311,11 @@ public class AddTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void assignMembers(Map<Group, Collection<Person>> assignments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteGroup(Group target) {
             throw new AssertionError("This method should not be called.");
@@ -291,6 +326,11 @@ public class AddTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getGroupPersons(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String getScriptFolderLocation() {
             throw new AssertionError("This method should not be called.");
@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NATIONALITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTIMIZE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
@@ -149,6 +150,8 @@ public class CommandTestUtil {
     public static final String GENDER_FLAG_BOOLEAN_TRUE = " " + PREFIX_GENDER + VALID_FLAG_1;
     public static final String NATIONALITY_FLAG_BOOLEAN_FALSE = " " + PREFIX_NATIONALITY + VALID_FLAG_0;
     public static final String NATIONALITY_FLAG_BOOLEAN_TRUE = " " + PREFIX_NATIONALITY + VALID_FLAG_1;
+    public static final String OPTIMIZE_FLAG_FALSE = " " + PREFIX_OPTIMIZE + VALID_FLAG_0;
+    public static final String OPTIMIZE_FLAG_TRUE = " " + PREFIX_OPTIMIZE + VALID_FLAG_1;
 
     public static final String GENDER_FLAG_INVALID_NUMBER = " " + PREFIX_GENDER + INVALID_GENDER_FLAG_NUMBER;
     public static final String GENDER_FLAG_INVALID_WORD = " " + PREFIX_GENDER + INVALID_GENDER_FLAG_WORD;
@@ -9,9 +9,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_GROUP;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import org.junit.Test;
 
@@ -36,8 +34,7 @@ public class DeleteGroupPersonCommandTest {
     public void execute_validIndexUnfilteredList_success() {
         Group group = model.getFilteredGroupList().get(INDEX_FIRST_GROUP.getZeroBased());
 
-        Set<Person> personSet = group.getPersons();
-        List<Person> personList = new ArrayList<>(personSet);
+        List<Person> personList = model.getGroupPersons(group);
         Person personToDelete = personList.get(INDEX_FIRST_PERSON.getZeroBased());
 
         DeleteGroupPersonCommand deleteGroupPersonCommand =
@@ -57,8 +54,7 @@ public class DeleteGroupPersonCommandTest {
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Group group = model.getFilteredGroupList().get(INDEX_FIRST_GROUP.getZeroBased());
 
-        Set<Person> personSet = group.getPersons();
-        List<Person> personList = new ArrayList<>(personSet);
+        List<Person> personList = model.getGroupPersons(group);
 
         Index outOfBoundIndex = Index.fromOneBased(personList.size() + 1);
         DeleteGroupPersonCommand deleteGroupPersonCommand =
@@ -72,8 +68,7 @@ public class DeleteGroupPersonCommandTest {
     public void executeUndoRedo_validIndexUnfilteredList_success() throws Exception {
         Group group = model.getFilteredGroupList().get(INDEX_FIRST_GROUP.getZeroBased());
 
-        Set<Person> personSet = group.getPersons();
-        List<Person> personList = new ArrayList<>(personSet);
+        List<Person> personList = model.getGroupPersons(group);
         Person personToDelete = personList.get(INDEX_FIRST_PERSON.getZeroBased());
 
         DeleteGroupPersonCommand deleteGroupPersonCommand =
@@ -99,8 +94,7 @@ public class DeleteGroupPersonCommandTest {
     public void executeUndoRedo_invalidIndexUnfilteredList_failure() {
         Group group = model.getFilteredGroupList().get(INDEX_FIRST_GROUP.getZeroBased());
 
-        Set<Person> personSet = group.getPersons();
-        List<Person> personList = new ArrayList<>(personSet);
+        List<Person> personList = model.getGroupPersons(group);
 
         Index outOfBoundIndex = Index.fromOneBased(personList.size() + 1);
         DeleteGroupPersonCommand deleteGroupPersonCommand =
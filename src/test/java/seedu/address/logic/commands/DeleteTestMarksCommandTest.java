@@ -9,6 +9,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TEST_NAME_AMY;
 import static seedu.address.logic.commands.DeleteTestMarksCommand.MESSAGE_SUCCESSFUL_DELETE_TEST;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,7 +24,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.distribute.Distribute;
 import seedu.address.model.group.AddGroup;
@@ -114,6 +120,13 @@ public class DeleteTestMarksCommandTest {
             return FXCollections.observableArrayList(personsAdded);
         }
 
+        @Override
+        public PersonIndex getPersonIndex() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(Arrays.asList(validPerson, validPerson2));
+            return addressBook.getPersonIndex();
+        }
+
         @Override
         public void commitAddressBook() {
             // called by {@code AddCommand#execute()}
@@ -154,6 +167,11 @@ public class DeleteTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonIndex getPersonIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -199,6 +217,11 @@ public class DeleteTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends Exception> void runBatch(Model.Batch<E> batch) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void createGroup(Group createGroup) {
             throw new AssertionError("This method should not be called.");
@@ -219,6 +242,11 @@ public class DeleteTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void assignMembers(Map<Group, Collection<Person>> assignments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteGroup(Group target) {
             throw new AssertionError("This method should not be called.");
@@ -229,6 +257,11 @@ public class DeleteTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getGroupPersons(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String getScriptFolderLocation() {
             throw new AssertionError("This method should not be called.");
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.model.distribute.DistributeAlgorithm.MESSAGE_INVALID_SIZE;
-import static seedu.address.model.distribute.DistributeAlgorithm.MESSAGE_TO_BE_IMPLEMENTED;
 import static seedu.address.model.distribute.DistributeUtil.MESSAGE_DUPLICATE_GROUP;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
@@ -82,9 +81,7 @@ public class DistributeCommandIntegrationTest {
     }
 
     @Test
-    public void execute_distributionStrictCommand_throwsCommandException() throws ParseException, CommandException {
-        thrown.expect(CommandException.class);
-        thrown.expectMessage(MESSAGE_TO_BE_IMPLEMENTED);
+    public void execute_distributionStrictCommand_success() throws ParseException, CommandException {
         executeCommand(COMMAND_DISTRIBUTE_RANDOMLY_WITH_GENDER_AND_NATIONALITY);
     }
 
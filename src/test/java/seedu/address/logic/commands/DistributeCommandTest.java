@@ -3,9 +3,18 @@ package seedu.address.logic.commands;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static seedu.address.model.distribute.DistributeAlgorithm.MESSAGE_TO_BE_IMPLEMENTED;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -20,10 +29,17 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.distribute.Distribute;
+import seedu.address.model.distribute.DistributeAlgorithm;
 import seedu.address.model.distribute.DistributeUtil;
+import seedu.address.model.grade.Grade;
+import seedu.address.model.grade.Marks;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.DistributeBuilder;
 import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class DistributeCommandTest {
 
@@ -83,13 +99,56 @@ public class DistributeCommandTest {
             throws ParseException, CommandException {
         Distribute validDistributeCommand = new DistributeBuilder().setNationalityFlag("true").setGenderFlag("true")
                 .build();
-        thrown.expect(CommandException.class);
-        thrown.expectMessage(MESSAGE_TO_BE_IMPLEMENTED);
-        new DistributeCommand(validDistributeCommand).execute(model, commandHistory);
+        CommandResult commandResult = new DistributeCommand(validDistributeCommand).execute(model, commandHistory);
+        assertEquals(String.format(DistributeCommand.MESSAGE_SUCCESS, validDistributeCommand),
+                commandResult.feedbackToUser);
+        assertEquals(EMPTY_COMMAND_HISTORY, commandHistory);
     }
 
 
 
+    @Test
+    public void execute_optimizedDistributeAcceptedByModel_distributeSuccessful()
+            throws ParseException, CommandException {
+        Distribute validDistributeCommand = new DistributeBuilder().setNationalityFlag("true").setGenderFlag("true")
+                .setOptimizeFlag("true").build();
+        CommandResult commandResult = new DistributeCommand(validDistributeCommand).execute(model, commandHistory);
+        assertEquals(String.format(DistributeCommand.MESSAGE_SUCCESS, validDistributeCommand),
+                commandResult.feedbackToUser);
+        assertEquals(EMPTY_COMMAND_HISTORY, commandHistory);
+    }
+
+    @Test
+    public void execute_performanceDistributeAcceptedByModel_snakeDrafted()
+            throws ParseException, CommandException {
+        AddressBook quizAddressBook = new AddressBook();
+        quizAddressBook.addPerson(withQuizMarks(ALICE, "60"));
+        quizAddressBook.addPerson(withQuizMarks(BENSON, "90"));
+        quizAddressBook.addPerson(withQuizMarks(CARL, "70"));
+        quizAddressBook.addPerson(withQuizMarks(DANIEL, "80"));
+        Model quizModel = new ModelManager(quizAddressBook, new UserPrefs());
+        Distribute validDistributeCommand = new DistributeBuilder().setIndex("2").setPerformanceFlag("true")
+                .setPerformanceTestName("Quiz").build();
+
+        new DistributeCommand(validDistributeCommand).execute(quizModel, commandHistory);
+
+        // 90 and 60 in the first group, 80 and 70 in the second
+        List<Group> groups = quizModel.getAddressBook().getGroupList();
+        assertEquals(new HashSet<>(Arrays.asList(BENSON.getName(), ALICE.getName())),
+                getMemberNames(quizModel, groups.get(0)));
+        assertEquals(new HashSet<>(Arrays.asList(DANIEL.getName(), CARL.getName())),
+                getMemberNames(quizModel, groups.get(1)));
+    }
+
+    @Test
+    public void execute_performanceTestNotTaken_throwsCommandException() throws ParseException, CommandException {
+        Distribute validDistributeCommand = new DistributeBuilder().setPerformanceFlag("true")
+                .setPerformanceTestName("Finals").build();
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(DistributeAlgorithm.MESSAGE_TEST_NOT_FOUND, "Finals"));
+        new DistributeCommand(validDistributeCommand).execute(model, commandHistory);
+    }
+
     @Test
     public void execute_duplicateGroupFound_throwsCommandException() throws CommandException, ParseException {
         Group stubGroup = new GroupBuilder().withGroupName("CS2113-T13-1").build();
@@ -155,4 +214,13 @@ public class DistributeCommandTest {
         Assert.assertNotEquals(unexpectedMessage, validDistributeCommand.toString());
     }
 
+    private static Person withQuizMarks(Person person, String marks) {
+        return new PersonBuilder(person).withTests(new seedu.address.model.grade.Test(TestName.of("Quiz"),
+                new Marks(marks), Grade.of("A"))).build();
+    }
+
+    private static Set<Name> getMemberNames(Model model, Group group) {
+        return model.getGroupPersons(group).stream().map(Person::getName).collect(Collectors.toSet());
+    }
+
 }
@@ -14,7 +14,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TEST_NAME_BOB;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -26,7 +28,9 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.distribute.Distribute;
 import seedu.address.model.group.AddGroup;
@@ -172,6 +176,22 @@ public class EditTestMarksCommandTest {
             return FXCollections.observableArrayList(personsAdded);
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            return getStubAddressBook();
+        }
+
+        @Override
+        public PersonIndex getPersonIndex() {
+            return getStubAddressBook().getPersonIndex();
+        }
+
+        private AddressBook getStubAddressBook() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(Arrays.asList(validPerson, validPerson2));
+            return addressBook;
+        }
+
         @Override
         public void commitAddressBook() {
             // called by {@code AddCommand#execute()}
@@ -213,6 +233,11 @@ public class EditTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonIndex getPersonIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -258,6 +283,11 @@ public class EditTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends Exception> void runBatch(Model.Batch<E> batch) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void createGroup(Group createGroup) {
             throw new AssertionError("This method should not be called.");
@@ -278,6 +308,11 @@ public class EditTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void assignMembers(Map<Group, Collection<Person>> assignments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteGroup(Group target) {
             throw new AssertionError("This method should not be called.");
@@ -288,6 +323,11 @@ public class EditTestMarksCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getGroupPersons(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String getScriptFolderLocation() {
             throw new AssertionError("This method should not be called.");
@@ -61,8 +61,6 @@ public class ScriptCommandTest {
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.addPerson(novin);
-        expectedModel.commitAddressBook();
-
         expectedModel.addPerson(weiQuan);
         expectedModel.commitAddressBook();
 
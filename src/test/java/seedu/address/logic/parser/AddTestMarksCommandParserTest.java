@@ -46,7 +46,7 @@ public class AddTestMarksCommandParserTest {
         nameList.add("Bob");
         nameList.add("Choo");
         NameContainsKeywordsPredicate nameContainsKeywordsPredicate =
-                new NameContainsKeywordsPredicate(nameList);
+                NameContainsKeywordsPredicate.ofWholeWords(nameList);
         AddTestMarksCommand expectedCommand = new AddTestMarksCommand(nameContainsKeywordsPredicate,
                 TEST_NAME_DESC_BOB, TEST_MARK_DESC_BOB, nameList);
 
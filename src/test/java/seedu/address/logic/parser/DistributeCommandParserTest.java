@@ -19,6 +19,8 @@ import static seedu.address.logic.commands.CommandTestUtil.NATIONALITY_FLAG_INVA
 import static seedu.address.logic.commands.CommandTestUtil.NATIONALITY_FLAG_INVALID_WORD;
 import static seedu.address.logic.commands.CommandTestUtil.NATIONALITY_FLAG_TRUE;
 import static seedu.address.logic.commands.CommandTestUtil.NUMBER_OF_GROUPS;
+import static seedu.address.logic.commands.CommandTestUtil.OPTIMIZE_FLAG_FALSE;
+import static seedu.address.logic.commands.CommandTestUtil.OPTIMIZE_FLAG_TRUE;
 import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
 import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_FLAG_FALSE;
@@ -28,11 +30,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NUMBER_OF_GROUP
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Optional;
+
 import org.junit.Test;
 
 import seedu.address.logic.commands.DistributeCommand;
 import seedu.address.model.distribute.Distribute;
 import seedu.address.model.distribute.DistributeAlgorithm;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.group.GroupName;
 
 public class DistributeCommandParserTest {
@@ -78,6 +83,48 @@ public class DistributeCommandParserTest {
         assertParseSuccess(parser, NUMBER_OF_GROUPS + GROUP_NAME_DESC_CS1010 + GENDER_FLAG_FALSE
                 + NATIONALITY_FLAG_BOOLEAN_FALSE, new DistributeCommand(expectedDistribution));
 
+        //Optimize flag set to false is the same as leaving it out
+        assertParseSuccess(parser, NUMBER_OF_GROUPS + GROUP_NAME_DESC_CS1010 + GENDER_FLAG_FALSE
+                + NATIONALITY_FLAG_FALSE + OPTIMIZE_FLAG_FALSE, new DistributeCommand(expectedDistribution));
+
+    }
+
+    @Test
+    public void parse_optimizeFlagPresent_success() {
+        Distribute expectedDistribution = new Distribute(5, new GroupName("CS1010"), false, false, true);
+        assertParseSuccess(parser, NUMBER_OF_GROUPS + GROUP_NAME_DESC_CS1010 + GENDER_FLAG_FALSE
+                + NATIONALITY_FLAG_FALSE + OPTIMIZE_FLAG_TRUE, new DistributeCommand(expectedDistribution));
+
+        // invalid optimize flag
+        assertParseFailure(parser, NUMBER_OF_GROUPS + GROUP_NAME_DESC_CS1010 + GENDER_FLAG_FALSE
+                + NATIONALITY_FLAG_FALSE + " opt/maybe", DistributeAlgorithm.MESSAGE_FLAG_ERROR);
+    }
+
+    @Test
+    public void parse_performanceFlagPresent_success() {
+        GroupName groupName = new GroupName("CS1010");
+
+        // average marks of all tests
+        assertParseSuccess(parser, NUMBER_OF_GROUPS + GROUP_NAME_DESC_CS1010 + GENDER_FLAG_FALSE
+                + NATIONALITY_FLAG_FALSE + " perf/1", new DistributeCommand(
+                        new Distribute(5, groupName, false, false, false, true, Optional.empty())));
+
+        // marks of the chosen test
+        assertParseSuccess(parser, NUMBER_OF_GROUPS + GROUP_NAME_DESC_CS1010 + GENDER_FLAG_FALSE
+                + NATIONALITY_FLAG_FALSE + " perf/true tn/Midterm", new DistributeCommand(
+                        new Distribute(5, groupName, false, false, false, true, Optional.of(TestName.of("Midterm")))));
+    }
+
+    @Test
+    public void parse_invalidPerformanceValue_failure() {
+        // test name without the performance flag
+        assertParseFailure(parser, NUMBER_OF_GROUPS + GROUP_NAME_DESC_CS1010 + GENDER_FLAG_FALSE
+                + NATIONALITY_FLAG_FALSE + " tn/Midterm",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DistributeCommand.MESSAGE_USAGE));
+
+        // invalid test name
+        assertParseFailure(parser, NUMBER_OF_GROUPS + GROUP_NAME_DESC_CS1010 + GENDER_FLAG_FALSE
+                + NATIONALITY_FLAG_FALSE + " perf/1 tn/Mid*term", TestName.MESSAGE_TEST_NAME_CONSTRAINTS);
     }
 
     @Test
@@ -43,7 +43,7 @@ public class EditTestMarksCommandParserTest {
         nameList.add("Bob");
         nameList.add("Choo");
         NameContainsKeywordsPredicate nameContainsKeywordsPredicate =
-                new NameContainsKeywordsPredicate(nameList);
+                NameContainsKeywordsPredicate.ofWholeWords(nameList);
         EditTestMarksCommand expectedCommand = new EditTestMarksCommand(nameContainsKeywordsPredicate,
                 TEST_NAME_DESC_BOB, TEST_MARK_DESC_BOB, null, nameList);
 
@@ -9,15 +9,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GROUP_TAG_TUT_1
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalAddGroups.getAddGroupWithGroupAndPerson;
 import static seedu.address.testutil.TypicalGroups.TUT_1;
+import static seedu.address.testutil.TypicalGroups.TUT_2;
 import static seedu.address.testutil.TypicalGroups.getTut1;
 import static seedu.address.testutil.TypicalGroups.getTypicalGroupsWithPersons;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -168,6 +174,26 @@ public class AddressBookTest {
         assertEquals(expected, addressBook);
     }
 
+    @Test
+    public void removePerson_personInGroup_removesPersonFromGroup() {
+        AddressBook expected = new AddressBook();
+        expected.createGroup(getTut1());
+        addressBook.addPerson(ALICE);
+        addressBook.createGroup(getTypicalGroupsWithPersons());
+        addressBook.removePerson(ALICE);
+        assertEquals(expected, addressBook);
+    }
+
+    @Test
+    public void getGroupPersons_personEdited_returnsEditedPerson() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.addPerson(ALICE);
+        addressBook.createGroup(getTypicalGroupsWithPersons());
+        addressBook.updatePerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice),
+                addressBook.getGroupPersons(addressBook.getGroupList().get(0)));
+    }
+
     @Test
     public void removeGroupPerson_personNotInGroup_throwsPersonNotFoundException() {
         addressBook.createGroup(getTut1());
@@ -226,6 +252,44 @@ public class AddressBookTest {
         addressBook.addGroup(getAddGroupWithGroupAndPerson());
     }
 
+    @Test
+    public void assignMembers_newGroups_groupsAddedWithMembers() {
+        addressBook.resetData(getTypicalAddressBook());
+        Map<Group, Collection<Person>> assignments = new LinkedHashMap<>();
+        assignments.put(getTut1(), Arrays.asList(ALICE, BENSON));
+        assignments.put(TUT_2, Collections.singletonList(CARL));
+        addressBook.assignMembers(assignments);
+
+        List<Group> groups = addressBook.getGroupList();
+        assertEquals(2, groups.size());
+        assertTrue(groups.get(0).isSameGroup(getTut1()));
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getGroupPersons(groups.get(0)));
+        assertEquals(Collections.singletonList(CARL), addressBook.getGroupPersons(groups.get(1)));
+    }
+
+    @Test
+    public void assignMembers_existingGroup_nothingAdded() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.createGroup(getTut1());
+        Map<Group, Collection<Person>> assignments = new LinkedHashMap<>();
+        assignments.put(TUT_2, Collections.singletonList(CARL));
+        assignments.put(getTut1(), Collections.singletonList(ALICE));
+        try {
+            addressBook.assignMembers(assignments);
+            throw new AssertionError("The expected DuplicateGroupException was not thrown.");
+        } catch (DuplicateGroupException dge) {
+            assertFalse(addressBook.hasGroup(TUT_2));
+            assertEquals(Collections.singletonList(getTut1()), addressBook.getGroupList());
+        }
+    }
+
+    @Test
+    public void assignMembers_personNotInAddressBook_throwsPersonNotFoundException() {
+        addressBook.resetData(getTypicalAddressBook());
+        thrown.expect(PersonNotFoundException.class);
+        addressBook.assignMembers(Collections.singletonMap(getTut1(), Collections.singletonList(HOON)));
+    }
+
     @Test
     public void getGroupList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
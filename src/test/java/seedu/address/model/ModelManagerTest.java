@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_GROUPS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalAddGroups.getAddGroupWithGroupAndPerson;
@@ -20,17 +21,22 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.group.GroupNameContainsKeywordsPredicate;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -152,6 +158,50 @@ public class ModelManagerTest {
         modelManager.getFilteredGroupList().remove(0);
     }
 
+    @Test
+    public void runBatch_changesPublishedOnceAtEnd() {
+        modelManager.runBatch(() -> {
+            modelManager.addPerson(ALICE);
+            modelManager.commitAddressBook();
+            modelManager.addPerson(BENSON);
+            modelManager.commitAddressBook();
+            modelManager.updateFilteredPersonList(unused -> false);
+            assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        });
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        // both persons were committed as one state
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void runBatch_filterReadInBatch_filterApplied() {
+        modelManager.addPerson(ALICE);
+        modelManager.runBatch(() -> {
+            modelManager.updateFilteredPersonList(unused -> false);
+            assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        });
+    }
+
+    @Test
+    public void runBatch_batchThrows_changesStillPublished() {
+        try {
+            modelManager.runBatch(() -> {
+                modelManager.addPerson(ALICE);
+                throw new DuplicatePersonException();
+            });
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+            return;
+        }
+        fail("The exception thrown by the batch should be rethrown.");
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE)
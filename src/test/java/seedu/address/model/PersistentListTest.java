@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_list_keepsOrder() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c"));
+        assertEquals(Arrays.asList("a", "b", "c"), list.toList());
+        assertEquals(3, list.size());
+        assertEquals("b", list.get(1));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Collections.singletonList("a")).get(1);
+    }
+
+    @Test
+    public void insert_nullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.<String>empty().append(null);
+    }
+
+    @Test
+    public void updates_doNotModifyOriginal() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        original.set(0, "z");
+        original.insert(1, "y");
+        original.remove(2);
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.insert(index, i);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            }
+        }
+        assertEquals(expected, actual.toList());
+        assertTrue(actual.isBalanced());
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength_updatedVersions_countUntouchedElements() {
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(new Object());
+        }
+        PersistentList<Object> original = PersistentList.of(elements);
+
+        PersistentList<Object> set = original.set(40, new Object());
+        assertEquals(40, original.commonPrefixLength(set));
+        assertEquals(59, original.commonSuffixLength(set));
+
+        PersistentList<Object> inserted = original.insert(30, new Object());
+        assertEquals(30, original.commonPrefixLength(inserted));
+        assertEquals(70, inserted.commonSuffixLength(original));
+
+        PersistentList<Object> removed = original.remove(0).remove(98);
+        assertEquals(0, original.commonPrefixLength(removed));
+        assertEquals(0, removed.commonSuffixLength(original));
+
+        // same elements in an unshared tree -> every position counted
+        assertEquals(100, original.commonPrefixLength(PersistentList.of(elements)));
+    }
+
+    @Test
+    public void toList_range_returnsElementsInRange() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c", "d"));
+        assertEquals(Arrays.asList("b", "c"), list.toList(1, 3));
+        assertEquals(Collections.emptyList(), list.toList(4, 4));
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.toList(2, 5);
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.<String>empty().append("a").append("b")));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different values -> returns false
+        assertFalse(list.equals(list.set(1, "c")));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TEST_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TEST_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TEST_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TEST_NAME_BOB;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.grade.TestName;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Nationality;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AddressBook addressBook = new AddressBook();
+    private final PersonIndex personIndex = addressBook.getPersonIndex();
+
+    @Test
+    public void getPersonsWithGender_nullGender_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        personIndex.getPersonsWithGender(null);
+    }
+
+    @Test
+    public void getPersonsWithNationality_noSuchNationality_returnsEmptyList() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Collections.emptyList(), personIndex.getPersonsWithNationality(Nationality.of("MY")));
+    }
+
+    @Test
+    public void addPerson_indexedUnderEachValue() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+
+        assertEquals(Arrays.asList(BENSON, CARL), personIndex.getPersonsWithGender(Gender.of("MALE")));
+        assertEquals(Collections.singletonList(ALICE), personIndex.getPersonsWithNationality(Nationality.of("SG")));
+        assertEquals(Collections.singletonList(BENSON), personIndex.getPersonsWithNationality(Nationality.of("MY")));
+    }
+
+    @Test
+    public void updatePerson_indexMovesToEditedValues() {
+        Person aliceWithTest = new PersonBuilder(ALICE).withTests(VALID_TEST_AMY).build();
+        addressBook.addPerson(aliceWithTest);
+
+        Person editedAlice = new PersonBuilder(ALICE).withNationality("MY").withTests(VALID_TEST_BOB).build();
+        addressBook.updatePerson(aliceWithTest, editedAlice);
+
+        assertEquals(Collections.emptyList(), personIndex.getPersonsWithNationality(Nationality.of("SG")));
+        assertEquals(Collections.singletonList(editedAlice),
+                personIndex.getPersonsWithNationality(Nationality.of("MY")));
+        assertEquals(Collections.emptyList(), personIndex.getPersonsWithTest(TestName.of(VALID_TEST_NAME_AMY)));
+        assertEquals(Collections.singletonList(editedAlice),
+                personIndex.getPersonsWithTest(TestName.of(VALID_TEST_NAME_BOB)));
+        assertEquals(Collections.singleton(TestName.of(VALID_TEST_NAME_BOB)), personIndex.getTestNames());
+    }
+
+    @Test
+    public void removePerson_droppedFromIndex() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(DANIEL);
+        addressBook.removePerson(ALICE);
+
+        assertEquals(Collections.singletonList(DANIEL), personIndex.getPersonsWithNationality(Nationality.of("SG")));
+        assertEquals(Collections.emptyList(), personIndex.getPersonsWithGender(Gender.of("FEMALE")));
+    }
+
+    @Test
+    public void setPersons_replacesIndex() {
+        addressBook.addPerson(BENSON);
+        addressBook.setPersons(Arrays.asList(ALICE, DANIEL, ELLE));
+
+        Map<Nationality, Integer> expectedCounts = new HashMap<>();
+        expectedCounts.put(Nationality.of("SG"), 3);
+        assertEquals(expectedCounts, personIndex.getNationalityCounts());
+        assertTrue(personIndex.getPersonsWithNationality(Nationality.of("MY")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameWord_matchesWholeWordsIgnoringCase() {
+        addressBook.setPersons(Arrays.asList(BENSON, DANIEL, ELLE));
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), personIndex.getPersonsWithNameWord("MEIER"));
+        assertEquals(Collections.emptyList(), personIndex.getPersonsWithNameWord("Meie"));
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), personIndex.getPersonsWithNameWordPrefix("me"));
+        assertEquals(Collections.singletonList(ELLE),
+                personIndex.getPersonsWithNameWordMatching(word -> word.startsWith("e")));
+    }
+
+    @Test
+    public void removePerson_nameWordsDroppedFromIndex() {
+        addressBook.setPersons(Arrays.asList(BENSON, DANIEL));
+        addressBook.removePerson(BENSON);
+
+        assertEquals(Collections.singletonList(DANIEL), personIndex.getPersonsWithNameWord("meier"));
+        assertEquals(Collections.emptyList(), personIndex.getPersonsWithNameWordPrefix("ben"));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalGroups.getTut1;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -14,6 +15,7 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.group.Group;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class VersionedAddressBookTest {
@@ -207,6 +209,105 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_afterIndividualMutations_restoresPreviousState() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                        new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build()),
+                addressBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undoRedo_removedGroupMember_restoresPersonAndMembership() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(AMY).withPerson(BOB).withPerson(CARL).build();
+        Group group = getTut1();
+        group.addPersons(addressBook.getPerson(BOB.getId()).get());
+        addressBook.createGroup(group);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+        AddressBook addressBookWithoutBob = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(addressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithoutBob, new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        versionedAddressBook.removePerson(BOB);
+        assertEquals(Collections.singletonList(getTut1()), versionedAddressBook.getGroupList());
+    }
+
+    @Test
+    public void undoRedo_deltaHistory_restoresStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy,
+                prepareDeltaUserPrefs(Long.MAX_VALUE));
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(emptyAddressBook);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                        new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build()),
+                emptyAddressBook,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_deltaHistoryRemovedGroupMember_restoresPersonAndMembership() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build();
+        Group group = getTut1();
+        group.addPersons(addressBook.getPerson(BOB.getId()).get());
+        addressBook.createGroup(group);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBook,
+                prepareDeltaUserPrefs(Long.MAX_VALUE));
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(addressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.removePerson(BOB);
+        assertEquals(Collections.singletonList(getTut1()), versionedAddressBook.getGroupList());
+    }
+
+    @Test
+    public void undo_deltaHistoryWithUncommittedChanges_discardsChanges() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                prepareDeltaUserPrefs(Long.MAX_VALUE));
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_deltaHistoryOverBudget_oldestStatesDropped() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                prepareDeltaUserPrefs(0));
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -287,6 +388,16 @@ public class VersionedAddressBookTest {
         return versionedAddressBook;
     }
 
+    /**
+     * Returns {@code UserPrefs} that keep undo history as a log of changes within {@code byteBudget} bytes.
+     */
+    private UserPrefs prepareDeltaUserPrefs(long byteBudget) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDeltaUndoHistory(true);
+        userPrefs.setUndoHistoryByteBudget(byteBudget);
+        return userPrefs;
+    }
+
     /**
      * Shifts the {@code versionedAddressBook#currentStatePointer} by {@code count} to the left of its list.
      */
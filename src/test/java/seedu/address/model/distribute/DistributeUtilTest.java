@@ -2,42 +2,48 @@ package seedu.address.model.distribute;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertNotEquals;
-import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_GENDER_FLAG_WORD;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_FEMALE;
 import static seedu.address.model.distribute.DistributeUtil.GROUP_LOCATION;
 import static seedu.address.model.person.Gender.VALID_GENDER_MALE;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
-import static seedu.address.testutil.TypicalPersons.getTypicalPersonNationalityMap;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.OptionalDouble;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.ObservableList;
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.AddGroupCommand;
 import seedu.address.logic.commands.CreateGroupCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.VersionedAddressBook;
-import seedu.address.model.group.AddGroup;
+import seedu.address.model.grade.Grade;
+import seedu.address.model.grade.Marks;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupLocation;
 import seedu.address.model.group.GroupName;
@@ -89,90 +95,68 @@ public class DistributeUtilTest {
     }
 
     @Test
-    public void findPersonTest() {
-        ObservableList<Person> allPersonsStub = setUpObservableListStub();
-        LinkedList<Person> allPersonLlStub = new LinkedList<>(allPersonsStub);
-        Nationality sgNationality = new Nationality("SG");
-        Person actualPerson = distUtil.findPerson(sgNationality, allPersonLlStub);
+    public void createNationalityBucketsTest() {
+        // Testing if List is null
+        Assert.assertThrows(NullPointerException.class, () -> distUtil.createNationalityBuckets(null));
 
-        // Testing if nationality is null
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.findPerson(null, allPersonLlStub));
+        Map<Nationality, ArrayDeque<Person>> buckets = distUtil.createNationalityBuckets(setUpObservableListStub());
 
-        // Testing if LinkedList is null
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.findPerson(sgNationality, null));
+        //expects the largest nationality first, keeping the order of the list within each bucket.
+        assertEquals(Arrays.asList(new Nationality("SG"), new Nationality("US"), new Nationality("MY")),
+                new ArrayList<>(buckets.keySet()));
+        assertEquals(Arrays.asList(ALICE, DANIEL, ELLE, FIONA), new ArrayList<>(buckets.get(new Nationality("SG"))));
+        assertEquals(Arrays.asList(CARL, GEORGE), new ArrayList<>(buckets.get(new Nationality("US"))));
+        assertEquals(Collections.singletonList(BENSON), new ArrayList<>(buckets.get(new Nationality("MY"))));
 
-        // testing if it return the first person it found with SG nationality
-        assertEquals(ALICE, actualPerson);
-
-        // testing that it should not be equal since daniel is the 2nd person with SG
-        assertNotEquals(DANIEL, actualPerson);
-
-        //remove ALICE and check if it is able to find DANIEL now.
-        allPersonLlStub.removeFirst();
-        actualPerson = distUtil.findPerson(sgNationality, allPersonLlStub);
-        assertEquals(DANIEL, actualPerson);
-
-        // testing if there is no person with SK nationality is not found
-        Nationality skNationality = new Nationality("SK");
-        actualPerson = distUtil.findPerson(skNationality, allPersonLlStub);
-        assertNull(actualPerson);
+        //empty person list
+        assertTrue(distUtil.createNationalityBuckets(Collections.emptyList()).isEmpty());
     }
 
     @Test
-    public void numberOfDifferentNationalityTest() {
-        ObservableList<Person> allPersonsStub = setUpObservableListStub();
-        LinkedList<Person> allPersonLlStub = new LinkedList<>(allPersonsStub);
-        Map<Nationality, Long> actualMap = distUtil.numberOfDifferentNationality(allPersonLlStub);
-        Map<Nationality, Long> expectedMap = getTypicalPersonNationalityMap();
-
-        // Testing if LinkList is null
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.numberOfDifferentNationality(null));
-
-        //Comparing both object are the same.
-        assertEquals(expectedMap, actualMap);
-
-        //reduce SG nationality counter by 1.
-        Map<Nationality, Long> unexpectedMap = expectedMap;
-        unexpectedMap.replace(new Nationality("SG"), Long.parseLong("3"));
-        assertNotEquals(unexpectedMap, actualMap);
-
-        //Comparing Map value is different when there is and extra person.
-        unexpectedMap.replace(new Nationality("SG"), Long.parseLong("4"));
-        unexpectedMap.put(new Nationality("IN"), Long.parseLong("1"));
-        assertNotEquals(unexpectedMap, actualMap);
-
-        //empty person list which creates a empty map
-        allPersonLlStub.clear();
-        actualMap = distUtil.numberOfDifferentNationality(allPersonLlStub);
-        expectedMap.clear();
-        assertEquals(expectedMap, actualMap);
-
+    public void createNationalityBuckets_personIndex() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(setUpObservableListStub());
+
+        // Testing if the index or seed is null
+        Assert.assertThrows(NullPointerException.class, () -> distUtil.createNationalityBuckets(null, new Random(1)));
+        Assert.assertThrows(NullPointerException.class, () ->
+                distUtil.createNationalityBuckets(addressBook.getPersonIndex(), null));
+
+        Map<Nationality, ArrayDeque<Person>> buckets =
+                distUtil.createNationalityBuckets(addressBook.getPersonIndex(), new Random(1));
+
+        //expects the largest nationality first, with the same persons as the buckets made from the list.
+        assertEquals(Arrays.asList(new Nationality("SG"), new Nationality("US"), new Nationality("MY")),
+                new ArrayList<>(buckets.keySet()));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, DANIEL, ELLE, FIONA)),
+                new HashSet<>(buckets.get(new Nationality("SG"))));
+        assertEquals(new HashSet<>(Arrays.asList(CARL, GEORGE)), new HashSet<>(buckets.get(new Nationality("US"))));
+        assertEquals(Collections.singletonList(BENSON), new ArrayList<>(buckets.get(new Nationality("MY"))));
+
+        //empty address book
+        assertTrue(distUtil.createNationalityBuckets(new AddressBook().getPersonIndex(), new Random(1)).isEmpty());
     }
 
     @Test
-    public void paxPerNationalityTest() {
-        ObservableList<Person> allPersonsStub = setUpObservableListStub();
-        LinkedList<Person> allPersonLlStub = new LinkedList<>(allPersonsStub);
-        Map<Nationality, Long> differentNationalityMap = distUtil.numberOfDifferentNationality(allPersonLlStub);
-        Map<Nationality, Long> actualSortedMap = distUtil.paxPerNationality(differentNationalityMap);
-        String expectedResult = "{SG=4, US=2, MY=1}";
+    public void dealRoundRobinTest() {
+        // Testing if buckets are null
+        Assert.assertThrows(NullPointerException.class, () -> distUtil.dealRoundRobin(null, 2));
 
-        // Testing if Map is null
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.paxPerNationality(null));
+        Map<Nationality, ArrayDeque<Person>> buckets = distUtil.createNationalityBuckets(setUpObservableListStub());
+        ArrayList<ArrayList<Person>> groups = distUtil.dealRoundRobin(buckets.values(), 3);
 
-        //expects the map to be sorted in value order.
-        assertEquals(expectedResult, actualSortedMap.toString());
+        //the dealing carries on from the next group when a bucket runs out.
+        assertEquals(Arrays.asList(
+                Arrays.asList(ALICE, FIONA, BENSON),
+                Arrays.asList(DANIEL, CARL),
+                Arrays.asList(ELLE, GEORGE)), groups);
 
-        //Comparing the 2 map which are sorted by value. actual is sorted by value. unexpected is not sorted.
-        Map<Nationality, Long> unexpectedMap = getTypicalPersonNationalityMap();
-        assertNotEquals(unexpectedMap.toString(), actualSortedMap.toString());
+        //the buckets are emptied.
+        assertTrue(buckets.values().stream().allMatch(ArrayDeque::isEmpty));
 
-        //empty person list
-        allPersonLlStub.clear();
-        differentNationalityMap = distUtil.numberOfDifferentNationality(allPersonLlStub);
-        Map<Nationality, Long> actualEmptyMap = distUtil.paxPerNationality(differentNationalityMap);
-        expectedResult = "{}";
-        assertEquals(expectedResult, actualEmptyMap.toString());
+        //more groups than persons leaves the last groups empty.
+        groups = distUtil.dealRoundRobin(Collections.singletonList(new ArrayDeque<>(Arrays.asList(ALICE))), 2);
+        assertEquals(Arrays.asList(Collections.singletonList(ALICE), Collections.emptyList()), groups);
     }
 
     @Test
@@ -214,6 +198,49 @@ public class DistributeUtilTest {
         assertEquals(expectedOutput, actualGenderPersons);
     }
 
+    @Test
+    public void getAverageMarksTest() {
+        // check if person is null
+        Assert.assertThrows(NullPointerException.class, () -> distUtil.getAverageMarks(null));
+
+        // person without tests has no average
+        assertFalse(distUtil.getAverageMarks(ALICE).isPresent());
+
+        Person personWithTest = new PersonBuilder(ALICE).withTests(new seedu.address.model.grade.Test(
+                TestName.of("CS2113"), new Marks("67.5"), Grade.of("B"))).build();
+        assertEquals(67.5, distUtil.getAverageMarks(personWithTest).getAsDouble(), 0);
+    }
+
+    @Test
+    public void getTestMarksTest() {
+        Person personWithTest = new PersonBuilder(ALICE).withTests(new seedu.address.model.grade.Test(
+                TestName.of("CS2113"), new Marks("67.5"), Grade.of("B"))).build();
+
+        // check if test name is null
+        Assert.assertThrows(NullPointerException.class, () -> distUtil.getTestMarks(personWithTest, null));
+
+        assertEquals(67.5, distUtil.getTestMarks(personWithTest, TestName.of("CS2113")).getAsDouble(), 0);
+        assertFalse(distUtil.getTestMarks(personWithTest, TestName.of("CS2101")).isPresent());
+    }
+
+    @Test
+    public void sortByMarksTest() {
+        Map<Person, Double> marks = new HashMap<>();
+        marks.put(ALICE, 55.5);
+        marks.put(CARL, 80.0);
+        marks.put(DANIEL, 55.5);
+        Function<Person, OptionalDouble> getMarks = person -> marks.containsKey(person)
+                ? OptionalDouble.of(marks.get(person))
+                : OptionalDouble.empty();
+        LinkedList<Person> persons = new LinkedList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+
+        // highest first, ties and persons without marks keep their order
+        assertEquals(Arrays.asList(CARL, ALICE, DANIEL, BENSON, ELLE), distUtil.sortByMarks(persons, getMarks));
+
+        // check if list is null
+        Assert.assertThrows(NullPointerException.class, () -> distUtil.sortByMarks(null, distUtil::getAverageMarks));
+    }
+
     @Test
     public void existDuplicateGroupTest() throws CommandException {
         Group stubGroup = new GroupBuilder().withGroupName("TestGroup").build();
@@ -258,117 +285,4 @@ public class DistributeUtilTest {
         Group expectedGroup = new Group(new GroupName(groupName), new GroupLocation(GROUP_LOCATION), tags);
         assertEquals(expectedGroup, actualGroup);
     }
-
-    @Test
-    public void createGroupWithoutCommitTest() throws CommandException {
-        //check if Group is null
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.createGroupWithoutCommit(null, model));
-
-        //check if model is null
-        Group expectedGroup = new Group(new GroupName("TestGroup"), new GroupLocation("UNKNOWN"), new HashSet<>());
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.createGroupWithoutCommit(expectedGroup, null));
-
-        //check if VersionAddressBook updates if createGroupWithoutCommit is ran
-        //it should not update
-        VersionedAddressBook currentVersion = ((ModelManager) model).getVersionedAddressBook();
-        Group stubGroup = new GroupBuilder().build();
-        distUtil.createGroupWithoutCommit(stubGroup, model);
-        VersionedAddressBook expectedVersion = ((ModelManager) model).getVersionedAddressBook();
-        assertEquals(expectedVersion, currentVersion);
-
-        //add a new group with commit
-        //it should update and fail.
-        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-        currentVersion = ((ModelManager) model).getVersionedAddressBook();
-        VersionedAddressBook copyOfCurrentVersion = new VersionedAddressBook(currentVersion);
-        Group commitGroup = new GroupBuilder().withGroupName("CommitedGroup").build();
-        CreateGroupCommand createGroupCommand = new CreateGroupCommand(commitGroup);
-        createGroupCommand.execute(model, commandHistory);
-        expectedVersion = ((ModelManager) model).getVersionedAddressBook();
-        assertNotEquals(expectedVersion, copyOfCurrentVersion);
-
-        //if undo is ran, the version should be the same.
-        expectedVersion.undo();
-        assertEquals(expectedVersion.toString(), copyOfCurrentVersion.toString());
-    }
-
-    @Test
-    public void addPersonIntoGroupWithoutCommitTest() throws CommandException {
-        //check if addGroup is null
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.addPersonIntoGroupWithoutCommit(null, model));
-
-        //check if VersionAddressBook updates if addPersonIntoGroupWithoutCommit
-        //It should not update.
-        //Creating a Group for person to be added into.
-        Group stubGroup = new GroupBuilder().build();
-        CreateGroupCommand createGroupCommand = new CreateGroupCommand(stubGroup);
-        createGroupCommand.execute(model, commandHistory);
-        //Creating the Person Object
-        Person stubPerson = new PersonBuilder().build();
-        AddCommand addCommand = new AddCommand(stubPerson);
-        addCommand.execute(model, commandHistory);
-
-        VersionedAddressBook currentVersion = ((ModelManager) model).getVersionedAddressBook();
-        //copyOfCurrentVersion should store the pointer where only group is created.
-        VersionedAddressBook copyOfCurrentVersion = new VersionedAddressBook(currentVersion);
-        Index groupIndex = distUtil.returnGroupIndex(stubGroup, model);
-        Index personIndex = distUtil.returnPersonIndex(stubPerson, model);
-        Set<Index> personIndices = new HashSet<>();
-        personIndices.add(personIndex);
-        //Creating the AddGroup Object
-        AddGroup addGroup = new AddGroup(groupIndex, personIndices);
-        //addPersonIntoGroupWithoutCommit will add the person into the group
-        distUtil.addPersonIntoGroupWithoutCommit(addGroup, model);
-        //Pointer should not update as it does not commit.
-        VersionedAddressBook expectedVersion = ((ModelManager) model).getVersionedAddressBook();
-        //Check if pointer is still the same.
-        assertEquals(expectedVersion.toString(), copyOfCurrentVersion.toString());
-
-        // New Test Case:
-        // Test if add using the default way(commit) will result in different results.
-        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-        VersionedAddressBook version = ((ModelManager) model).getVersionedAddressBook();
-        VersionedAddressBook updatedVersion = new VersionedAddressBook(version);
-        //Create Group
-        stubGroup = new GroupBuilder().build();
-        createGroupCommand = new CreateGroupCommand(stubGroup);
-        createGroupCommand.execute(model, commandHistory);
-        groupIndex = distUtil.returnGroupIndex(stubGroup, model);
-        Person newPerson = new PersonBuilder().withName("TsuTsuWeiKuan").withNationality("CN").withGender("M")
-                .withEmail("tsuweikuan@zoho.com").build();
-        addCommand = new AddCommand(newPerson);
-        addCommand.execute(model, commandHistory);
-        personIndex = distUtil.returnPersonIndex(newPerson, model);
-        personIndices = new HashSet<>();
-        personIndices.add(personIndex);
-        //Creating the AddGroup Object
-        addGroup = new AddGroup(groupIndex, personIndices);
-        AddGroupCommand addGroupCommand = new AddGroupCommand(addGroup);
-        addGroupCommand.execute(model, commandHistory);
-        expectedVersion = ((ModelManager) model).getVersionedAddressBook();
-        assertNotEquals(expectedVersion, updatedVersion);
-    }
-
-    @Test
-    public void returnGroupIndexTest() {
-        //check if group is null
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.returnGroupIndex(null, model));
-
-        //check if model is null
-        Group testGroup = distUtil.groupBuilder("testGroup");
-        Assert.assertThrows(NullPointerException.class, () -> distUtil.returnGroupIndex(testGroup, null));
-
-        //check is Index match with stub address book
-        Index expectedIndex = Index.fromZeroBased(0);
-        Group expectedGroup = new GroupBuilder().withGroupName("TUT[1]").withGroupLocation("E1-01-01")
-                .withTags("morning").build();
-        assertEquals(distUtil.returnGroupIndex(expectedGroup, model), expectedIndex);
-
-        //check if index is 0 if no group is found.
-        expectedIndex = Index.fromZeroBased(0);
-        Group missingGroup = new GroupBuilder().withGroupName("TUT[1]").withGroupLocation("E1-01-01")
-                .withTags("morning").build();
-        assertEquals(distUtil.returnGroupIndex(missingGroup, model), expectedIndex);
-
-    }
 }
@@ -0,0 +1,140 @@
+package seedu.address.model.distribute;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.Person;
+
+public class GroupOptimizerTest {
+
+    private static final long TIME_BUDGET_MILLIS = 10_000;
+    private static final double DELTA = 1e-9;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nonPositiveParallelism_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new GroupOptimizer(0);
+    }
+
+    @Test
+    public void score_balancedGender_zero() {
+        GroupOptimizer optimizer = new GroupOptimizer(1).balanceCategory(Person::getGender, 1);
+        assertEquals(0, optimizer.score(Arrays.asList(Arrays.asList(ALICE, CARL), Arrays.asList(ELLE, DANIEL))),
+                DELTA);
+    }
+
+    @Test
+    public void score_unbalancedGender_squaredDeviationsWeighted() {
+        // each group is one person off its fair share of both genders
+        GroupOptimizer optimizer = new GroupOptimizer(1).balanceCategory(Person::getGender, 2);
+        assertEquals(8, optimizer.score(Arrays.asList(Arrays.asList(ALICE, ELLE), Arrays.asList(CARL, DANIEL))),
+                DELTA);
+    }
+
+    @Test
+    public void score_personsWithoutValue_countAsMean() {
+        Map<Person, Double> marks = new HashMap<>();
+        marks.put(ALICE, 40.0);
+        marks.put(CARL, 60.0);
+        GroupOptimizer optimizer = new GroupOptimizer(1).balanceMean(getValue(marks), 1);
+
+        // ALICE and CARL are one standard deviation below and above the mean
+        assertEquals(2, optimizer.score(Arrays.asList(Arrays.asList(ALICE, ELLE), Arrays.asList(CARL, DANIEL))),
+                DELTA);
+        assertEquals(0, optimizer.score(Arrays.asList(Arrays.asList(ALICE, CARL), Arrays.asList(ELLE, DANIEL))),
+                DELTA);
+    }
+
+    @Test
+    public void optimize_unbalancedGroups_balancedGroupsOfSameSizes() {
+        Map<Person, Double> marks = new HashMap<>();
+        marks.put(ALICE, 10.0);
+        marks.put(BENSON, 20.0);
+        marks.put(CARL, 30.0);
+        marks.put(DANIEL, 40.0);
+        marks.put(ELLE, 50.0);
+        marks.put(FIONA, 60.0);
+        GroupOptimizer optimizer = new GroupOptimizer(2).balanceCategory(Person::getGender, 1)
+                .balanceMean(getValue(marks), 1);
+        List<List<Person>> groups = Arrays.asList(Arrays.asList(ALICE, ELLE, FIONA),
+                Arrays.asList(BENSON, CARL, DANIEL));
+
+        ArrayList<ArrayList<Person>> optimized = optimizer.optimize(groups, TIME_BUDGET_MILLIS, 1);
+
+        assertEquals(getBestScore(optimizer, Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA)),
+                optimizer.score(optimized), DELTA);
+        assertEquals(3, optimized.get(0).size());
+        assertEquals(3, optimized.get(1).size());
+        List<Person> allPersons = new ArrayList<>(optimized.get(0));
+        allPersons.addAll(optimized.get(1));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA)),
+                new HashSet<>(allPersons));
+    }
+
+    @Test
+    public void optimize_sameSeed_sameGroups() {
+        GroupOptimizer optimizer = new GroupOptimizer(3).balanceCategory(Person::getGender, 1)
+                .balanceCategory(Person::getNationality, 1);
+        List<List<Person>> groups = Arrays.asList(Arrays.asList(ALICE, DANIEL, ELLE),
+                Arrays.asList(BENSON, CARL), Arrays.asList(FIONA, GEORGE));
+        assertEquals(optimizer.optimize(groups, TIME_BUDGET_MILLIS, 7),
+                optimizer.optimize(groups, TIME_BUDGET_MILLIS, 7));
+    }
+
+    @Test
+    public void optimize_singleGroup_unchanged() {
+        GroupOptimizer optimizer = new GroupOptimizer(1).balanceCategory(Person::getGender, 1);
+        List<List<Person>> groups = Arrays.asList(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(groups, optimizer.optimize(groups, TIME_BUDGET_MILLIS, 1));
+    }
+
+    /**
+     * Returns the lowest score of splitting the six {@code persons} into two groups of three, found by trying every
+     * split.
+     */
+    private static double getBestScore(GroupOptimizer optimizer, List<Person> persons) {
+        double bestScore = Double.MAX_VALUE;
+        for (int mask = 0; mask < 1 << persons.size(); mask++) {
+            if (Integer.bitCount(mask) != persons.size() / 2) {
+                continue;
+            }
+            List<Person> first = new ArrayList<>();
+            List<Person> second = new ArrayList<>();
+            for (int i = 0; i < persons.size(); i++) {
+                List<Person> group = (mask & 1 << i) != 0 ? first : second;
+                group.add(persons.get(i));
+            }
+            bestScore = Math.min(bestScore, optimizer.score(Arrays.asList(first, second)));
+        }
+        return bestScore;
+    }
+
+    /**
+     * Returns a mean objective taking the values from {@code values}, with no value for other persons.
+     */
+    private static Function<Person, OptionalDouble> getValue(Map<Person, Double> values) {
+        return person -> values.containsKey(person) ? OptionalDouble.of(values.get(person)) : OptionalDouble.empty();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.distribute;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.Person;
+
+public class StratifiedDistributionTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final StratifiedDistribution distribution =
+            new StratifiedDistribution(Arrays.asList(Person::getGender, Person::getNationality));
+
+    @Test
+    public void stratify_genderAndNationality_largerValuesFirst() {
+        // males before females, and within the males US before MY and SG, which keep the order they were seen in
+        assertEquals(Arrays.asList(
+                Arrays.asList(CARL, GEORGE),
+                Collections.singletonList(BENSON),
+                Collections.singletonList(DANIEL),
+                Arrays.asList(ALICE, ELLE, FIONA)), distribution.stratify(getTypicalPersons()));
+    }
+
+    @Test
+    public void stratify_noAttributes_singleStratum() {
+        assertEquals(Collections.singletonList(getTypicalPersons()),
+                new StratifiedDistribution(Collections.emptyList()).stratify(getTypicalPersons()));
+    }
+
+    @Test
+    public void stratify_emptyList_noStrata() {
+        assertEquals(Collections.emptyList(), distribution.stratify(Collections.emptyList()));
+    }
+
+    @Test
+    public void distribute_genderAndNationality_strataDealtInSnakeOrder() {
+        assertEquals(Arrays.asList(
+                Arrays.asList(CARL, ELLE, FIONA),
+                Arrays.asList(GEORGE, ALICE),
+                Arrays.asList(BENSON, DANIEL)), distribution.distribute(getTypicalPersons(), 3));
+    }
+
+    @Test
+    public void distribute_anyNumberOfGroups_sizesDifferByAtMostOne() {
+        List<Person> persons = getTypicalPersons();
+        for (int numOfGroups = 1; numOfGroups <= persons.size() + 1; numOfGroups++) {
+            ArrayList<ArrayList<Person>> groups = distribution.distribute(persons, numOfGroups);
+            assertEquals(numOfGroups, groups.size());
+            int minSize = groups.stream().mapToInt(List::size).min().getAsInt();
+            int maxSize = groups.stream().mapToInt(List::size).max().getAsInt();
+            assertEquals(persons.size(), groups.stream().mapToInt(List::size).sum());
+            assertEquals(persons.size() % numOfGroups == 0 ? 0 : 1, maxSize - minSize);
+        }
+    }
+
+    @Test
+    public void distribute_nonPositiveNumberOfGroups_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        distribution.distribute(getTypicalPersons(), 0);
+    }
+
+    @Test
+    public void getSnakeGroup_oneRound_thereAndBack() {
+        int[] expectedGroups = {0, 1, 2, 2, 1, 0};
+        for (int turn = 0; turn < expectedGroups.length; turn++) {
+            assertEquals(expectedGroups[turn], StratifiedDistribution.getSnakeGroup(turn, 3));
+        }
+    }
+}
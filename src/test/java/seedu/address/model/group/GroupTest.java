@@ -40,7 +40,7 @@ public class GroupTest {
         group.getTags().remove(0);
 
         thrown.expect(UnsupportedOperationException.class);
-        group.getPersons().remove(0);
+        group.getPersonIds().remove(0);
     }
 
     @Test
@@ -134,6 +134,20 @@ public class GroupTest {
 
     }
 
+    @Test
+    public void hashCode_equalGroups_sameHashCode() {
+        Group group = getTut1();
+        assertEquals(group.hashCode(), new GroupBuilder(group).build().hashCode());
+    }
+
+    @Test
+    public void hashCode_membersAdded_hashCodeUnchanged() {
+        Group group = getTut1();
+        int hashCode = group.hashCode();
+        group.addPersonIds(Arrays.asList(ALICE.getId(), AMY.getId()));
+        assertEquals(hashCode, group.hashCode());
+    }
+
     @Test
     public void toStringTest() {
 
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GROUP_TAG_TUT_1
 import static seedu.address.testutil.TypicalAddGroups.getAddGroup1;
 import static seedu.address.testutil.TypicalAddGroups.getAddGroupWithGroupAndPerson;
 import static seedu.address.testutil.TypicalGroups.CS1010;
+import static seedu.address.testutil.TypicalGroups.TUT_2;
 import static seedu.address.testutil.TypicalGroups.getTut1;
 import static seedu.address.testutil.TypicalGroups.getTypicalGroupsWithPersons;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -101,6 +102,20 @@ public class UniqueGroupListTest {
         assertEquals(expectedUniqueGroupList, uniqueGroupList.asUnmodifiableObservableList());
     }
 
+    @Test
+    public void createGroups_newGroups_addedInOrder() {
+        uniqueGroupList.createGroup(getTut1());
+        uniqueGroupList.createGroups(Arrays.asList(TUT_2, CS1010));
+        assertEquals(Arrays.asList(getTut1(), TUT_2, CS1010), uniqueGroupList.asUnmodifiableObservableList());
+        assertTrue(uniqueGroupList.contains(CS1010));
+    }
+
+    @Test
+    public void createGroups_duplicateGroups_throwsDuplicateGroupException() {
+        thrown.expect(DuplicateGroupException.class);
+        uniqueGroupList.createGroups(Arrays.asList(TUT_2, CS1010, TUT_2));
+    }
+
     @Test
     public void addGroup_nullGroup_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -161,6 +176,24 @@ public class UniqueGroupListTest {
         assertEquals(expectedUniqueGroupList, uniqueGroupList);
     }
 
+    @Test
+    public void remove_groupWithSameIdentityButDifferentPersons_throwsGroupNotFoundException() {
+        uniqueGroupList.createGroup(getTut1());
+        thrown.expect(GroupNotFoundException.class);
+        uniqueGroupList.remove(getTypicalGroupsWithPersons());
+    }
+
+    @Test
+    public void remove_firstOfSeveralGroups_laterGroupsStillReachable() {
+        uniqueGroupList.createGroup(CS1010);
+        uniqueGroupList.createGroup(getTut1());
+        uniqueGroupList.remove(CS1010);
+        uniqueGroupList.addGroup(getAddGroupWithGroupAndPerson());
+        ObservableList<Group> expectedUniqueGroupList = FXCollections.observableArrayList();
+        expectedUniqueGroupList.add(getTypicalGroupsWithPersons());
+        assertEquals(expectedUniqueGroupList, uniqueGroupList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void removeGroupPerson_nullParameters_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -189,6 +222,47 @@ public class UniqueGroupListTest {
         uniqueGroupList.removeGroupPerson(getTut1(), ALICE);
     }
 
+    @Test
+    public void removePerson_personInGroups_removesPersonFromEveryGroup() {
+        Group cs1010WithAlice = new GroupBuilder(CS1010).build();
+        cs1010WithAlice.addPersons(ALICE);
+        uniqueGroupList.createGroup(getTypicalGroupsWithPersons());
+        uniqueGroupList.createGroup(cs1010WithAlice);
+        uniqueGroupList.removePerson(ALICE);
+
+        UniqueGroupList expected = new UniqueGroupList();
+        expected.createGroup(getTut1());
+        expected.createGroup(CS1010);
+        assertEquals(expected, uniqueGroupList);
+    }
+
+    @Test
+    public void replaceRange_differentSize_laterGroupsStillReachable() {
+        uniqueGroupList.createGroup(CS1010);
+        uniqueGroupList.createGroup(TUT_2);
+        uniqueGroupList.createGroup(getTut1());
+        uniqueGroupList.replaceRange(0, 2, Collections.emptyList());
+        uniqueGroupList.addGroup(getAddGroupWithGroupAndPerson());
+        assertEquals(Collections.singletonList(getTypicalGroupsWithPersons()),
+                uniqueGroupList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceRange_groupWithMembers_indexesMembers() {
+        uniqueGroupList.createGroup(getTut1());
+        uniqueGroupList.replaceRange(0, 1, Collections.singletonList(getTypicalGroupsWithPersons()));
+        uniqueGroupList.removePerson(ALICE);
+        assertEquals(Collections.singletonList(getTut1()), uniqueGroupList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceRange_groupHeldOutsideRange_throwsDuplicateGroupException() {
+        uniqueGroupList.createGroup(CS1010);
+        uniqueGroupList.createGroup(getTut1());
+        thrown.expect(DuplicateGroupException.class);
+        uniqueGroupList.replaceRange(1, 2, Collections.singletonList(CS1010));
+    }
+
     @Test
     public void setGroups_nullList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -1,14 +1,20 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -36,6 +42,9 @@ public class NameContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same keywords as whole words -> returns false
+        assertFalse(firstPredicate.equals(NameContainsKeywordsPredicate.ofWholeWords(firstPredicateKeywordList)));
     }
 
     @Test
@@ -72,4 +81,73 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void test_prefixAndTypoKeywords_returnsTrue() {
+        // Prefix of a word
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("ALI*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alice").build()));
+
+        // Whole word as prefix
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("alice*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // One typo away, and exactly equal
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("aliec~", "Bob~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol Bob").build()));
+    }
+
+    @Test
+    public void test_prefixAndTypoKeywords_returnsFalse() {
+        // Prefix of no word
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("lice*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Two typos away
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("alxcx~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Marker without a keyword is matched literally
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Keyword without a marker must match a whole word
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Ali"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+    }
+
+    @Test
+    public void test_wholeWordsWithMarkers_returnsFalse() {
+        // Prefix marker matched literally
+        NameContainsKeywordsPredicate predicate =
+                NameContainsKeywordsPredicate.ofWholeWords(Collections.singletonList("Ali*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Typo marker matched literally
+        predicate = NameContainsKeywordsPredicate.ofWholeWords(Collections.singletonList("Aliec~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+    }
+
+    @Test
+    public void getMatchingPersons_sameResultAsTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<List<String>> keywordLists = Arrays.asList(Arrays.asList("meier", "Kurz"), Arrays.asList("me*"),
+                Arrays.asList("kunz~", "Bset~"), Arrays.asList("tan*", "wei"), Collections.emptyList());
+
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(predicate.getMatchingPersons(addressBook.getPersonIndex())));
+        }
+    }
+
+    @Test
+    public void getMatchingPersons_personList_listOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        NameContainsKeywordsPredicate predicate =
+                NameContainsKeywordsPredicate.ofWholeWords(Arrays.asList("Meier", "Kurz"));
+        List<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, predicate.getMatchingPersons(addressBook.getPersonIndex(), addressBook.getPersonList()));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -96,4 +97,15 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void hashCode_sameValues_sameHashCode() {
+        // same values, different id -> same hash code
+        Person aliceCopy = ALICE.withId(PersonId.next());
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertTrue(ALICE.equals(aliceCopy));
+
+        // same values built separately -> same hash code
+        assertEquals(ALICE.hashCode(), new PersonBuilder(ALICE).build().hashCode());
+    }
 }
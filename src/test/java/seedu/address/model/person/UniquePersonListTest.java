@@ -4,13 +4,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -51,6 +56,33 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameAndEmailOnly_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void getSamePerson_personWithSameNameAndEmailOnly_returnsPersonInList() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertEquals(Optional.of(ALICE), uniquePersonList.getSamePerson(editedAlice));
+    }
+
+    @Test
+    public void getSamePerson_personNotInList_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.getSamePerson(BOB));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -119,6 +151,53 @@ public class UniquePersonListTest {
         uniquePersonList.setPerson(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonSharesIdentityWithTargetAndAnother_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB)
+                .build();
+        uniquePersonList.add(aliceWithBobEmail);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPerson(ALICE, editedAlice);
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsIdOfTarget() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(ALICE.getId(), uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+    }
+
+    @Test
+    public void setPerson_identityOfTargetReleased_canBeReused() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_afterEarlierPersonRemoved_replacesInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPerson_equalPersonWithOtherId_replacesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE.withId(PersonId.next()), BOB);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -139,6 +218,42 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void replaceRange_samePersonAgain_keepsIdAndPosition() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.replaceRange(0, 1, Collections.singletonList(storedAlice));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(storedAlice), uniquePersonList.get(storedAlice.getId()));
+    }
+
+    @Test
+    public void replaceRange_differentSize_laterPersonsStillReachable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.replaceRange(0, 2, Collections.singletonList(BOB));
+        uniquePersonList.setPerson(CARL, ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceRange_identityHeldOutsideRange_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.replaceRange(1, 2, Collections.singletonList(aliceWithBobPhone));
+    }
+
+    @Test
+    public void replaceRange_idHeldOutsideRange_throwsDuplicatePersonException() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.replaceRange(1, 2, Collections.singletonList(BOB.withId(storedAlice.getId())));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,6 +292,26 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithSameNameAndEmail_throwsDuplicatePersonException() {
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, aliceWithBobPhone);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsOriginalList() {
+        uniquePersonList.add(BOB);
+        try {
+            uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE));
+        } catch (DuplicatePersonException e) {
+            // expected
+        }
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
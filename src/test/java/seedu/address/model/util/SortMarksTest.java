@@ -0,0 +1,60 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.model.grade.Marks;
+import seedu.address.model.grade.PersonTest;
+import seedu.address.model.grade.TestName;
+import seedu.address.model.person.Name;
+
+public class SortMarksTest {
+
+    @Test
+    public void getOrderFromLowestToHighest_unsortedMarks_sortedPositions() {
+        assertArrayEquals(new int[] {3, 1, 0, 2},
+                SortMarks.getOrderFromLowestToHighest(new double[] {50.5, 50.49, 100, 0}));
+    }
+
+    @Test
+    public void getOrderFromLowestToHighest_equalMarks_positionOrderKept() {
+        assertArrayEquals(new int[] {1, 3, 0, 2},
+                SortMarks.getOrderFromLowestToHighest(new double[] {70, 20.25, 70, 20.25}));
+    }
+
+    @Test
+    public void getOrderFromLowestToHighest_noMarks_emptyOrder() {
+        assertArrayEquals(new int[0], SortMarks.getOrderFromLowestToHighest(new double[0]));
+    }
+
+    @Test
+    public void getOrderFromHighestToLowest_unsortedMarks_sortedPositions() {
+        assertArrayEquals(new int[] {2, 0, 1, 3},
+                SortMarks.getOrderFromHighestToLowest(new double[] {50.5, 50.49, 100, 0}));
+    }
+
+    @Test
+    public void getOrderFromHighestToLowest_equalMarks_positionOrderKept() {
+        assertArrayEquals(new int[] {0, 2, 1, 3},
+                SortMarks.getOrderFromHighestToLowest(new double[] {70, 20.25, 70, 20.25}));
+    }
+
+    @Test
+    public void sortByMarks_unsortedTests_sortedFromLowestToHighest() {
+        PersonTest alice = newPersonTest("Alice", "88");
+        PersonTest bob = newPersonTest("Bob", "9.5");
+        PersonTest carl = newPersonTest("Carl", "88.00");
+        PersonTest dan = newPersonTest("Dan", "100");
+        assertEquals(new ArrayList<>(Arrays.asList(bob, alice, carl, dan)),
+                SortMarks.sortByMarks(Arrays.asList(alice, bob, carl, dan)));
+    }
+
+    private static PersonTest newPersonTest(String name, String marks) {
+        return new PersonTest(new Name(name), new TestName("Quiz"), new Marks(marks));
+    }
+}
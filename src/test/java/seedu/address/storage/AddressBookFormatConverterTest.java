@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalGroups.getTypicalAddressBookWithGroupPersons;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void storageFor_fileName_formatByExtension() {
+        assertTrue(AddressBookFormatConverter.storageFor(Paths.get("data", "addressbook.xml"))
+                instanceof XmlAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.storageFor(Paths.get("data", "addressbook.XML"))
+                instanceof XmlAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.storageFor(Paths.get("data", "addressbook.xml.gz"))
+                instanceof XmlAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.storageFor(Paths.get("data", "addressbook.bin"))
+                instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.storageFor(Paths.get("data", "addressbook.bin.gz"))
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameAddressBook() throws Exception {
+        Path xmlFile = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        Path binaryFile = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        Path convertedXmlFile = testFolder.getRoot().toPath().resolve("converted.xml");
+        AddressBook original = getTypicalAddressBookWithGroupPersons();
+        new XmlAddressBookStorage(xmlFile).saveAddressBook(original);
+
+        AddressBookFormatConverter.convert(xmlFile, binaryFile);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFile).readAddressBook().get()));
+
+        AddressBookFormatConverter.convert(binaryFile, convertedXmlFile);
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(convertedXmlFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        AddressBookFormatConverter.convert(testFolder.getRoot().toPath().resolve("missing.xml"),
+                testFolder.getRoot().toPath().resolve("addressbook.bin"));
+    }
+}
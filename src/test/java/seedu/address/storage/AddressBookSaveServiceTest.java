@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaveServiceTest {
+
+    /** Long enough that no scheduled save runs while a test is checking the pending requests. */
+    private static final long LONG_SAVE_DELAY_MILLIS = 60_000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<IOException> failures = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeSaveDelay_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new AddressBookSaveService(new XmlAddressBookStorage(getTempFilePath()), -1, failures::add);
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_savedOnceOnFlush() throws Exception {
+        XmlAddressBookStorage storage = new XmlAddressBookStorage(getTempFilePath());
+        AddressBookSaveService saveService = new AddressBookSaveService(storage, LONG_SAVE_DELAY_MILLIS,
+                failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saveService.requestSave(addressBook);
+        addressBook.removePerson(ALICE);
+        saveService.requestSave(addressBook);
+        assertEquals(2, saveService.getPendingRequestCount());
+        assertEquals(0, saveService.getSaveCount());
+
+        saveService.flush();
+        assertEquals(0, saveService.getPendingRequestCount());
+        assertEquals(1, saveService.getSaveCount());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void requestSave_changedAfterRequest_snapshotSaved() throws Exception {
+        XmlAddressBookStorage storage = new XmlAddressBookStorage(getTempFilePath());
+        AddressBookSaveService saveService = new AddressBookSaveService(storage, LONG_SAVE_DELAY_MILLIS,
+                failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saveService.requestSave(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        saveService.flush();
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_zeroSaveDelay_savedImmediately() throws Exception {
+        XmlAddressBookStorage storage = new XmlAddressBookStorage(getTempFilePath());
+        AddressBookSaveService saveService = new AddressBookSaveService(storage, 0, failures::add);
+
+        saveService.requestSave(getTypicalAddressBook());
+        assertEquals(1, saveService.getSaveCount());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertTrue(saveService.getMaxSaveLatencyNanos() >= saveService.getAverageSaveLatencyNanos());
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandled() {
+        AddressBookSaveService saveService = new AddressBookSaveService(
+                new XmlAddressBookStorageExceptionThrowingStub(getTempFilePath()), LONG_SAVE_DELAY_MILLIS,
+                failures::add);
+
+        saveService.requestSave(new AddressBook());
+        saveService.flush();
+        assertEquals(1, failures.size());
+        assertEquals(0, saveService.getSaveCount());
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("addressbook.xml");
+    }
+
+    /**
+     * A stub that throws an exception when the save method is called.
+     */
+    private static class XmlAddressBookStorageExceptionThrowingStub extends XmlAddressBookStorage {
+
+        XmlAddressBookStorageExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+}
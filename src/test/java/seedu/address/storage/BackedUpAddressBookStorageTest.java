@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class BackedUpAddressBookStorageTest {
+
+    private static final int GENERATIONS = 2;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+    }
+
+    @Test
+    public void constructor_nonPositiveGenerations_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new BackedUpAddressBookStorage(new XmlAddressBookStorage(filePath), 0);
+    }
+
+    @Test
+    public void getBackupFilePath_compressedOrNot_backupNextToFile() {
+        assertEquals(testFolder.getRoot().toPath().resolve("TempAddressBook.xml.1.gz"),
+                newStorage().getBackupFilePath(1));
+        Path gzipFilePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml.gz");
+        assertEquals(testFolder.getRoot().toPath().resolve("TempAddressBook.xml.2.gz"),
+                new BackedUpAddressBookStorage(new XmlAddressBookStorage(gzipFilePath), GENERATIONS)
+                        .getBackupFilePath(2));
+    }
+
+    @Test
+    public void saveAddressBook_missingFile_noBackup() throws Exception {
+        BackedUpAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(storage.getBackupFilePath(1)));
+    }
+
+    @Test
+    public void saveAddressBook_eachRun_oldFileBackedUpOnce() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        newStorage().saveAddressBook(addressBook);
+        AddressBook firstRun = new AddressBook(addressBook);
+
+        BackedUpAddressBookStorage storage = newStorage();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // only the file as it was before the run is backed up, compressed
+        assertTrue(FileUtil.isGzipFile(storage.getBackupFilePath(1)));
+        assertEquals(firstRun, readBackup(storage, 1));
+        assertFalse(Files.exists(storage.getBackupFilePath(2)));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_moreRunsThanGenerations_oldestBackupDropped() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        newStorage().saveAddressBook(addressBook);
+        AddressBook firstRun = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        newStorage().saveAddressBook(addressBook);
+        AddressBook secondRun = new AddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        newStorage().saveAddressBook(addressBook);
+        AddressBook thirdRun = new AddressBook(addressBook);
+        addressBook.removePerson(CARL);
+        BackedUpAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(thirdRun, readBackup(storage, 1));
+        assertEquals(secondRun, readBackup(storage, 2));
+        assertFalse(firstRun.equals(readBackup(storage, 2)));
+        assertFalse(Files.exists(storage.getBackupFilePath(GENERATIONS + 1)));
+    }
+
+    @Test
+    public void saveAddressBook_compressedFile_backedUpAsIs() throws Exception {
+        Path gzipFilePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml.gz");
+        AddressBook addressBook = getTypicalAddressBook();
+        new XmlAddressBookStorage(gzipFilePath).saveAddressBook(addressBook);
+        byte[] content = Files.readAllBytes(gzipFilePath);
+
+        BackedUpAddressBookStorage storage =
+                new BackedUpAddressBookStorage(new XmlAddressBookStorage(gzipFilePath), GENERATIONS);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertArrayEquals(content, Files.readAllBytes(storage.getBackupFilePath(1)));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_noBackup() throws Exception {
+        BackedUpAddressBookStorage storage = newStorage();
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("Other.xml");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertFalse(Files.exists(testFolder.getRoot().toPath().resolve("Other.xml.1.gz")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        newStorage().saveAddressBook(null);
+    }
+
+    private BackedUpAddressBookStorage newStorage() {
+        return new BackedUpAddressBookStorage(new XmlAddressBookStorage(filePath), GENERATIONS);
+    }
+
+    /**
+     * Returns the address book in the backup of the given generation.
+     */
+    private static AddressBook readBackup(BackedUpAddressBookStorage storage, int generation) throws Exception {
+        return new AddressBook(new XmlAddressBookStorage(storage.getBackupFilePath(generation))
+                .readAddressBook().get());
+    }
+}
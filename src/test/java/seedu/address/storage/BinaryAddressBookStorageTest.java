@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalGroups.TUT_2;
+import static seedu.address.testutil.TypicalGroups.getTypicalAddressBookWithMembers;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.grade.Grade;
+import seedu.address.model.grade.Marks;
+import seedu.address.model.grade.TestName;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readAddressBook(null);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBookWithMembers();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.createGroup(TUT_2);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        AddressBook original = getTypicalAddressBookWithMembers();
+        Path gzipFilePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin.gz");
+        new BinaryAddressBookStorage(gzipFilePath).saveAddressBook(original);
+        assertTrue(FileUtil.isGzipFile(gzipFilePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(gzipFilePath).readAddressBook().get()));
+
+        new BinaryAddressBookStorage(filePath, true).saveAddressBook(original);
+        assertTrue(FileUtil.isGzipFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_marksInEveryForm_textKept() throws Exception {
+        AddressBook original = new AddressBook();
+        String[] marks = {"0", "5", "05", "85", "85.5", "85.50", "85.05", "100", "100.0", "100.00"};
+        for (int i = 0; i < marks.length; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone("9000000" + i)
+                    .withEmail("person" + i + "@example.com")
+                    .withTests(new seedu.address.model.grade.Test(TestName.of("Quiz"), new Marks(marks[i]),
+                            Grade.of("A")))
+                    .build());
+        }
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedStrings_writtenOnce() throws Exception {
+        AddressBook original = getTypicalAddressBookWithMembers();
+        storage.saveAddressBook(original);
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        assertEquals(content.indexOf("friends"), content.lastIndexOf("friends"));
+
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(original);
+        assertTrue(Files.size(filePath) < Files.size(xmlFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_replacedWithoutLeavingTemporaryFiles() throws Exception {
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(getTypicalAddressBookWithMembers());
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            assertEquals(Collections.singletonList(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Files.write(filePath, "<addressbook/>".getBytes(StandardCharsets.UTF_8));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        byte[] data = BinaryAddressBookFormat.encode(getTypicalAddressBookWithMembers());
+        Files.write(filePath, Arrays.copyOf(data, data.length - 3));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        byte[] data = BinaryAddressBookFormat.encode(new AddressBook());
+        data[4] = BinaryAddressBookFormat.VERSION + 1;
+        Files.write(filePath, data);
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataConversionException() throws Exception {
+        String data = new String(BinaryAddressBookFormat.encode(getTypicalAddressBookWithMembers()),
+                StandardCharsets.ISO_8859_1);
+        Files.write(filePath, data.replace(ALICE.getName().fullName, "Alice Paul!ne")
+                .getBytes(StandardCharsets.ISO_8859_1));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_uncheckedVersion_success() throws Exception {
+        AddressBook original = getTypicalAddressBookWithMembers();
+        byte[] body = getBody(BinaryAddressBookFormat.encode(original));
+        Files.write(filePath, withHeader(BinaryAddressBookFormat.UNCHECKED_VERSION, null, body));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatch_throwsDataConversionException() throws Exception {
+        String data = new String(BinaryAddressBookFormat.encode(getTypicalAddressBookWithMembers()),
+                StandardCharsets.ISO_8859_1);
+        // even a valid change is taken for corruption once the checksum no longer matches
+        Files.write(filePath, data.replace(ALICE.getName().fullName, "Alice Paulina")
+                .getBytes(StandardCharsets.ISO_8859_1));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonWithMatchingChecksum_throwsDataConversionException() throws Exception {
+        byte[] body = getBody(BinaryAddressBookFormat.encode(getTypicalAddressBookWithMembers()));
+        String tampered = new String(body, StandardCharsets.ISO_8859_1)
+                .replace(ALICE.getName().fullName, "Alice Paul!ne");
+        body = tampered.getBytes(StandardCharsets.ISO_8859_1);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        Files.write(filePath, withHeader(BinaryAddressBookFormat.VERSION, crc.getValue(), body));
+
+        // a matching checksum does not spare the values from being checked
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveAddressBook(null);
+    }
+
+    /**
+     * Returns the dictionary and records of binary address book {@code data}, without its header.
+     */
+    private static byte[] getBody(byte[] data) {
+        // the magic and the version take five bytes, followed by the checksum as a varint
+        int position = 5;
+        while (data[position] < 0) {
+            position++;
+        }
+        return Arrays.copyOfRange(data, position + 1, data.length);
+    }
+
+    /**
+     * Returns binary address book data of the given {@code version} holding {@code body}, with {@code checksum} in
+     * its header unless it is null.
+     */
+    private static byte[] withHeader(int version, Long checksum, byte[] body) {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write('A');
+        data.write('B');
+        data.write('K');
+        data.write('B');
+        data.write(version);
+        if (checksum != null) {
+            long value = checksum;
+            for (; value > 0x7F; value >>>= 7) {
+                data.write((int) (value & 0x7F) | 0x80);
+            }
+            data.write((int) value);
+        }
+        data.write(body, 0, body.length);
+        return data.toByteArray();
+    }
+}
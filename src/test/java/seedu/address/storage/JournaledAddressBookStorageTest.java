@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalGroups.TUT_1;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        storage = new JournaledAddressBookStorage(filePath, 10);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournaledAddressBookStorage(filePath, 0);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveAddressBook_laterChanges_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook snapshot = new AddressBook(original);
+
+        original.addPerson(HOON);
+        original.updatePerson(ALICE, editedAlice());
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is left alone and the changes are only in the journal
+        assertEquals(snapshot, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_groupsChanged_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.createGroup(TUT_1);
+        storage.saveAddressBook(original);
+
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingAppended() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compacts() throws Exception {
+        storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_compacts() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Person> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> staleJournal = Files.readAllLines(storage.getJournalFilePath());
+
+        // a compaction interrupted after writing the snapshot leaves the old journal behind
+        original.removePerson(BENSON);
+        new XmlAddressBookStorage(filePath).saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), staleJournal);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, 10);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // the next save starts a journal for the current snapshot
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), "<record type=\"person\"><person>".getBytes(),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, 10);
+        assertEquals(expected, new AddressBook(reopened.readAddressBook().get()));
+
+        // the partial record is not built upon
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writtenWithoutJournal() throws Exception {
+        Path otherPath = testFolder.getRoot().toPath().resolve("Other.xml");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherPath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    private static Person editedAlice() {
+        return new PersonBuilder(ALICE).withPhone("99999999").build().withId(ALICE.getId());
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class RecordConverterTest {
+
+    private static final int MANY_RECORDS = 20 * RecordConverter.SEQUENTIAL_THRESHOLD;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void convertAll_nullRecords_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        RecordConverter.convertAll(null, String::valueOf);
+    }
+
+    @Test
+    public void convertAll_manyRecords_orderKept() throws Exception {
+        List<Integer> records = IntStream.range(0, MANY_RECORDS).boxed().collect(Collectors.toList());
+        List<String> expected = records.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, RecordConverter.convertAll(records, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_severalInvalidRecords_firstErrorThrown() throws Exception {
+        List<Integer> records = IntStream.range(0, MANY_RECORDS).boxed().collect(Collectors.toList());
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage("Invalid record 3000");
+        RecordConverter.convertAll(records, record -> {
+            if (record >= 3000 && record % 1000 == 0) {
+                throw new IllegalValueException("Invalid record " + record);
+            }
+            return record;
+        });
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalGroups.TUT_2;
+import static seedu.address.testutil.TypicalGroups.getTypicalAddressBookWithMembers;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_SIZE = 3;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private ShardedAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        storage = new ShardedAddressBookStorage(filePath, SHARD_SIZE);
+    }
+
+    @Test
+    public void constructor_nonPositiveShardSize_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new ShardedAddressBookStorage(filePath, 0);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBookWithMembers();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(newStorage().readAddressBook().get()));
+        // 7 persons in shards of 3, plus the groups
+        assertEquals(4, listShardFiles().size());
+
+        original.addPerson(HOON);
+        original.createGroup(TUT_2);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(newStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_shardsCompressed() throws Exception {
+        ShardedAddressBookStorage compressedStorage = new ShardedAddressBookStorage(filePath, SHARD_SIZE, true);
+        AddressBook original = getTypicalAddressBookWithMembers();
+        compressedStorage.saveAddressBook(original);
+        for (String shardName : listShardFiles()) {
+            assertTrue(FileUtil.isGzipFile(storage.getShardFolderPath().resolve(shardName)));
+        }
+        assertEquals(original, new AddressBook(newStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        AddressBook original = getTypicalAddressBookWithMembers();
+        storage.saveAddressBook(original);
+        String manifest = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Set<String> shards = listShardFiles();
+
+        storage.saveAddressBook(new AddressBook(original));
+        assertEquals(manifest, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(shards, listShardFiles());
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_onlyItsShardRewritten() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBookWithMembers());
+        Set<String> shards = listShardFiles();
+
+        // a storage that has read the shards knows them as well as the one that wrote them
+        ShardedAddressBookStorage readingStorage = newStorage();
+        AddressBook addressBook = new AddressBook(readingStorage.readAddressBook().get());
+        Person editedElle = new PersonBuilder(ELLE).withPhone("99999999").build().withId(ELLE.getId());
+        addressBook.updatePerson(ELLE, editedElle);
+        readingStorage.saveAddressBook(addressBook);
+
+        assertOneShardReplaced(shards, listShardFiles());
+        assertEquals(addressBook, new AddressBook(newStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personAdded_onlyLastShardRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithMembers();
+        storage.saveAddressBook(addressBook);
+        Set<String> shards = listShardFiles();
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertOneShardReplaced(shards, listShardFiles());
+        assertEquals(addressBook, new AddressBook(newStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_orderKept() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = getTypicalPersons();
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+
+        Collections.reverse(persons);
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(newStorage().readAddressBook().get()));
+
+        // moving one person to the front splits the shard it came from
+        persons.add(0, persons.remove(3));
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(newStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_shardsReplaced_oldShardsDeleted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithMembers();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(BENSON);
+        addressBook.removePerson(CARL);
+        storage.saveAddressBook(addressBook);
+
+        // the emptied first shard and the replaced groups shard are deleted
+        assertEquals(3, listShardFiles().size());
+        assertTrue(newStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidShardName_throwsDataConversionException() throws Exception {
+        Files.write(filePath, "<shards><personShard>../TempAddressBook.xml</personShard></shards>"
+                .getBytes(StandardCharsets.UTF_8));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBookWithMembers());
+        for (String shardName : listShardFiles()) {
+            Path shard = storage.getShardFolderPath().resolve(shardName);
+            String content = new String(Files.readAllBytes(shard), StandardCharsets.UTF_8);
+            Files.write(shard, content.replace(ELLE.getName().fullName, "Elle Meyer!")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        thrown.expect(DataConversionException.class);
+        newStorage().readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveAddressBook(null);
+    }
+
+    private ShardedAddressBookStorage newStorage() {
+        return new ShardedAddressBookStorage(filePath, SHARD_SIZE);
+    }
+
+    /**
+     * Returns the names of the files in the shard folder.
+     */
+    private Set<String> listShardFiles() throws Exception {
+        try (Stream<Path> files = Files.list(storage.getShardFolderPath())) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Asserts that {@code after} holds the same shard files as {@code before} except for one that was replaced.
+     */
+    private static void assertOneShardReplaced(Set<String> before, Set<String> after) {
+        Set<String> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        Set<String> added = new HashSet<>(after);
+        added.removeAll(before);
+        assertEquals(1, removed.size());
+        assertEquals(1, added.size());
+    }
+}
@@ -4,18 +4,25 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.storage.XmlAdaptedGroup.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.storage.XmlAdaptedGroup.UNKNOWN_MEMBER_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalGroups.TUT_1;
 import static seedu.address.testutil.TypicalGroups.getTypicalGroupsWithPersons;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupLocation;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.person.PersonId;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.Assert;
 
 /**
@@ -25,6 +32,7 @@ public class XmlAdaptedGroupTest {
     private static final String INVALID_GROUP_NAME = "M@ths";
     private static final String INVALID_GROUP_LOCATION = " ";
     private static final String INVALID_GROUP_TAG = "&";
+    private static final String INVALID_MEMBER = "-1";
 
     private static final String VALID_GROUP_NAME = TUT_1.getGroupName().toString();
     private static final String VALID_GROUP_LOCATION = TUT_1.getGroupLocation().toString();
@@ -32,45 +40,70 @@ public class XmlAdaptedGroupTest {
             .map(XmlAdaptedTag::new)
             .collect(Collectors.toList());
 
-    private static final List<XmlAdaptedPerson> VALID_GROUP_PERSONS =
-            getTypicalGroupsWithPersons().getPersons().stream()
-            .map(XmlAdaptedPerson::new)
+    private static final List<String> VALID_GROUP_MEMBERS =
+            getTypicalGroupsWithPersons().getPersonIds().stream()
+            .map(PersonId::toString)
             .collect(Collectors.toList());
 
+    private final AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+
     @Test
     public void toModelType_validGroupDetails_returnsGroup() throws Exception {
         XmlAdaptedGroup group = new XmlAdaptedGroup(TUT_1);
-        assertEquals(TUT_1, group.toModelType());
+        assertEquals(TUT_1, group.toModelType(addressBook));
+    }
+
+    @Test
+    public void toModelType_validGroupWithPersons_returnsGroup() throws Exception {
+        Group expectedGroup = getTypicalGroupsWithPersons();
+        XmlAdaptedGroup group = new XmlAdaptedGroup(expectedGroup);
+        assertEquals(expectedGroup, group.toModelType(addressBook));
+    }
+
+    @Test
+    public void toModelType_unknownMember_throwsIllegalValueException() {
+        XmlAdaptedGroup group =
+                new XmlAdaptedGroup(VALID_GROUP_NAME, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_GROUP_MEMBERS);
+        String expectedMessage = String.format(UNKNOWN_MEMBER_MESSAGE_FORMAT, VALID_GROUP_MEMBERS.get(0));
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> group.toModelType(new AddressBook()));
+    }
+
+    @Test
+    public void toModelType_invalidMember_throwsIllegalValueException() {
+        XmlAdaptedGroup group = new XmlAdaptedGroup(VALID_GROUP_NAME, VALID_GROUP_LOCATION, VALID_GROUP_TAGS,
+                Collections.singletonList(INVALID_MEMBER));
+        Assert.assertThrows(IllegalValueException.class, PersonId.MESSAGE_ID_CONSTRAINTS, () ->
+                group.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_invalidGroupName_throwsIllegalValueException() {
         XmlAdaptedGroup group =
-                new XmlAdaptedGroup(INVALID_GROUP_NAME, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_GROUP_PERSONS);
+                new XmlAdaptedGroup(INVALID_GROUP_NAME, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_GROUP_MEMBERS);
         String expectedMessage = GroupName.MESSAGE_GROUP_NAME_CONSTRAINTS;
-        Assert.assertThrows(IllegalValueException.class, expectedMessage, group::toModelType);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> group.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_nullGroupName_throwsIllegalValueException() {
-        XmlAdaptedGroup group = new XmlAdaptedGroup(null, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_GROUP_PERSONS);
+        XmlAdaptedGroup group = new XmlAdaptedGroup(null, VALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_GROUP_MEMBERS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, GroupName.class.getSimpleName());
-        Assert.assertThrows(IllegalValueException.class, expectedMessage, group::toModelType);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> group.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_invalidGroupLocation_throwsIllegalValueException() {
         XmlAdaptedGroup group =
-                new XmlAdaptedGroup(VALID_GROUP_NAME, INVALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_GROUP_PERSONS);
+                new XmlAdaptedGroup(VALID_GROUP_NAME, INVALID_GROUP_LOCATION, VALID_GROUP_TAGS, VALID_GROUP_MEMBERS);
         String expectedMessage = GroupLocation.MESSAGE_GROUP_LOCATION_CONSTRAINTS;
-        Assert.assertThrows(IllegalValueException.class, expectedMessage, group::toModelType);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> group.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_nullGroupLocation_throwsIllegalValueException() {
-        XmlAdaptedGroup group = new XmlAdaptedGroup(VALID_GROUP_NAME, null, VALID_GROUP_TAGS, VALID_GROUP_PERSONS);
+        XmlAdaptedGroup group = new XmlAdaptedGroup(VALID_GROUP_NAME, null, VALID_GROUP_TAGS, VALID_GROUP_MEMBERS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, GroupLocation.class.getSimpleName());
-        Assert.assertThrows(IllegalValueException.class, expectedMessage, group::toModelType);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> group.toModelType(addressBook));
     }
 
     @Test
@@ -78,8 +111,8 @@ public class XmlAdaptedGroupTest {
         List<XmlAdaptedTag> invalidGroupTags = new ArrayList<>(VALID_GROUP_TAGS);
         invalidGroupTags.add(new XmlAdaptedTag(INVALID_GROUP_TAG));
         XmlAdaptedGroup group =
-                new XmlAdaptedGroup(VALID_GROUP_NAME, VALID_GROUP_LOCATION, invalidGroupTags, VALID_GROUP_PERSONS);
-        Assert.assertThrows(IllegalValueException.class, group::toModelType);
+                new XmlAdaptedGroup(VALID_GROUP_NAME, VALID_GROUP_LOCATION, invalidGroupTags, VALID_GROUP_MEMBERS);
+        Assert.assertThrows(IllegalValueException.class, () -> group.toModelType(addressBook));
     }
 
     @Test public void equals() {
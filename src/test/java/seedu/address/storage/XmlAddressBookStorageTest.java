@@ -2,16 +2,23 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalGroups.CS1010;
 import static seedu.address.testutil.TypicalGroups.TUT_1;
+import static seedu.address.testutil.TypicalGroups.getTut1;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,8 +26,15 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.grade.Grade;
+import seedu.address.model.grade.Marks;
+import seedu.address.model.grade.TestName;
+import seedu.address.model.group.Group;
+import seedu.address.testutil.PersonBuilder;
 
 public class XmlAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
@@ -115,6 +129,85 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_existingFile_replacedWithoutLeavingTemporaryFiles() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        xmlAddressBookStorage.saveAddressBook(new AddressBook(), filePath);
+
+        AddressBook original = getTypicalAddressBook();
+        xmlAddressBookStorage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(xmlAddressBookStorage.readAddressBook(filePath).get()));
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            assertEquals(Collections.singletonList(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path plainFile = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        new XmlAddressBookStorage(plainFile).saveAddressBook(original);
+
+        // compressed by file name
+        Path gzipFile = testFolder.getRoot().toPath().resolve("TempAddressBook.xml.gz");
+        new XmlAddressBookStorage(gzipFile).saveAddressBook(original);
+        assertTrue(FileUtil.isGzipFile(gzipFile));
+        assertTrue(Files.size(gzipFile) < Files.size(plainFile));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(gzipFile).readAddressBook().get()));
+
+        // compressed by request, and read back whatever the name
+        Path compressedFile = testFolder.getRoot().toPath().resolve("Compressed.xml");
+        new XmlAddressBookStorage(compressedFile, true).saveAddressBook(original);
+        assertTrue(FileUtil.isGzipFile(compressedFile));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(compressedFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_streamed_sameAsJaxbOutput() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withTests(new seedu.address.model.grade.Test(
+                TestName.of("Quiz"), new Marks("85.5"), Grade.of("A"))).build());
+        Group group = getTut1();
+        group.addPersons(ALICE);
+        original.createGroup(group);
+        original.createGroup(CS1010);
+        assertSameAsJaxbOutput(original);
+        assertSameAsJaxbOutput(new AddressBook());
+    }
+
+    /**
+     * Asserts that saving {@code addressBook} writes exactly the file JAXB writes for it.
+     */
+    private void assertSameAsJaxbOutput(AddressBook addressBook) throws Exception {
+        Path streamedFile = testFolder.getRoot().toPath().resolve("Streamed.xml");
+        Path jaxbFile = testFolder.newFile().toPath();
+        new XmlAddressBookStorage(streamedFile).saveAddressBook(addressBook);
+        XmlUtil.saveDataToFile(jaxbFile, new XmlSerializableAddressBook(addressBook));
+        assertEquals(new String(Files.readAllBytes(jaxbFile), StandardCharsets.UTF_8),
+                new String(Files.readAllBytes(streamedFile), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readAddressBook_groupsBeforePersonsAndUnknownElements_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        Group group = getTut1();
+        group.addPersons(ALICE);
+        original.createGroup(group);
+        xmlAddressBookStorage.saveAddressBook(original);
+
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        String persons = content.substring(content.indexOf("<persons>"), content.indexOf("<groups>"));
+        String groups = content.substring(content.indexOf("<groups>"), content.indexOf("</addressbook>"));
+        Files.write(filePath, content.replace(persons + groups, groups + "<unknown><persons/></unknown>" + persons)
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(original, new AddressBook(xmlAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,6 +14,7 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
 import seedu.address.testutil.TypicalGroups;
 import seedu.address.testutil.TypicalPersons;
 
@@ -24,6 +27,9 @@ public class XmlSerializableAddressBookTest {
     private static final Path INVALID_GROUP_FILE = TEST_DATA_FOLDER.resolve("invalidGroupAddressBook.xml");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml");
     private static final Path DUPLICATE_GROUP_FILE = TEST_DATA_FOLDER.resolve("duplicateGroupAddressBook.xml");
+    private static final Path DUPLICATE_PERSON_ID_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonIdAddressBook.xml");
+    private static final Path LEGACY_GROUP_MEMBERS_FILE =
+            TEST_DATA_FOLDER.resolve("legacyGroupMembersAddressBook.xml");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -46,6 +52,15 @@ public class XmlSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_legacyGroupMembers_resolvedToPersons() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(LEGACY_GROUP_MEMBERS_FILE,
+                XmlSerializableAddressBook.class);
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        Group group = addressBookFromFile.getGroupList().get(0);
+        assertEquals(Collections.singletonList(BENSON), addressBookFromFile.getGroupPersons(group));
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(INVALID_PERSON_FILE,
@@ -71,6 +86,15 @@ public class XmlSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_duplicatePersonIds_throwsIllegalValueException() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(DUPLICATE_PERSON_ID_FILE,
+                XmlSerializableAddressBook.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        dataFromFile.toModelType();
+    }
+
     @Test
     public void toModelType_duplicateGroups_throwsIllegalValueException() throws Exception {
         XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(DUPLICATE_GROUP_FILE,
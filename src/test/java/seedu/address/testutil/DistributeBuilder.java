@@ -2,8 +2,11 @@ package seedu.address.testutil;
 
 import static seedu.address.logic.parser.ParserUtil.parseIsFlagged;
 
+import java.util.Optional;
+
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.distribute.Distribute;
+import seedu.address.model.grade.TestName;
 import seedu.address.model.group.GroupName;
 
 /**
@@ -15,17 +18,25 @@ public class DistributeBuilder {
     public static final String DEFAULT_GROUP_NAME = "CS2113-T13-";
     public static final String DEFAULT_GENDER_FLAG = "false";
     public static final String DEFAULT_NATIONALITY_FLAG = "false";
+    public static final String DEFAULT_OPTIMIZE_FLAG = "false";
+    public static final String DEFAULT_PERFORMANCE_FLAG = "false";
 
     private int index;
     private GroupName groupName;
     private boolean genderFlag;
     private boolean nationalityFlag;
+    private boolean optimizeFlag;
+    private boolean performanceFlag;
+    private Optional<TestName> performanceTestName;
 
     public DistributeBuilder() throws ParseException {
         this.index = Integer.parseInt(DEFAULT_INDEX);
         this.groupName = new GroupName(DEFAULT_GROUP_NAME);
         this.genderFlag = parseIsFlagged(DEFAULT_GENDER_FLAG);
         this.nationalityFlag = parseIsFlagged(DEFAULT_NATIONALITY_FLAG);
+        this.optimizeFlag = parseIsFlagged(DEFAULT_OPTIMIZE_FLAG);
+        this.performanceFlag = parseIsFlagged(DEFAULT_PERFORMANCE_FLAG);
+        this.performanceTestName = Optional.empty();
     }
 
     public DistributeBuilder(Distribute distribute) {
@@ -33,6 +44,9 @@ public class DistributeBuilder {
         groupName = distribute.getGroupName();
         genderFlag = distribute.getGender();
         nationalityFlag = distribute.getNationality();
+        optimizeFlag = distribute.getOptimize();
+        performanceFlag = distribute.getPerformance();
+        performanceTestName = distribute.getPerformanceTestName();
     }
 
     public DistributeBuilder setIndex (String indexValue) {
@@ -55,8 +69,27 @@ public class DistributeBuilder {
         return this;
     }
 
+    public DistributeBuilder setOptimizeFlag (String optimizeFlag) throws ParseException {
+        this.optimizeFlag = parseIsFlagged(optimizeFlag);
+        return this;
+    }
+
+    public DistributeBuilder setPerformanceFlag (String performanceFlag) throws ParseException {
+        this.performanceFlag = parseIsFlagged(performanceFlag);
+        return this;
+    }
+
+    public DistributeBuilder setPerformanceTestName (String testName) {
+        this.performanceTestName = Optional.of(new TestName(testName));
+        return this;
+    }
+
+    /**
+     * Builds the {@code Distribute} with the values set so far.
+     */
     public Distribute build() {
-        return new Distribute(index, groupName, genderFlag, nationalityFlag);
+        return new Distribute(index, groupName, genderFlag, nationalityFlag, optimizeFlag, performanceFlag,
+                performanceTestName);
     }
 
 
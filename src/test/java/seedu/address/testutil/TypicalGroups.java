@@ -9,6 +9,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GROUP_NAME_TUT_
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GROUP_TAG_CS1010;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GROUP_TAG_TUT_1;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.JOEL;
 import static seedu.address.testutil.TypicalPersons.JOELTAN;
 import static seedu.address.testutil.TypicalPersons.NOVIN;
@@ -70,6 +71,7 @@ public class TypicalGroups {
      */
     public static AddressBook getTypicalAddressBookWithGroupPersons() {
         AddressBook ab = new AddressBook();
+        ab.addPerson(ALICE);
         for (Group group : getTypicalGroupsCopy()) {
             group.addPersons(ALICE);
             ab.createGroup(group);
@@ -77,6 +79,20 @@ public class TypicalGroups {
         return ab;
     }
 
+    /**
+     * Returns the typical address book of {@code TypicalPersons} with a group of two of its persons.
+     *
+     * @return AddressBook with all typical persons and a group with members.
+     */
+    public static AddressBook getTypicalAddressBookWithMembers() {
+        AddressBook ab = TypicalPersons.getTypicalAddressBook();
+        Group group = getTut1();
+        group.addPersons(ALICE);
+        group.addPersons(CARL);
+        ab.createGroup(group);
+        return ab;
+    }
+
     /**
      * Returns a new group object with {@code TUT_1} details.
      *